@@ -8,6 +8,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Map;
 
@@ -29,6 +30,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(405).body("Method not allowed. Allowed: " + String.join(", ", ex.getSupportedMethods()));
     }
 
+    /** Aksi halde generic handler 401/404/409 gibi bilinçli status'ları 500'e çeviriyor */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<?> handleStatus(ResponseStatusException ex) {
+        return ResponseEntity.status(ex.getStatusCode())
+                .headers(ex.getHeaders())
+                .body(Map.of("message", ex.getReason() == null ? ex.getStatusCode().toString() : ex.getReason()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleGeneric(Exception ex) {
         return ResponseEntity.status(500).body("Internal server error: " + ex.getMessage());
@@ -0,0 +1,17 @@
+package com.taskfoo.taskfoo_backend.config;
+
+import com.taskfoo.taskfoo_backend.support.ChangeCounters;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    /** Yazılan tablolar -> conditional GET sayaçları */
+    @Bean
+    public HibernatePropertiesCustomizer changeCountersInspector(ChangeCounters counters) {
+        return props -> props.put(AvailableSettings.STATEMENT_INSPECTOR, counters);
+    }
+}
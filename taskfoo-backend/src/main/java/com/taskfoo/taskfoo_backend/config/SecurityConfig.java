@@ -1,7 +1,10 @@
 package com.taskfoo.taskfoo_backend.config;
 
+import com.taskfoo.taskfoo_backend.security.BoundedPasswordEncoder;
 import com.taskfoo.taskfoo_backend.security.JwtAuthFilter;
 import com.taskfoo.taskfoo_backend.security.AuditLogoutSuccessHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.Nullable;
@@ -62,9 +65,16 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /** BCrypt request thread'inde değil, sınırlı bir havuzda çalışır (threads=0 -> CPU sayısı) */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meters,
+            @Value("${app.auth.hash.threads:0}") int threads,
+            @Value("${app.auth.hash.queue-capacity:32}") int queueCapacity,
+            @Value("${app.auth.hash.timeout-ms:3000}") long timeoutMillis
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity, timeoutMillis, meters);
     }
 
     /** CORS: custom header'ları da allow + expose */
@@ -86,11 +96,12 @@ public class SecurityConfig {
                 "X-Page-Context",
                 "X-Request-Id",
                 "X-Forwarded-For",
-                "User-Agent"
+                "User-Agent",
+                "If-None-Match"
         ));
 
-        // Expose (server → client) — RequestContextFilter X-Request-Id'ı response'a koyuyor
-        c.setExposedHeaders(List.of("X-Request-Id"));
+        // Expose (server → client) — RequestContextFilter X-Request-Id'ı response'a koyuyor; ETag conditional GET için
+        c.setExposedHeaders(List.of("X-Request-Id", "ETag"));
 
         c.setAllowCredentials(true);
         c.setMaxAge(3600L);
@@ -0,0 +1,59 @@
+// src/main/java/com/taskfoo/taskfoo_backend/controller/AnalyticsController.java
+package com.taskfoo.taskfoo_backend.controller;
+
+import com.taskfoo.taskfoo_backend.dto.response.analytics.BurndownPointDto;
+import com.taskfoo.taskfoo_backend.dto.response.analytics.CycleTimeDto;
+import com.taskfoo.taskfoo_backend.dto.response.analytics.FlowDayDto;
+import com.taskfoo.taskfoo_backend.service.CycleTimeService;
+import com.taskfoo.taskfoo_backend.service.FlowMetricsService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final FlowMetricsService flowMetricsService;
+    private final CycleTimeService cycleTimeService;
+
+    public AnalyticsController(FlowMetricsService flowMetricsService, CycleTimeService cycleTimeService) {
+        this.flowMetricsService = flowMetricsService;
+        this.cycleTimeService = cycleTimeService;
+    }
+
+    /** Cumulative flow (varsayılan: son 30 gün) */
+    @GetMapping("/cfd")
+    public List<FlowDayDto> cumulativeFlow(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long epicId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return flowMetricsService.cumulativeFlow(projectId, epicId, from, to);
+    }
+
+    @GetMapping("/burndown")
+    public List<BurndownPointDto> burndown(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long epicId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return flowMetricsService.burndown(projectId, epicId, from, to);
+    }
+
+    /** p50/p85/p95 cycle & lead time; tek slice filtresi veya groupBy=project|epic|priority|assignee */
+    @GetMapping("/cycle-time")
+    public List<CycleTimeDto> cycleTime(
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long epicId,
+            @RequestParam(required = false) Long priorityId,
+            @RequestParam(required = false) Long assigneeId
+    ) {
+        return cycleTimeService.cycleTime(groupBy, projectId, epicId, priorityId, assigneeId);
+    }
+}
@@ -2,12 +2,15 @@
 package com.taskfoo.taskfoo_backend.controller;
 
 import com.taskfoo.taskfoo_backend.dto.request.auth.LoginRequest;
+import com.taskfoo.taskfoo_backend.dto.request.auth.RefreshRequest;
 import com.taskfoo.taskfoo_backend.dto.request.auth.RegisterRequest;
 import com.taskfoo.taskfoo_backend.dto.response.auth.AuthResponse;
 import com.taskfoo.taskfoo_backend.dto.response.auth.MeResponse;
 import com.taskfoo.taskfoo_backend.security.AuthAudit;
+import com.taskfoo.taskfoo_backend.security.LoginRateLimiter;
 import com.taskfoo.taskfoo_backend.security.UserPrincipal;
 import com.taskfoo.taskfoo_backend.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -24,22 +27,33 @@ public class AuthController {
     private final AuthService service;
     private final AuthenticationManager authenticationManager;
     private final AuthAudit authAudit;
+    private final LoginRateLimiter rateLimiter;
 
     public AuthController(AuthService service,
                           AuthenticationManager authenticationManager,
-                          AuthAudit authAudit) {
+                          AuthAudit authAudit,
+                          LoginRateLimiter rateLimiter) {
         this.service = service;
         this.authenticationManager = authenticationManager;
         this.authAudit = authAudit;
+        this.rateLimiter = rateLimiter;
     }
 
+    /*
+     * Rate limit anahtarı soket adresi: X-Forwarded-For istemcinin elinde, her istekte değiştirilerek
+     * limit aşılabilir. Proxy arkasında server.forward-headers-strategy ayarlanırsa getRemoteAddr()
+     * güvenilen proxy'nin bildirdiği istemci adresini döner.
+     */
+
     @PostMapping("/register")
-    public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest req) {
+    public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest req, HttpServletRequest http) {
+        rateLimiter.checkIp(http.getRemoteAddr()); // BCrypt havuzuna girmeden önce
         return ResponseEntity.ok(service.register(req));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest req) {
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest req, HttpServletRequest http) {
+        rateLimiter.checkLogin(http.getRemoteAddr(), req.email()); // 429: hash havuzuna hiç girmez
         try {
             Authentication auth = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(req.email(), req.password())
@@ -59,6 +73,12 @@ public class AuthController {
         }
     }
 
+    /** Access token süresi dolunca: BCrypt'siz yeni access + rotate edilmiş refresh token */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshRequest req) {
+        return ResponseEntity.ok(service.refresh(req.refreshToken()));
+    }
+
     @GetMapping("/me")
     public ResponseEntity<MeResponse> me(Authentication auth) {
         return ResponseEntity.ok(service.me(auth));
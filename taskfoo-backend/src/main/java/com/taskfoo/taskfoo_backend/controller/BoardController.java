@@ -0,0 +1,58 @@
+// src/main/java/com/taskfoo/taskfoo_backend/controller/BoardController.java
+package com.taskfoo.taskfoo_backend.controller;
+
+import com.taskfoo.taskfoo_backend.dto.response.board.BoardAsOfResponse;
+import com.taskfoo.taskfoo_backend.dto.response.board.BoardBootstrapResponse;
+import com.taskfoo.taskfoo_backend.service.BoardHistoryService;
+import com.taskfoo.taskfoo_backend.service.BoardService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.OffsetDateTime;
+
+@RestController
+@RequestMapping("/api/boards")
+public class BoardController {
+
+    private final BoardService boardService;
+    private final BoardHistoryService historyService;
+
+    public BoardController(BoardService boardService, BoardHistoryService historyService) {
+        this.boardService = boardService;
+        this.historyService = historyService;
+    }
+
+    /**
+     * Board'un ihtiyacı olan her şey tek istekte. ETag önce hesaplanır (veri ondan sonra okunur;
+     * arada değişiklik olursa sonraki istek 200 alır), eşleşirse 304 ve gövde serialize edilmez.
+     */
+    @GetMapping("/{projectId}/bootstrap")
+    public ResponseEntity<BoardBootstrapResponse> bootstrap(
+            @PathVariable Long projectId,
+            WebRequest request
+    ) {
+        String etag = boardService.etag(projectId);
+        if (request.checkNotModified(etag)) {
+            return null; // 304 + ETag (If-None-Match listesi / W/ önekleri Spring'de)
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(boardService.bootstrap(projectId));
+    }
+
+    /**
+     * Board'un asOf anındaki hali (ör. ?asOf=2025-01-31T18:00:00Z): en yakın snapshot + sonrasındaki
+     * olayların replay'i. İlk snapshot'tan önceki anlar için 404.
+     */
+    @GetMapping("/{projectId}")
+    public BoardAsOfResponse asOf(
+            @PathVariable Long projectId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf
+    ) {
+        return historyService.boardAsOf(projectId, asOf);
+    }
+}
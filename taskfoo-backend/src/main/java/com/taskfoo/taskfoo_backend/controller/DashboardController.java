@@ -0,0 +1,23 @@
+// src/main/java/com/taskfoo/taskfoo_backend/controller/DashboardController.java
+package com.taskfoo.taskfoo_backend.controller;
+
+import com.taskfoo.taskfoo_backend.dto.response.dashboard.DashboardSummaryDto;
+import com.taskfoo.taskfoo_backend.service.DashboardService;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    /** Dashboard özet sayaçları (projectId yoksa tüm projeler) */
+    @GetMapping("/summary")
+    public DashboardSummaryDto summary(@RequestParam(required = false) Long projectId) {
+        return dashboardService.summary(projectId);
+    }
+}
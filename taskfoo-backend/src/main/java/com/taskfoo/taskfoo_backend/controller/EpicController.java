@@ -1,13 +1,19 @@
 // src/main/java/com/taskfoo/taskfoo_backend/controller/EpicController.java
 package com.taskfoo.taskfoo_backend.controller;
 
+import com.taskfoo.taskfoo_backend.dto.request.ShiftDatesRequest;
 import com.taskfoo.taskfoo_backend.dto.request.epic.CreateEpicRequest;
 import com.taskfoo.taskfoo_backend.dto.request.epic.UpdateEpicRequest;
 import com.taskfoo.taskfoo_backend.dto.response.epic.EpicDto;
+import com.taskfoo.taskfoo_backend.dto.response.gantt.ShiftResult;
+import com.taskfoo.taskfoo_backend.service.DateShiftService;
 import com.taskfoo.taskfoo_backend.service.EpicService;
+import com.taskfoo.taskfoo_backend.support.ChangeCounters;
+import com.taskfoo.taskfoo_backend.support.JobRegistry;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,18 +22,24 @@ import java.util.List;
 public class EpicController {
 
     private final EpicService epicService;
+    private final DateShiftService dateShiftService;
+    private final ChangeCounters counters;
 
-    public EpicController(EpicService epicService) {
+    public EpicController(EpicService epicService, DateShiftService dateShiftService, ChangeCounters counters) {
         this.epicService = epicService;
+        this.dateShiftService = dateShiftService;
+        this.counters = counters;
     }
 
     @GetMapping
-    public List<EpicDto> list() {
+    public List<EpicDto> list(WebRequest request) {
+        if (request.checkNotModified(counters.etag(ChangeCounters.EPICS))) return null; // 304
         return epicService.list();
     }
 
     @GetMapping("/{id}")
-    public EpicDto get(@PathVariable Long id) {
+    public EpicDto get(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(counters.etag(ChangeCounters.EPICS))) return null; // 304
         return epicService.get(id);
     }
 
@@ -42,9 +54,16 @@ public class EpicController {
         return epicService.update(id, req);
     }
 
+    /** 202: silme job'u başladı, ilerleme /api/jobs/{jobId} */
     @DeleteMapping("/{id}")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable Long id) {
-        epicService.delete(id);
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public JobRegistry.JobStatus delete(@PathVariable Long id) {
+        return epicService.delete(id);
     }
-}
\ No newline at end of file
+
+    /** Epic ve altındaki task'ların tarihlerini N gün kaydırır (tek UPDATE) */
+    @PostMapping("/{id}/shift")
+    public ShiftResult shift(@PathVariable Long id, @Valid @RequestBody ShiftDatesRequest req) {
+        return dateShiftService.shiftEpic(id, req.days());
+    }
+}
@@ -0,0 +1,48 @@
+// src/main/java/com/taskfoo/taskfoo_backend/controller/GanttController.java
+package com.taskfoo.taskfoo_backend.controller;
+
+import com.taskfoo.taskfoo_backend.dto.response.gantt.DependencyDto;
+import com.taskfoo.taskfoo_backend.dto.response.gantt.GanttResponse;
+import com.taskfoo.taskfoo_backend.dto.response.gantt.ScheduleResponse;
+import com.taskfoo.taskfoo_backend.service.GanttService;
+import com.taskfoo.taskfoo_backend.service.TaskDependencyService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/gantt")
+public class GanttController {
+
+    private final GanttService ganttService;
+    private final TaskDependencyService dependencyService;
+
+    public GanttController(GanttService ganttService, TaskDependencyService dependencyService) {
+        this.ganttService = ganttService;
+        this.dependencyService = dependencyService;
+    }
+
+    /** Görünen pencereyle kesişen task'lar, epic bazında */
+    @GetMapping
+    public GanttResponse window(
+            @RequestParam(required = false) Long projectId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ganttService.window(projectId, from, to);
+    }
+
+    /** Projedeki bağımlılık okları (projectId yok -> projesiz task'lar) */
+    @GetMapping("/dependencies")
+    public List<DependencyDto> dependencies(@RequestParam(required = false) Long projectId) {
+        return dependencyService.dependencies(projectId);
+    }
+
+    /** ES/LS/slack ve kritik yol */
+    @GetMapping("/schedule")
+    public ScheduleResponse schedule(@RequestParam(required = false) Long projectId) {
+        return dependencyService.schedule(projectId);
+    }
+}
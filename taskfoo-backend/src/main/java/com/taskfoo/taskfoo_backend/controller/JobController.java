@@ -0,0 +1,24 @@
+// src/main/java/com/taskfoo/taskfoo_backend/controller/JobController.java
+package com.taskfoo.taskfoo_backend.controller;
+
+import com.taskfoo.taskfoo_backend.support.JobRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/jobs")
+public class JobController {
+
+    private final JobRegistry jobs;
+
+    public JobController(JobRegistry jobs) {
+        this.jobs = jobs;
+    }
+
+    @GetMapping("/{id}")
+    public JobRegistry.JobStatus get(@PathVariable String id) {
+        JobRegistry.Job job = jobs.get(id);
+        if (job == null) throw new EntityNotFoundException("Job not found: " + id);
+        return job.status();
+    }
+}
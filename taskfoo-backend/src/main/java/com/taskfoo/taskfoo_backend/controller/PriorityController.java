@@ -3,7 +3,9 @@ package com.taskfoo.taskfoo_backend.controller;
 import com.taskfoo.taskfoo_backend.dto.response.common.PriorityBriefDto;
 import com.taskfoo.taskfoo_backend.model.Priority;
 import com.taskfoo.taskfoo_backend.service.PriorityService;
+import com.taskfoo.taskfoo_backend.support.ChangeCounters;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -12,13 +14,16 @@ import java.util.List;
 public class PriorityController {
 
     private final PriorityService priorityService;
+    private final ChangeCounters counters;
 
-    public PriorityController(PriorityService priorityService) {
+    public PriorityController(PriorityService priorityService, ChangeCounters counters) {
         this.priorityService = priorityService;
+        this.counters = counters;
     }
 
     @GetMapping
-    public List<PriorityBriefDto> getAll() {
+    public List<PriorityBriefDto> getAll(WebRequest request) {
+        if (request.checkNotModified(counters.etag(ChangeCounters.PRIORITIES))) return null; // 304
         return priorityService.getAll();
     }
 
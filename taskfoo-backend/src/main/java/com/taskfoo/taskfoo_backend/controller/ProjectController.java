@@ -1,13 +1,19 @@
 // src/main/java/com/taskfoo/taskfoo_backend/controller/ProjectController.java
 package com.taskfoo.taskfoo_backend.controller;
 
+import com.taskfoo.taskfoo_backend.dto.request.ShiftDatesRequest;
 import com.taskfoo.taskfoo_backend.dto.request.project.CreateProjectRequest;
 import com.taskfoo.taskfoo_backend.dto.request.project.UpdateProjectRequest;
 import com.taskfoo.taskfoo_backend.dto.response.Project.ProjectDto;
+import com.taskfoo.taskfoo_backend.dto.response.gantt.ShiftResult;
+import com.taskfoo.taskfoo_backend.service.DateShiftService;
 import com.taskfoo.taskfoo_backend.service.ProjectService;
+import com.taskfoo.taskfoo_backend.support.ChangeCounters;
+import com.taskfoo.taskfoo_backend.support.JobRegistry;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,18 +22,24 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final DateShiftService dateShiftService;
+    private final ChangeCounters counters;
 
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService, DateShiftService dateShiftService, ChangeCounters counters) {
         this.projectService = projectService;
+        this.dateShiftService = dateShiftService;
+        this.counters = counters;
     }
 
     @GetMapping
-    public List<ProjectDto> list() {
+    public List<ProjectDto> list(WebRequest request) {
+        if (request.checkNotModified(counters.etag(ChangeCounters.PROJECTS))) return null; // 304
         return projectService.list();
     }
 
     @GetMapping("/{id}")
-    public ProjectDto get(@PathVariable Long id) {
+    public ProjectDto get(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(counters.etag(ChangeCounters.PROJECTS))) return null; // 304
         return projectService.get(id);
     }
 
@@ -42,9 +54,16 @@ public class ProjectController {
         return projectService.update(id, req);
     }
 
+    /** 202: silme job'u başladı, ilerleme /api/jobs/{jobId} */
     @DeleteMapping("/{id}")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void delete(@PathVariable Long id) {
-        projectService.delete(id);
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public JobRegistry.JobStatus delete(@PathVariable Long id) {
+        return projectService.delete(id);
     }
-}
\ No newline at end of file
+
+    /** Proje, epic ve task tarihlerini N gün kaydırır (tek UPDATE) */
+    @PostMapping("/{id}/shift")
+    public ShiftResult shift(@PathVariable Long id, @Valid @RequestBody ShiftDatesRequest req) {
+        return dateShiftService.shiftProject(id, req.days());
+    }
+}
@@ -3,7 +3,9 @@ package com.taskfoo.taskfoo_backend.controller;
 import com.taskfoo.taskfoo_backend.dto.response.common.IdNameDto;
 import com.taskfoo.taskfoo_backend.model.Status;
 import com.taskfoo.taskfoo_backend.service.StatusService;
+import com.taskfoo.taskfoo_backend.support.ChangeCounters;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -12,13 +14,16 @@ import java.util.List;
 public class StatusController {
 
     private final StatusService statusService;
+    private final ChangeCounters counters;
 
-    public StatusController(StatusService statusService) {
+    public StatusController(StatusService statusService, ChangeCounters counters) {
         this.statusService = statusService;
+        this.counters = counters;
     }
 
     @GetMapping
-    public List<IdNameDto> getAll() {
+    public List<IdNameDto> getAll(WebRequest request) {
+        if (request.checkNotModified(counters.etag(ChangeCounters.STATUSES))) return null; // 304
         return statusService.getAll();
     }
 
@@ -6,51 +6,96 @@ import com.taskfoo.taskfoo_backend.dto.response.task.TaskListItemResponse;
 import com.taskfoo.taskfoo_backend.mapper.TaskMapper;
 import com.taskfoo.taskfoo_backend.model.*;
 import com.taskfoo.taskfoo_backend.repository.*;
+import com.taskfoo.taskfoo_backend.service.TaskArchiveService;
+import com.taskfoo.taskfoo_backend.service.TaskFieldsService;
 import com.taskfoo.taskfoo_backend.service.TaskService;
+import com.taskfoo.taskfoo_backend.support.ChangeCounters;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("api/tasks")
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskArchiveService archiveService;
     private final StatusRepository statusRepository;
     private final PriorityRepository priorityRepository;
     private final EpicRepository epicRepository;
     private final UserRepository userRepository;
     private final TaskMapper mapper;
+    private final TaskFieldsService fieldsService;
+    private final ChangeCounters counters;
 
     public TaskController(TaskService taskService,
+                          TaskArchiveService archiveService,
                           StatusRepository statusRepository,
                           PriorityRepository priorityRepository,
                           EpicRepository epicRepository,
                           UserRepository userRepository,
-                          TaskMapper mapper) {
+                          TaskMapper mapper,
+                          TaskFieldsService fieldsService,
+                          ChangeCounters counters) {
         this.taskService = taskService;
+        this.archiveService = archiveService;
         this.statusRepository = statusRepository;
         this.priorityRepository = priorityRepository;
         this.epicRepository = epicRepository;
         this.userRepository = userRepository;
         this.mapper = mapper;
+        this.fieldsService = fieldsService;
+        this.counters = counters;
     }
 
-    // LIST
+    // LIST (includeArchived=true -> hot + arşiv)
+    // ids=1,2,3 -> multi-get (tek sorgu); fields=id,title,... -> sadece o kolonlar okunur
     @GetMapping
-    public List<TaskListItemResponse> getAll() {
-        return taskService.getAllTasks().stream()
-                .map(mapper::toListItem)
-                .toList();
+    public List<?> getAll(@RequestParam(defaultValue = "false") boolean includeArchived,
+                          @RequestParam(required = false) List<Long> ids,
+                          @RequestParam(required = false) Set<String> fields,
+                          WebRequest request) {
+        if (request.checkNotModified(counters.etag(ChangeCounters.TASKS))) return null; // 304
+        if (fields != null && !fields.isEmpty()) {
+            return fieldsService.find(fields, ids, includeArchived);
+        }
+        if (ids != null) {
+            TaskFieldsService.requireIdLimit(ids);
+            if (ids.isEmpty()) return List.of();
+            Stream<Task> tasks = taskService.getTasksByIds(ids).stream();
+            if (includeArchived) {
+                tasks = Stream.concat(tasks, archiveService.findArchivedTasks(ids).stream());
+            }
+            return tasks.map(mapper::toListItem).toList();
+        }
+        Stream<Task> tasks = taskService.getAllTasks().stream();
+        if (includeArchived) {
+            tasks = Stream.concat(tasks, archiveService.getArchivedTasks().stream());
+        }
+        return tasks.map(mapper::toListItem).toList();
     }
 
     // GET by id (liste item dto dönüyoruz — şimdilik tek dto)
     @GetMapping("/{id}")
-    public TaskListItemResponse getById(@PathVariable Long id) {
-        Task t = taskService.getTaskById(id);
-        return mapper.toListItem(t);
+    public TaskListItemResponse getById(@PathVariable Long id,
+                                        @RequestParam(defaultValue = "false") boolean includeArchived,
+                                        WebRequest request) {
+        if (request.checkNotModified(counters.etag(ChangeCounters.TASKS))) return null; // 304
+        try {
+            return mapper.toListItem(taskService.getTaskById(id));
+        } catch (EntityNotFoundException e) {
+            if (!includeArchived) throw e;
+            return archiveService.findArchivedTask(id)
+                    .map(mapper::toListItem)
+                    .orElseThrow(() -> e);
+        }
     }
 
     // CREATE (DTO in, DTO out)
@@ -87,7 +132,7 @@ public class TaskController {
 
         Task existing = taskService.getTaskById(id);
         mapper.applyUpdate(existing, req, status, priority, epic, assignees);
-        Task saved = taskService.save(existing);
+        Task saved = taskService.save(existing, req.version(), req.changedFieldNames());
         return mapper.toListItem(saved);
     }
 
@@ -98,6 +143,27 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
+    // ARCHIVE (tek task, hot -> cold)
+    @PostMapping("/{id}/archive")
+    public ResponseEntity<Void> archive(@PathVariable Long id) {
+        archiveService.archive(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    // ARCHIVE (bulk: status + yaş)
+    @PostMapping("/archive")
+    public Map<String, Integer> archiveBulk(@Valid @RequestBody ArchiveTasksRequest req) {
+        int archived = archiveService.archiveOlderThan(req.statusIds(), req.olderThanDays());
+        return Map.of("archived", archived);
+    }
+
+    // RESTORE (cold -> hot)
+    @PostMapping("/{id}/restore")
+    public TaskListItemResponse restore(@PathVariable Long id) {
+        archiveService.restore(id);
+        return mapper.toListItem(taskService.getTaskById(id));
+    }
+
     // ASSIGN MULTIPLE USERS (DTO in, DTO out)
     @PutMapping("/{taskId}/assign-users")
     public TaskListItemResponse assignUsers(@PathVariable Long taskId,
@@ -117,6 +183,14 @@ public class TaskController {
         return mapper.toListItem(updated);
     }
 
+    // MOVE (board drag&drop: status + kolon içi sıra)
+    @PatchMapping("/{taskId}/move")
+    public TaskListItemResponse move(@PathVariable Long taskId,
+                                     @Valid @RequestBody MoveTaskRequest req) {
+        Task moved = taskService.moveTask(taskId, req.statusId(), req.prevId(), req.nextId(), req.version());
+        return mapper.toListItem(moved);
+    }
+
     // SEARCH (liste dto)
     @GetMapping("/search")
     public List<TaskListItemResponse> search(@RequestParam String q) {
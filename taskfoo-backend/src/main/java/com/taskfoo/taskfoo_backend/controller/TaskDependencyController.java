@@ -0,0 +1,40 @@
+// src/main/java/com/taskfoo/taskfoo_backend/controller/TaskDependencyController.java
+package com.taskfoo.taskfoo_backend.controller;
+
+import com.taskfoo.taskfoo_backend.dto.request.task.AddDependencyRequest;
+import com.taskfoo.taskfoo_backend.dto.response.gantt.DependencyDto;
+import com.taskfoo.taskfoo_backend.service.TaskDependencyService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/tasks/{id}/dependencies")
+public class TaskDependencyController {
+
+    private final TaskDependencyService dependencyService;
+
+    public TaskDependencyController(TaskDependencyService dependencyService) {
+        this.dependencyService = dependencyService;
+    }
+
+    // Task'ın predecessor ve successor kenarları
+    @GetMapping
+    public List<DependencyDto> list(@PathVariable Long id) {
+        return dependencyService.dependenciesOf(id);
+    }
+
+    // {id}, predecessorId bitmeden başlayamaz (döngü -> 409)
+    @PostMapping
+    public DependencyDto add(@PathVariable Long id, @Valid @RequestBody AddDependencyRequest req) {
+        return dependencyService.addDependency(id, req.predecessorId());
+    }
+
+    @DeleteMapping("/{predecessorId}")
+    public ResponseEntity<Void> remove(@PathVariable Long id, @PathVariable Long predecessorId) {
+        dependencyService.removeDependency(id, predecessorId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,58 @@
+// src/main/java/com/taskfoo/taskfoo_backend/controller/TaskExportController.java
+package com.taskfoo.taskfoo_backend.controller;
+
+import com.taskfoo.taskfoo_backend.service.TaskExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("api/tasks/export")
+public class TaskExportController {
+
+    private final TaskExportService exportService;
+
+    public TaskExportController(TaskExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * Tüm task'lar (projectId verilirse sadece o proje) akış halinde; istemci gzip kabul ediyorsa
+     * yazılırken sıkıştırılır (Content-Encoding: gzip).
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = TaskExportService.NDJSON) String format,
+            @RequestParam(required = false) Long projectId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        String f = TaskExportService.requireFormat(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gz = new GZIPOutputStream(out, 64 * 1024);
+                exportService.export(f, projectId, gz);
+                gz.finish();
+            } else {
+                exportService.export(f, projectId, out);
+            }
+        };
+
+        String filename = "tasks" + (projectId == null ? "" : "-project-" + projectId) + "." + f;
+        ResponseEntity.BodyBuilder res = ResponseEntity.ok()
+                .contentType(TaskExportService.CSV.equals(f)
+                        ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : new MediaType("application", "x-ndjson", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) res.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return res.body(body);
+    }
+}
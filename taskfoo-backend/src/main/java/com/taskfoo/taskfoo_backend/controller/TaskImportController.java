@@ -0,0 +1,36 @@
+// src/main/java/com/taskfoo/taskfoo_backend/controller/TaskImportController.java
+package com.taskfoo.taskfoo_backend.controller;
+
+import com.taskfoo.taskfoo_backend.service.TaskImportService;
+import com.taskfoo.taskfoo_backend.support.JobRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("api/tasks/import")
+public class TaskImportController {
+
+    private final TaskImportService importService;
+
+    public TaskImportController(TaskImportService importService) {
+        this.importService = importService;
+    }
+
+    /**
+     * 202: gövde ham NDJSON/CSV (export çıktısı olduğu gibi verilebilir; Content-Encoding: gzip
+     * desteklenir). İlerleme ve satır hataları /api/jobs/{jobId}.
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public JobRegistry.JobStatus importTasks(@RequestParam(defaultValue = "ndjson") String format,
+                                             @RequestParam(required = false) Long projectId,
+                                             HttpServletRequest request) throws IOException {
+        String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        boolean gzip = encoding != null && encoding.toLowerCase().contains("gzip");
+        return importService.startImport(format, projectId, request.getInputStream(), gzip);
+    }
+}
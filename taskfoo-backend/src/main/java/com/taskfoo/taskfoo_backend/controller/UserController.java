@@ -5,8 +5,10 @@ import com.taskfoo.taskfoo_backend.dto.request.UpdateUserRolesRequest;
 import com.taskfoo.taskfoo_backend.dto.response.common.UserBriefDto;
 import com.taskfoo.taskfoo_backend.model.User;
 import com.taskfoo.taskfoo_backend.service.UserService;
+import com.taskfoo.taskfoo_backend.support.ChangeCounters;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -14,10 +16,15 @@ import java.util.List;
 @RequestMapping("/api/users")
 public class UserController {
     private final UserService userService;
-    public UserController(UserService userService) { this.userService = userService; }
+    private final ChangeCounters counters;
+    public UserController(UserService userService, ChangeCounters counters) {
+        this.userService = userService;
+        this.counters = counters;
+    }
 
     @GetMapping
-    public List<UserBriefDto> getAllUsers() {
+    public List<UserBriefDto> getAllUsers(WebRequest request) {
+        if (request.checkNotModified(counters.etag(ChangeCounters.USERS))) return null; // 304
         return userService.getAllUsers();
     }
 
@@ -0,0 +1,46 @@
+// src/main/java/com/taskfoo/taskfoo_backend/controller/WebhookController.java
+package com.taskfoo.taskfoo_backend.controller;
+
+import com.taskfoo.taskfoo_backend.dto.request.webhook.CreateWebhookRequest;
+import com.taskfoo.taskfoo_backend.dto.response.webhook.WebhookDto;
+import com.taskfoo.taskfoo_backend.service.WebhookService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/** Webhook'lar tüm projelerin event'lerini (task snapshot'larıyla) dışarı taşır: sadece ADMIN */
+@RestController
+@RequestMapping("/api/webhooks")
+@PreAuthorize("hasRole('ADMIN')")
+public class WebhookController {
+
+    private final WebhookService webhookService;
+
+    public WebhookController(WebhookService webhookService) {
+        this.webhookService = webhookService;
+    }
+
+    @GetMapping
+    public List<WebhookDto> getAll() {
+        return webhookService.getAll();
+    }
+
+    /**
+     * Kayıttan sonraki event'ler {@code {"events":[{id,type,projectId,createdAt,payload}]}} olarak
+     * batch'ler halinde POST edilir; 2xx dışı cevapta aynı batch backoff ile tekrar denenir.
+     */
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public WebhookDto create(@Valid @RequestBody CreateWebhookRequest req) {
+        return webhookService.create(req);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable Long id) {
+        webhookService.delete(id);
+    }
+}
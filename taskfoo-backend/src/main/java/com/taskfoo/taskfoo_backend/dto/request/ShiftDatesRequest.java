@@ -0,0 +1,8 @@
+package com.taskfoo.taskfoo_backend.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+/** Gün sayısı; negatif -> geri çek */
+public record ShiftDatesRequest(
+        @NotNull Integer days
+) {}
@@ -0,0 +1,7 @@
+package com.taskfoo.taskfoo_backend.dto.request.auth;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshRequest(
+        @NotBlank String refreshToken
+) {}
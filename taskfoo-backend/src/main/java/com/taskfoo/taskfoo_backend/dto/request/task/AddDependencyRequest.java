@@ -0,0 +1,9 @@
+// src/main/java/com/taskfoo/taskfoo_backend/dto/request/task/AddDependencyRequest.java
+package com.taskfoo.taskfoo_backend.dto.request.task;
+
+import jakarta.validation.constraints.NotNull;
+
+/** Finish-to-start: path'teki task, predecessorId bitmeden başlayamaz */
+public record AddDependencyRequest(
+        @NotNull Long predecessorId
+) {}
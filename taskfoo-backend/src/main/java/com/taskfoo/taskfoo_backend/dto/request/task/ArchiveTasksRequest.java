@@ -0,0 +1,10 @@
+// dto/request/task/ArchiveTasksRequest.java
+package com.taskfoo.taskfoo_backend.dto.request.task;
+
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+public record ArchiveTasksRequest(
+        @NotEmpty List<Long> statusIds,   // örn. Done
+        @NotNull @Min(0) Integer olderThanDays
+) {}
@@ -0,0 +1,11 @@
+// dto/request/task/MoveTaskRequest.java
+package com.taskfoo.taskfoo_backend.dto.request.task;
+
+import jakarta.validation.constraints.*;
+
+public record MoveTaskRequest(
+        @NotNull Long statusId,
+        Long prevId,                // hedef kolonda üstte kalacak task (yoksa en başa)
+        Long nextId,                // hedef kolonda altta kalacak task (ikisi de yoksa en sona)
+        @NotNull Integer version
+) {}
@@ -5,7 +5,9 @@ package com.taskfoo.taskfoo_backend.dto.request.task;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.*;
 import java.time.LocalDate;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record UpdateTaskRequest(
@@ -18,5 +20,21 @@ public record UpdateTaskRequest(
         Long statusId,
         Long priorityId,
         Long epicId,
-        List<Long> assigneeIds
-) {}
\ No newline at end of file
+        List<Long> assigneeIds,
+        List<String> fields         // opsiyonel: değiştirilen alanlar (merge için); yoksa dolu alanlardan çıkarılır
+) {
+    /** Merge kontrolü için dokunulan alanlar (audit ChangedField adlarıyla aynı) */
+    public Set<String> changedFieldNames() {
+        Set<String> names = new LinkedHashSet<>();
+        if (fields != null) names.addAll(fields);
+        if (title != null)       names.add("title");
+        if (description != null) names.add("description");
+        if (startDate != null)   names.add("startDate");
+        if (dueDate != null)     names.add("dueDate");
+        if (statusId != null)    names.add("statusId");
+        if (priorityId != null)  names.add("priorityId");
+        if (epicId != null)      names.add("epicId");
+        if (assigneeIds != null) names.add("assigneeIds");
+        return names;
+    }
+}
\ No newline at end of file
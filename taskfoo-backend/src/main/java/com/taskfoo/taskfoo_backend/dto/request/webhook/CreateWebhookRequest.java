@@ -0,0 +1,14 @@
+// src/main/java/com/taskfoo/taskfoo_backend/dto/request/webhook/CreateWebhookRequest.java
+package com.taskfoo.taskfoo_backend.dto.request.webhook;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CreateWebhookRequest(
+        @NotBlank @Size(max = 2048) String url,
+        @Size(max = 256) String secret,       // opsiyonel: X-Taskfoo-Signature (HMAC-SHA256)
+        List<String> eventTypes,              // boş -> hepsi
+        Long projectId                        // boş -> tüm projeler
+) {}
@@ -0,0 +1,9 @@
+// dto/response/analytics/BurndownPointDto.java
+package com.taskfoo.taskfoo_backend.dto.response.analytics;
+
+public record BurndownPointDto(
+        String day,
+        long total,
+        long done,
+        long remaining
+) {}
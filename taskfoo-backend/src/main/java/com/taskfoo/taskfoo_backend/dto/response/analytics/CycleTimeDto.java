@@ -0,0 +1,12 @@
+// dto/response/analytics/CycleTimeDto.java
+package com.taskfoo.taskfoo_backend.dto.response.analytics;
+
+/** Bir slice'ın (all / project / epic / priority / assignee) cycle ve lead time yüzdelikleri (saat) */
+public record CycleTimeDto(
+        String dimension,
+        Long id,                 // dimension = all iken null
+        Percentiles cycleTime,
+        Percentiles leadTime
+) {
+    public record Percentiles(long count, Double p50, Double p85, Double p95) {}
+}
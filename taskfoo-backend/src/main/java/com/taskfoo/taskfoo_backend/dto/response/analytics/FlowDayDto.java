@@ -0,0 +1,10 @@
+// dto/response/analytics/FlowDayDto.java
+package com.taskfoo.taskfoo_backend.dto.response.analytics;
+
+import java.util.Map;
+
+/** Cumulative flow: gün sonunda status başına task sayısı (statusId -> count) */
+public record FlowDayDto(
+        String day,
+        Map<Long, Long> byStatus
+) {}
@@ -1,3 +1,3 @@
 package com.taskfoo.taskfoo_backend.dto.response.auth;
 
-public record AuthResponse(String accessToken) {}
\ No newline at end of file
+public record AuthResponse(String accessToken, String refreshToken) {}
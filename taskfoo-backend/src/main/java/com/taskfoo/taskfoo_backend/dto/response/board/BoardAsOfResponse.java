@@ -0,0 +1,14 @@
+// dto/response/board/BoardAsOfResponse.java
+package com.taskfoo.taskfoo_backend.dto.response.board;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/** asOf anındaki board: kullanılan snapshot zamanı ve replay edilen olay sayısıyla */
+public record BoardAsOfResponse(
+        Long projectId,
+        OffsetDateTime asOf,
+        OffsetDateTime snapshotAt,
+        long eventsReplayed,
+        List<BoardTaskStateDto> tasks
+) {}
@@ -0,0 +1,22 @@
+// dto/response/board/BoardBootstrapResponse.java
+package com.taskfoo.taskfoo_backend.dto.response.board;
+
+import com.taskfoo.taskfoo_backend.dto.response.Project.ProjectDto;
+import com.taskfoo.taskfoo_backend.dto.response.common.IdNameDto;
+import com.taskfoo.taskfoo_backend.dto.response.common.PriorityBriefDto;
+import com.taskfoo.taskfoo_backend.dto.response.common.UserBriefDto;
+import com.taskfoo.taskfoo_backend.dto.response.epic.EpicDto;
+import com.taskfoo.taskfoo_backend.dto.response.task.TaskListItemResponse;
+
+import java.util.List;
+
+/** Board açılışı için tek response: referans veri + projenin epic'leri ve task'ları */
+public record BoardBootstrapResponse(
+        Long projectId,
+        List<IdNameDto> statuses,
+        List<PriorityBriefDto> priorities,
+        List<UserBriefDto> users,
+        List<ProjectDto> projects,
+        List<EpicDto> epics,
+        List<TaskListItemResponse> tasks
+) {}
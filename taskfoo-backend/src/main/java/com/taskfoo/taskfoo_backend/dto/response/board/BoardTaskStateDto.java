@@ -0,0 +1,17 @@
+// dto/response/board/BoardTaskStateDto.java
+package com.taskfoo.taskfoo_backend.dto.response.board;
+
+import java.util.List;
+
+/** Geçmiş board'daki task (referanslar id; isimler bootstrap listelerinden) */
+public record BoardTaskStateDto(
+        Long id,
+        String title,
+        Long statusId,
+        Long priorityId,
+        Long epicId,
+        String startDate,     // YYYY-MM-DD
+        String dueDate,
+        String boardRank,
+        List<Long> assigneeIds
+) {}
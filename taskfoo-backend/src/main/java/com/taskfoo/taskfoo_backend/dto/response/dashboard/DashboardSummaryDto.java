@@ -0,0 +1,23 @@
+// dto/response/dashboard/DashboardSummaryDto.java
+package com.taskfoo.taskfoo_backend.dto.response.dashboard;
+
+import java.util.List;
+
+public record DashboardSummaryDto(
+        Long projectId,             // null: tüm projeler
+        long total,
+        long overdue,               // due date geçmiş, done olmayan
+        List<CountDto> byStatus,
+        List<CountDto> byPriority,
+        List<CountDto> byAssignee,  // en çok iş alan N kişi; id=null -> Unassigned
+        List<CellDto> priorityStatus,
+        List<CountDto> byProject,   // sadece projectId=null iken
+        List<RecentTaskDto> recent, // status başına son N task
+        String computedAt
+) {
+    public record CountDto(Long id, String name, long count) {}
+
+    public record CellDto(Long priorityId, Long statusId, long count) {}
+
+    public record RecentTaskDto(Long id, String title, Long statusId, Long priorityId) {}
+}
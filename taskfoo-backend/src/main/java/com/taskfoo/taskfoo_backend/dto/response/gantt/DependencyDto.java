@@ -0,0 +1,7 @@
+// dto/response/gantt/DependencyDto.java
+package com.taskfoo.taskfoo_backend.dto.response.gantt;
+
+public record DependencyDto(
+        Long predecessorId,
+        Long successorId
+) {}
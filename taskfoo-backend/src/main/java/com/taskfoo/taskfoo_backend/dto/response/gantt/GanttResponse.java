@@ -0,0 +1,28 @@
+// dto/response/gantt/GanttResponse.java
+package com.taskfoo.taskfoo_backend.dto.response.gantt;
+
+import com.taskfoo.taskfoo_backend.dto.response.task.TaskListItemResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record GanttResponse(
+        LocalDate from,
+        LocalDate to,
+        List<EpicGroup> epics
+) {
+    /**
+     * Pencereyle kesişen task'lar epic bazında. startDate/dueDate: özet çubuğu (epic'in kendi
+     * tarihleri, yoksa tüm task'larının aralığı); sayılar pencereden bağımsız tüm epic için.
+     * id null -> epic'siz task'lar.
+     */
+    public record EpicGroup(
+            Long id,
+            String name,
+            LocalDate startDate,
+            LocalDate dueDate,
+            long taskCount,
+            long doneCount,
+            List<TaskListItemResponse> tasks
+    ) {}
+}
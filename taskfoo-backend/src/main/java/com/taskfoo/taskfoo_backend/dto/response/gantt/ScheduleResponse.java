@@ -0,0 +1,26 @@
+// dto/response/gantt/ScheduleResponse.java
+package com.taskfoo.taskfoo_backend.dto.response.gantt;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ScheduleResponse(
+        Long projectId,
+        LocalDate projectFinish,
+        List<Item> tasks,
+        List<Long> criticalPath
+) {
+    /**
+     * Tarihi olan task başına CPM sonuçları (günler dahil). slackDays 0 -> kritik.
+     * Tarihsiz task'lar hesaba girmez.
+     */
+    public record Item(
+            Long taskId,
+            LocalDate earliestStart,
+            LocalDate earliestFinish,
+            LocalDate latestStart,
+            LocalDate latestFinish,
+            long slackDays,
+            boolean critical
+    ) {}
+}
@@ -0,0 +1,7 @@
+// dto/response/gantt/ShiftResult.java
+package com.taskfoo.taskfoo_backend.dto.response.gantt;
+
+public record ShiftResult(
+        int days,
+        int tasksShifted
+) {}
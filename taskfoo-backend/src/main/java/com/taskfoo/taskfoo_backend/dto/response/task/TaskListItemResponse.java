@@ -15,5 +15,6 @@ public record TaskListItemResponse(
         PriorityBriefDto priority,
         IdNameDto epic,
         List<UserBriefDto> assignees,
-        Integer version
+        Integer version,
+        String boardRank
 ) {}
\ No newline at end of file
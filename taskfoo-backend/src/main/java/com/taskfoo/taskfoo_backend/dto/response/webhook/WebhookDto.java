@@ -0,0 +1,19 @@
+// src/main/java/com/taskfoo/taskfoo_backend/dto/response/webhook/WebhookDto.java
+package com.taskfoo.taskfoo_backend.dto.response.webhook;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public record WebhookDto(
+        Long id,
+        String url,
+        boolean signed,
+        List<String> eventTypes,
+        Long projectId,
+        boolean active,
+        int failures,
+        String lastError,
+        OffsetDateTime nextAttemptAt,
+        OffsetDateTime lastDeliveredAt,
+        OffsetDateTime createdAt
+) {}
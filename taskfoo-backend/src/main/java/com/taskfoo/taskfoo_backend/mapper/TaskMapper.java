@@ -26,7 +26,8 @@ public class TaskMapper {
                 t.getPriority() == null ? null : new PriorityBriefDto(t.getPriority().getId(), t.getPriority().getName(), t.getPriority().getColor()),
                 t.getEpic()     == null ? null : new IdNameDto(t.getEpic().getId(),     t.getEpic().getName()),
                 mapAssignees(t),
-                t.getVersion()
+                t.getVersion(),
+                t.getBoardRank()
         );
     }
 
@@ -0,0 +1,68 @@
+package com.taskfoo.taskfoo_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Cold storage: arşivlenen task'lar (tasks ile aynı kolonlar + archived_at).
+ * Satırlar sadece set-based INSERT ... SELECT ile taşınır; ilişkiler FK'sız düz id'lerdir,
+ * böylece status/epic silinmesi arşivi bloklamaz ve hot tablonun index'leri küçük kalır.
+ */
+@Entity
+@Table(
+        name = "tasks_archive",
+        indexes = {
+                @Index(name = "idx_tasks_archive_epic", columnList = "epic_id"),
+                @Index(name = "idx_tasks_archive_archived_at", columnList = "archived_at")
+        }
+)
+@Getter @Setter
+@NoArgsConstructor
+public class ArchivedTask {
+
+    /** Hot tablodaki id korunur (restore aynı id ile geri yazar) */
+    @Id
+    private Long id;
+
+    private String title;
+    private String description;
+
+    private LocalDate startDate;
+    private LocalDate dueDate;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "status_id")
+    private Long statusId;
+
+    @Column(name = "priority_id")
+    private Long priorityId;
+
+    @Column(name = "epic_id")
+    private Long epicId;
+
+    @ElementCollection
+    @CollectionTable(name = "task_user_archive", joinColumns = @JoinColumn(name = "task_id"))
+    @Column(name = "user_id")
+    private Set<Long> assigneeIds = new LinkedHashSet<>();
+
+    @Column(name = "board_rank", length = 64)
+    private String boardRank;
+
+    private Integer version;
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private OffsetDateTime archivedAt;
+}
@@ -0,0 +1,38 @@
+package com.taskfoo.taskfoo_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Arşivlenen task'ların kenarları (task_dependencies ile aynı kolonlar). FK'sız düz id'ler:
+ * diğer uç hot'ta kalabilir ya da ayrıca arşivlenebilir; restore'da iki ucu da hot olanlar geri yazılır.
+ */
+@Entity
+@Table(
+        name = "task_dependencies_archive",
+        indexes = {
+                @Index(name = "idx_task_dependency_archive_predecessor", columnList = "predecessor_id"),
+                @Index(name = "idx_task_dependency_archive_successor", columnList = "successor_id")
+        }
+)
+@Getter @Setter
+@NoArgsConstructor
+public class ArchivedTaskDependency {
+
+    /** Hot tablodaki id */
+    @Id
+    private Long id;
+
+    @Column(name = "predecessor_id", nullable = false)
+    private Long predecessorId;
+
+    @Column(name = "successor_id", nullable = false)
+    private Long successorId;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+}
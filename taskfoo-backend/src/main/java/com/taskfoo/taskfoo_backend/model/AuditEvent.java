@@ -39,6 +39,10 @@ public class AuditEvent {
     @Column(name = "entity_id", nullable = false)
     private Long entityId;
 
+    /** Değişiklik sonrası entity @Version değeri (merge için change log anahtarı, opsiyonel) */
+    @Column(name = "entity_version")
+    private Integer entityVersion;
+
     /** Ne oldu? CREATE, UPDATE, DELETE, MOVE, ASSIGN ... */
     @Enumerated(EnumType.STRING)
     @Column(name = "action", nullable = false, length = 32)
@@ -0,0 +1,47 @@
+package com.taskfoo.taskfoo_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Projenin board'unun belirli andaki sıkıştırılmış hali (task başına tek JSON dizi:
+ * [id, title, statusId, priorityId, epicId, startDate, dueDate, boardRank, [assigneeIds]]).
+ * Bir önceki snapshot'la aynıysa tasks boş kalır ve base_id o içeriği gösterir.
+ * Geçmiş board bu snapshot'tan sonraki audit olayları replay edilerek kurulur.
+ */
+@Entity
+@Table(
+        name = "board_snapshots",
+        indexes = @Index(name = "idx_board_snapshots_project_taken", columnList = "project_id, taken_at")
+)
+@Getter @Setter
+@NoArgsConstructor
+public class BoardSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "taken_at", nullable = false)
+    private OffsetDateTime takenAt;
+
+    @Column(name = "task_count", nullable = false)
+    private int taskCount;
+
+    @Column(nullable = false, length = 32)
+    private String md5;
+
+    @Column(columnDefinition = "jsonb")
+    private String tasks;
+
+    /** tasks boşsa içeriğin bulunduğu snapshot */
+    @Column(name = "base_id")
+    private Long baseId;
+}
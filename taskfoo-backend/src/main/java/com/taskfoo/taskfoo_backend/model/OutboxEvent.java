@@ -0,0 +1,48 @@
+package com.taskfoo.taskfoo_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Transactional outbox: TaskEventPublisher event'i iş transaction'ı içinde buraya yazar,
+ * OutboxRelay commit sonrası STOMP broker'a ve webhook'lara dağıtır.
+ * txid (xid8) okuma sırası içindir: relay sadece {@code txid < pg_snapshot_xmin} satırları okur,
+ * böylece geç commit olan küçük id'li bir satır imlecin gerisinde kalmaz.
+ */
+@Entity
+@Table(
+        name = "outbox_events",
+        indexes = {
+                @Index(name = "idx_outbox_events_txid", columnList = "txid, id"),
+                @Index(name = "idx_outbox_events_created_at", columnList = "created_at")
+        }
+)
+@Getter @Setter
+@NoArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** DB doldurur (yazan transaction'ın id'si) */
+    @Column(name = "txid", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "xid8 default pg_current_xact_id()")
+    private String txid;
+
+    @Column(nullable = false, length = 64)
+    private String type;
+
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(nullable = false, columnDefinition = "jsonb")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+}
@@ -0,0 +1,52 @@
+package com.taskfoo.taskfoo_backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.OffsetDateTime;
+
+/** Rotating refresh token. Ham token asla saklanmaz, sadece SHA-256 hash'i. */
+@Entity
+@Table(
+        name = "refresh_tokens",
+        indexes = {
+                @Index(name = "idx_refresh_token_hash", columnList = "token_hash", unique = true),
+                @Index(name = "idx_refresh_family", columnList = "family_id"),
+                @Index(name = "idx_refresh_user", columnList = "user_id")
+        }
+)
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    /** Aynı login'den türeyen tüm rotasyonlar aynı family'yi paylaşır (reuse -> tüm family iptal) */
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private OffsetDateTime expiresAt;
+
+    /** Rotate edildiği an; tekrar kullanılırsa reuse kabul edilir */
+    @Column(name = "used_at")
+    private OffsetDateTime usedAt;
+
+    @Column(name = "revoked_at")
+    private OffsetDateTime revokedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private OffsetDateTime createdAt;
+}
@@ -11,7 +11,14 @@ import java.time.OffsetDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "tasks")
+@Table(
+        name = "tasks",
+        indexes = {
+                @Index(name = "idx_tasks_status_rank", columnList = "status_id, board_rank"),
+                @Index(name = "idx_tasks_due_date", columnList = "due_date"),
+                @Index(name = "idx_tasks_epic", columnList = "epic_id")
+        }
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -49,6 +56,10 @@ public class Task {
     )
     private List<User> assignedUsers;
 
+    /** Kolon içi sıra (LexoRank); byte-wise karşılaştırma için COLLATE "C" */
+    @Column(name = "board_rank", length = 64, columnDefinition = "varchar(64) collate \"C\"")
+    private String boardRank;
+
     @Version              // optimistic concurrency
     private Integer version;
 
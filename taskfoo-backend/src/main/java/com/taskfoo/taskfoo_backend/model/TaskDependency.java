@@ -0,0 +1,45 @@
+package com.taskfoo.taskfoo_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Finish-to-start bağımlılık: successor, predecessor bitmeden başlayamaz.
+ * FK'lar ON DELETE CASCADE: task silinince/arşivlenince (set-based DELETE dahil) kenarları da gider;
+ * arşivde önce task_dependencies_archive'a kopyalanır (restore geri yazar).
+ */
+@Entity
+@Table(
+        name = "task_dependencies",
+        uniqueConstraints = @UniqueConstraint(name = "uq_task_dependency", columnNames = {"predecessor_id", "successor_id"}),
+        indexes = @Index(name = "idx_task_dependency_successor", columnList = "successor_id")
+)
+@Getter @Setter
+@NoArgsConstructor
+public class TaskDependency {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "predecessor_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task predecessor;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "successor_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task successor;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private OffsetDateTime createdAt;
+}
@@ -0,0 +1,46 @@
+package com.taskfoo.taskfoo_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Cumulative flow / burndown için gün sonu snapshot'ı: (gün, epic, status) başına task sayısı.
+ * Satırlar sadece set-based INSERT ... SELECT ile yazılır (önceki gün + o günün audit delta'ları);
+ * proje serisi epic satırlarının toplamıdır. epic_id/project_id 0 = yok.
+ */
+@Entity
+@Table(
+        name = "task_flow_daily",
+        uniqueConstraints = @UniqueConstraint(name = "uq_task_flow_daily", columnNames = {"day", "epic_id", "status_id"}),
+        indexes = {
+                @Index(name = "idx_task_flow_project_day", columnList = "project_id, day"),
+                @Index(name = "idx_task_flow_epic_day", columnList = "epic_id, day")
+        }
+)
+@Getter @Setter
+@NoArgsConstructor
+public class TaskFlowDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "epic_id", nullable = false)
+    private Long epicId;
+
+    @Column(name = "status_id", nullable = false)
+    private Long statusId;
+
+    @Column(name = "task_count", nullable = false)
+    private Long taskCount;
+}
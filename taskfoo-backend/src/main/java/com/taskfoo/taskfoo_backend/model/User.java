@@ -37,4 +37,8 @@ public class User {
     )
     @Column(name = "role")
     private Set<Role> roles;  // artık enum tabanlı
+
+    /** Rol değişikliğinde artar; token'daki "ver" claim'i bununla karşılaştırılır */
+    @Column(name = "token_version", nullable = false, columnDefinition = "integer not null default 0")
+    private int tokenVersion;
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.taskfoo.taskfoo_backend.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Outbox event'lerinin POST edildiği dış endpoint. Her endpoint'in kendi imleci (last_txid,
+ * last_event_id) vardır: event'ler endpoint başına sırayla, batch'ler halinde gider; hata olursa
+ * aynı batch backoff ile tekrar denenir. lease_until: aynı endpoint'i iki node aynı anda işlemesin.
+ */
+@Entity
+@Table(name = "webhook_endpoints")
+@Getter @Setter
+@NoArgsConstructor
+public class WebhookEndpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 2048)
+    private String url;
+
+    /** HMAC-SHA256 imza anahtarı (opsiyonel, response'larda dönmez) */
+    @Column(length = 256)
+    private String secret;
+
+    /** Virgülle ayrılmış event tipleri; null -> hepsi */
+    @Column(name = "event_types", length = 1024)
+    private String eventTypes;
+
+    /** null -> tüm projeler */
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(nullable = false)
+    private boolean active = true;
+
+    @Column(name = "last_txid", nullable = false)
+    private long lastTxid;
+
+    @Column(name = "last_event_id", nullable = false)
+    private long lastEventId;
+
+    @Column(nullable = false)
+    private int failures;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "lease_until")
+    private OffsetDateTime leaseUntil;
+
+    @Column(name = "last_error", length = 1024)
+    private String lastError;
+
+    @Column(name = "last_delivered_at")
+    private OffsetDateTime lastDeliveredAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private OffsetDateTime createdAt;
+}
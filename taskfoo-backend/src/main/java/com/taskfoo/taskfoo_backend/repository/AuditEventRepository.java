@@ -4,7 +4,144 @@ package com.taskfoo.taskfoo_backend.repository;
 import com.taskfoo.taskfoo_backend.model.AuditEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface AuditEventRepository
         extends JpaRepository<AuditEvent, Long>, JpaSpecificationExecutor<AuditEvent> {
-}
\ No newline at end of file
+
+    /** Merge: base version'dan sonraki değişiklikler (version sırasıyla) */
+    @Query("""
+            select a from AuditEvent a
+             where a.entityType = :entityType
+               and a.entityId = :entityId
+               and a.entityVersion > :baseVersion
+             order by a.entityVersion asc, a.id asc
+            """)
+    List<AuditEvent> findChangesSince(String entityType, Long entityId, Integer baseVersion);
+
+    /**
+     * Toplu task işlemleri için set-based audit: her task için tek satır, tasks tablosundaki
+     * mevcut hali (version + status/epic/priority/tarihler) metadata olarak yazılır
+     * (board geçmişi replay'i changed_fields olmayan satırlarda bu hali uygular).
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO audit_event (entity_type, entity_id, entity_version, action, metadata,
+                                     actor_id, actor_name, page_context, client_change_id,
+                                     request_id, ip_address, created_at)
+            SELECT 'TASK', t.id, t.version, :action,
+                   jsonb_build_object('statusId', t.status_id, 'epicId', t.epic_id, 'priorityId', t.priority_id,
+                                      'startDate', t.start_date, 'dueDate', t.due_date),
+                   CAST(:actorId AS bigint), CAST(:actorName AS varchar),
+                   COALESCE(CAST(:pageContext AS varchar), 'API'), CAST(:clientChangeId AS varchar),
+                   CAST(:requestId AS varchar), CAST(:ip AS varchar), now()
+              FROM tasks t
+             WHERE t.id IN (:ids)
+            """, nativeQuery = true)
+    int insertTaskEvents(Collection<Long> ids, String action,
+                         Long actorId, String actorName, String pageContext,
+                         String clientChangeId, String requestId, String ip);
+
+    /**
+     * insertTaskEvents'in toplu tarih kaydırma karşılığı: id listesi yerine TaskRepository.shiftDates
+     * ile aynı kapsam (büyük projede id'ler bind parametre sınırını aşar)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO audit_event (entity_type, entity_id, entity_version, action, metadata,
+                                     actor_id, actor_name, page_context, client_change_id,
+                                     request_id, ip_address, created_at)
+            SELECT 'TASK', t.id, t.version, :action,
+                   jsonb_build_object('statusId', t.status_id, 'epicId', t.epic_id, 'priorityId', t.priority_id,
+                                      'startDate', t.start_date, 'dueDate', t.due_date),
+                   CAST(:actorId AS bigint), CAST(:actorName AS varchar),
+                   COALESCE(CAST(:pageContext AS varchar), 'API'), CAST(:clientChangeId AS varchar),
+                   CAST(:requestId AS varchar), CAST(:ip AS varchar), now()
+              FROM tasks t
+             WHERE (t.start_date IS NOT NULL OR t.due_date IS NOT NULL)
+               AND t.epic_id IN (SELECT e.id FROM epics e
+                                  WHERE e.id = CAST(:epicId AS bigint)
+                                     OR e.project_id = CAST(:projectId AS bigint))
+            """, nativeQuery = true)
+    int insertTaskEventsForShift(Long epicId, Long projectId, String action,
+                                 Long actorId, String actorName, String pageContext,
+                                 String clientChangeId, String requestId, String ip);
+
+    /**
+     * Cycle-time stream'i: id > :afterId olan task status geçişleri (keyset, id sırasıyla).
+     * :before'dan yeni satırlar alınmaz (henüz commit olmamış daha küçük id'ler atlanmasın).
+     * Set-based CREATE satırlarında hedef status metadata.statusId'den okunur.
+     */
+    @Query(value = """
+            SELECT a.id AS "id", a.entity_id AS "taskId", a.action AS "action",
+                   CAST(extract(epoch FROM a.created_at) AS bigint) AS "at",
+                   CASE WHEN cf IS NULL AND a.action = 'CREATE' THEN CAST(a.metadata->>'statusId' AS bigint)
+                        ELSE CAST(cf->>'newValue' AS bigint) END AS "toStatusId"
+              FROM audit_event a
+              LEFT JOIN LATERAL jsonb_array_elements(
+                        CASE WHEN jsonb_typeof(a.changed_fields) = 'array' THEN a.changed_fields ELSE '[]'::jsonb END) cf
+                     ON cf->>'field' = 'statusId'
+             WHERE a.id > :afterId
+               AND a.entity_type = 'TASK'
+               AND a.action IN ('CREATE', 'UPDATE', 'MOVE', 'DELETE')
+               AND (cf IS NOT NULL OR a.action IN ('CREATE', 'DELETE'))
+               AND a.created_at < :before
+             ORDER BY a.id
+             LIMIT :limit
+            """, nativeQuery = true)
+    List<StatusEventRow> findStatusEventsAfter(long afterId, OffsetDateTime before, int limit);
+
+    /** Board geçmişi replay'i: (from, to] aralığındaki task olayları, yazılış sırasıyla */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query(value = """
+            SELECT a.id AS "id", a.entity_id AS "taskId", a.action AS "action",
+                   CAST(a.changed_fields AS text) AS "changedFields", CAST(a.metadata AS text) AS "metadata"
+              FROM audit_event a
+             WHERE a.entity_type = 'TASK'
+               AND a.action IN ('CREATE', 'UPDATE', 'MOVE', 'ASSIGN', 'DELETE', 'ARCHIVE', 'RESTORE')
+               AND a.created_at > :from
+               AND a.created_at <= :to
+             ORDER BY a.id
+            """, nativeQuery = true)
+    Stream<TaskHistoryRow> streamTaskEvents(OffsetDateTime from, OffsetDateTime to);
+
+    /** Belirli task'ların :after sonrasındaki olayları (geriye doğru türetme için) */
+    @Query(value = """
+            SELECT a.id AS "id", a.entity_id AS "taskId", a.action AS "action",
+                   CAST(a.changed_fields AS text) AS "changedFields", CAST(a.metadata AS text) AS "metadata"
+              FROM audit_event a
+             WHERE a.entity_type = 'TASK'
+               AND a.entity_id IN (:taskIds)
+               AND a.action IN ('CREATE', 'UPDATE', 'MOVE', 'ASSIGN')
+               AND a.created_at > :after
+             ORDER BY a.id
+            """, nativeQuery = true)
+    List<TaskHistoryRow> findTaskEventsAfter(Collection<Long> taskIds, OffsetDateTime after);
+
+    interface TaskHistoryRow {
+        Long getId();
+        Long getTaskId();
+        String getAction();
+        String getChangedFields();
+        String getMetadata();
+    }
+
+    interface StatusEventRow {
+        Long getId();
+        Long getTaskId();
+        String getAction();
+        Long getAt();
+        Long getToStatusId();
+    }
+}
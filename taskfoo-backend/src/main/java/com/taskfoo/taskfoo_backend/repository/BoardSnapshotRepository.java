@@ -0,0 +1,111 @@
+// src/main/java/com/taskfoo/taskfoo_backend/repository/BoardSnapshotRepository.java
+package com.taskfoo.taskfoo_backend.repository;
+
+import com.taskfoo.taskfoo_backend.model.BoardSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface BoardSnapshotRepository extends JpaRepository<BoardSnapshot, Long> {
+
+    /**
+     * Tek statement: task'lar statement anındaki tutarlı görüntüden okunur, taken_at o an.
+     * İçerik son snapshot'la aynıysa sadece base_id'li boş satır yazılır.
+     */
+    @Transactional
+    @Query(value = """
+            WITH s AS (
+                SELECT COALESCE(jsonb_agg(jsonb_build_array(
+                           t.id, t.title, t.status_id, t.priority_id, t.epic_id,
+                           t.start_date::text, t.due_date::text, t.board_rank,
+                           COALESCE((SELECT jsonb_agg(a.user_id ORDER BY a.user_id)
+                                       FROM task_user a WHERE a.task_id = t.id), '[]'::jsonb))
+                           ORDER BY t.id), '[]'::jsonb) AS tasks,
+                       count(t.id) AS n
+                  FROM tasks t
+                  JOIN epics e ON e.id = t.epic_id
+                 WHERE e.project_id = :projectId
+            ), prev AS (
+                SELECT b.id, b.md5, b.base_id
+                  FROM board_snapshots b
+                 WHERE b.project_id = :projectId
+                 ORDER BY b.taken_at DESC
+                 LIMIT 1
+            )
+            INSERT INTO board_snapshots (project_id, taken_at, task_count, md5, tasks, base_id)
+            SELECT :projectId, statement_timestamp(), s.n, md5(s.tasks::text),
+                   CASE WHEN prev.md5 = md5(s.tasks::text) THEN NULL ELSE s.tasks END,
+                   CASE WHEN prev.md5 = md5(s.tasks::text) THEN COALESCE(prev.base_id, prev.id) END
+              FROM s LEFT JOIN prev ON true
+            RETURNING task_count
+            """, nativeQuery = true)
+    int takeSnapshot(Long projectId);
+
+    /** asOf anındaki ya da ondan önceki en yakın snapshot (içerik base'den çözülmüş) */
+    @Query(value = """
+            SELECT b.id AS "id", CAST(extract(epoch FROM b.taken_at) * 1000 AS bigint) AS "takenAt",
+                   CAST(COALESCE(b.tasks, base.tasks) AS text) AS "tasks"
+              FROM board_snapshots b
+              LEFT JOIN board_snapshots base ON base.id = b.base_id
+             WHERE b.project_id = :projectId
+               AND b.taken_at <= :asOf
+             ORDER BY b.taken_at DESC
+             LIMIT 1
+            """, nativeQuery = true)
+    SnapshotRow findNearest(Long projectId, OffsetDateTime asOf);
+
+    @Query(value = "SELECT min(taken_at)::text FROM board_snapshots WHERE project_id = :projectId", nativeQuery = true)
+    String findFirstTakenAt(Long projectId);
+
+    /** Snapshot'ta olmayan task'ların bugünkü hali (sıcak + arşiv) */
+    @Query(value = """
+            SELECT t.id AS "id", t.title AS "title", t.status_id AS "statusId", t.priority_id AS "priorityId",
+                   t.epic_id AS "epicId", t.start_date::text AS "startDate", t.due_date::text AS "dueDate",
+                   t.board_rank AS "boardRank",
+                   (SELECT string_agg(a.user_id::text, ',' ORDER BY a.user_id)
+                      FROM task_user a WHERE a.task_id = t.id) AS "assigneeIds"
+              FROM tasks t
+             WHERE t.id IN (:ids)
+            UNION ALL
+            SELECT t.id, t.title, t.status_id, t.priority_id, t.epic_id, t.start_date::text, t.due_date::text,
+                   t.board_rank,
+                   (SELECT string_agg(a.user_id::text, ',' ORDER BY a.user_id)
+                      FROM task_user_archive a WHERE a.task_id = t.id)
+              FROM tasks_archive t
+             WHERE t.id IN (:ids)
+            """, nativeQuery = true)
+    List<TaskStateRow> findCurrentStates(Collection<Long> ids);
+
+    /** Retention: referans verilen (base) snapshot'lar korunur */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM board_snapshots b
+             WHERE b.taken_at < :cutoff
+               AND NOT EXISTS (SELECT 1 FROM board_snapshots r WHERE r.base_id = b.id)
+            """, nativeQuery = true)
+    int deleteOlderThan(OffsetDateTime cutoff);
+
+    interface SnapshotRow {
+        Long getId();
+        Long getTakenAt();
+        String getTasks();
+    }
+
+    interface TaskStateRow {
+        Long getId();
+        String getTitle();
+        Long getStatusId();
+        Long getPriorityId();
+        Long getEpicId();
+        String getStartDate();
+        String getDueDate();
+        String getBoardRank();
+        String getAssigneeIds();
+    }
+}
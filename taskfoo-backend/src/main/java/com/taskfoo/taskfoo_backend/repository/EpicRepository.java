@@ -2,6 +2,33 @@ package com.taskfoo.taskfoo_backend.repository;
 
 import com.taskfoo.taskfoo_backend.model.Epic;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface EpicRepository extends JpaRepository<Epic, Long> {
-}
\ No newline at end of file
+
+    List<Epic> findByProjectId(Long projectId);
+
+    @Modifying
+    @Query(value = "DELETE FROM epics WHERE project_id = :projectId", nativeQuery = true)
+    int deleteByProject(Long projectId);
+
+    @Modifying
+    @Query(value = "DELETE FROM epics WHERE id = :id", nativeQuery = true)
+    int deleteNative(Long id);
+
+    /** epicId ya da projectId (diğeri null) kapsamındaki epic tarihlerini kaydırır */
+    @Modifying
+    @Query(value = """
+            UPDATE epics
+               SET start_date = start_date + CAST(:days AS integer),
+                   due_date   = due_date + CAST(:days AS integer)
+             WHERE id = CAST(:epicId AS bigint) OR project_id = CAST(:projectId AS bigint)
+            """, nativeQuery = true)
+    int shiftDates(Long epicId, Long projectId, int days);
+
+    @Query(value = "SELECT e.project_id FROM epics e WHERE e.id = :id", nativeQuery = true)
+    Long findProjectId(Long id);
+}
@@ -0,0 +1,52 @@
+// src/main/java/com/taskfoo/taskfoo_backend/repository/OutboxEventRepository.java
+package com.taskfoo.taskfoo_backend.repository;
+
+import com.taskfoo.taskfoo_backend.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * İmleçten (txid, id) sonraki kesinleşmiş event'ler. Hâlâ açık bir transaction'dan küçük
+     * txid'ler okunmaz: onlar commit olunca imlecin önünde görünürler.
+     */
+    @Query(value = """
+            SELECT o.id AS "id", CAST(CAST(o.txid AS text) AS bigint) AS "txid", o.type AS "type",
+                   o.project_id AS "projectId", CAST(o.payload AS text) AS "payload",
+                   to_char(o.created_at AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS.MS"Z"') AS "createdAt"
+              FROM outbox_events o
+             WHERE (o.txid, o.id) > (CAST(CAST(:afterTxid AS text) AS xid8), :afterId)
+               AND o.txid < pg_snapshot_xmin(pg_current_snapshot())
+             ORDER BY o.txid, o.id
+             LIMIT :limit
+            """, nativeQuery = true)
+    List<OutboxRow> findBatchAfter(long afterTxid, long afterId, int limit);
+
+    /** Yeni tüketici imleci: şu an kesinleşmiş her şey geride kalır (sadece yeni event'ler) */
+    @Query(value = "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint) - 1",
+            nativeQuery = true)
+    long findHorizon();
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM outbox_events
+             WHERE id IN (SELECT id FROM outbox_events WHERE created_at < :cutoff LIMIT :limit)
+            """, nativeQuery = true)
+    int deleteOlderThan(OffsetDateTime cutoff, int limit);
+
+    interface OutboxRow {
+        Long getId();
+        Long getTxid();
+        String getType();
+        Long getProjectId();
+        String getPayload();
+        String getCreatedAt();
+    }
+}
@@ -2,6 +2,21 @@ package com.taskfoo.taskfoo_backend.repository;
 
 import com.taskfoo.taskfoo_backend.model.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    @Modifying
+    @Query(value = "DELETE FROM projects WHERE id = :id", nativeQuery = true)
+    int deleteNative(Long id);
+
+    @Modifying
+    @Query(value = """
+            UPDATE projects
+               SET start_date = start_date + CAST(:days AS integer),
+                   due_date   = due_date + CAST(:days AS integer)
+             WHERE id = :id
+            """, nativeQuery = true)
+    int shiftDates(Long id, int days);
 }
@@ -0,0 +1,31 @@
+package com.taskfoo.taskfoo_backend.repository;
+
+import com.taskfoo.taskfoo_backend.model.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /** Koşullu rotasyon: sadece aktif token için 1 döner (yarışı DB çözer) */
+    @Modifying
+    @Query("update RefreshToken r set r.usedAt = :now where r.id = :id and r.usedAt is null and r.revokedAt is null")
+    int markUsed(Long id, OffsetDateTime now);
+
+    @Modifying
+    @Query("update RefreshToken r set r.revokedAt = :now where r.familyId = :familyId and r.revokedAt is null")
+    int revokeFamily(String familyId, OffsetDateTime now);
+
+    @Modifying
+    @Query("update RefreshToken r set r.revokedAt = :now where r.userId = :userId and r.revokedAt is null")
+    int revokeAllForUser(Long userId, OffsetDateTime now);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt < :before")
+    int deleteExpired(OffsetDateTime before);
+}
@@ -0,0 +1,136 @@
+package com.taskfoo.taskfoo_backend.repository;
+
+import com.taskfoo.taskfoo_backend.model.ArchivedTask;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Hot (tasks/task_user) <-> cold (tasks_archive/task_user_archive) taşıma.
+ * Hepsi set-based native statement; çağıran taraf batch'i tek transaction'da sırayla çalıştırır.
+ */
+public interface TaskArchiveRepository extends JpaRepository<ArchivedTask, Long> {
+
+    @EntityGraph(attributePaths = "assigneeIds")
+    @Query("select a from ArchivedTask a order by a.id")
+    List<ArchivedTask> findAllWithAssignees();
+
+    /* ---------------- Aday seçimi (satırlar kilitlenir: taşıma sırasında araya giren update kaybolmasın) ---------------- */
+
+    /** Bulk arşiv adayları: verilen status'larda ve son değişikliği {@code before}'dan eski */
+    @Query(value = """
+            SELECT t.id AS "id", e.project_id AS "projectId"
+              FROM tasks t
+              LEFT JOIN epics e ON e.id = t.epic_id
+             WHERE t.status_id IN (:statusIds)
+               AND COALESCE(t.updated_at, t.created_at AT TIME ZONE 'UTC') < :before
+             ORDER BY t.id
+             LIMIT :limit
+               FOR UPDATE OF t SKIP LOCKED
+            """, nativeQuery = true)
+    List<MoveRow> findArchiveCandidates(Collection<Long> statusIds, OffsetDateTime before, int limit);
+
+    @Query(value = """
+            SELECT t.id AS "id", e.project_id AS "projectId"
+              FROM tasks t
+              LEFT JOIN epics e ON e.id = t.epic_id
+             WHERE t.id IN (:ids)
+               FOR UPDATE OF t
+            """, nativeQuery = true)
+    List<MoveRow> findHotRows(Collection<Long> ids);
+
+    @Query(value = """
+            SELECT a.id AS "id", e.project_id AS "projectId"
+              FROM tasks_archive a
+              LEFT JOIN epics e ON e.id = a.epic_id
+             WHERE a.id IN (:ids)
+               FOR UPDATE OF a
+            """, nativeQuery = true)
+    List<MoveRow> findArchivedRows(Collection<Long> ids);
+
+    /* ---------------- Archive: hot -> cold ---------------- */
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO tasks_archive (id, title, description, start_date, due_date, created_at,
+                                       status_id, priority_id, epic_id, board_rank, version, updated_at, archived_at)
+            SELECT id, title, description, start_date, due_date, created_at,
+                   status_id, priority_id, epic_id, board_rank, version, updated_at, now()
+              FROM tasks
+             WHERE id IN (:ids)
+            """, nativeQuery = true)
+    int copyToArchive(Collection<Long> ids);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO task_user_archive (task_id, user_id)
+            SELECT task_id, user_id FROM task_user WHERE task_id IN (:ids)
+            """, nativeQuery = true)
+    int copyAssigneesToArchive(Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_user WHERE task_id IN (:ids)", nativeQuery = true)
+    int deleteHotAssignees(Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM tasks WHERE id IN (:ids)", nativeQuery = true)
+    int deleteHot(Collection<Long> ids);
+
+    /* ---------------- Restore: cold -> hot ---------------- */
+
+    /** Arada silinmiş status/priority/epic referansları null'a düşer; version bir artar */
+    @Modifying
+    @Query(value = """
+            INSERT INTO tasks (id, title, description, start_date, due_date, created_at,
+                               status_id, priority_id, epic_id, board_rank, version, updated_at)
+            SELECT a.id, a.title, a.description, a.start_date, a.due_date, a.created_at,
+                   (SELECT s.id FROM statuses s WHERE s.id = a.status_id),
+                   (SELECT p.id FROM priorities p WHERE p.id = a.priority_id),
+                   (SELECT e.id FROM epics e WHERE e.id = a.epic_id),
+                   a.board_rank, COALESCE(a.version, 0) + 1, now()
+              FROM tasks_archive a
+             WHERE a.id IN (:ids)
+            """, nativeQuery = true)
+    int copyToHot(Collection<Long> ids);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO task_user (task_id, user_id)
+            SELECT au.task_id, au.user_id
+              FROM task_user_archive au
+              JOIN users u ON u.id = au.user_id
+             WHERE au.task_id IN (:ids)
+            """, nativeQuery = true)
+    int copyAssigneesToHot(Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_user_archive WHERE task_id IN (:ids)", nativeQuery = true)
+    int deleteArchivedAssignees(Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM tasks_archive WHERE id IN (:ids)", nativeQuery = true)
+    int deleteArchived(Collection<Long> ids);
+
+    /* ---------------- Cascade delete ---------------- */
+
+    @Query(value = """
+            SELECT a.id FROM tasks_archive a JOIN epics e ON e.id = a.epic_id
+             WHERE e.project_id = :projectId
+             ORDER BY a.id
+             LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findIdsByProject(Long projectId, int limit);
+
+    @Query(value = "SELECT id FROM tasks_archive WHERE epic_id = :epicId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByEpic(Long epicId, int limit);
+
+    interface MoveRow {
+        Long getId();
+        Long getProjectId();
+    }
+}
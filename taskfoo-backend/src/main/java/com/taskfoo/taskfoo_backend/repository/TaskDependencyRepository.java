@@ -0,0 +1,147 @@
+// src/main/java/com/taskfoo/taskfoo_backend/repository/TaskDependencyRepository.java
+package com.taskfoo.taskfoo_backend.repository;
+
+import com.taskfoo.taskfoo_backend.model.TaskDependency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, Long> {
+
+    /** Projedeki kenarlar (projectId 0 -> projesiz task'lar) */
+    @Query(value = """
+            SELECT d.predecessor_id AS "predecessorId", d.successor_id AS "successorId"
+              FROM task_dependencies d
+              JOIN tasks t ON t.id = d.successor_id
+              LEFT JOIN epics e ON e.id = t.epic_id
+             WHERE COALESCE(e.project_id, 0) = :projectId
+            """, nativeQuery = true)
+    List<EdgeRow> findEdgesByProject(long projectId);
+
+    /** Projedeki task'ların tarihleri (dependency motoru düğümleri) */
+    @Query(value = """
+            SELECT t.id AS "id", t.start_date::text AS "startDate", t.due_date::text AS "dueDate"
+              FROM tasks t
+              LEFT JOIN epics e ON e.id = t.epic_id
+             WHERE COALESCE(e.project_id, 0) = :projectId
+            """, nativeQuery = true)
+    List<NodeRow> findNodesByProject(long projectId);
+
+    /** Etkilenen alt graf düğümlerinin güncel tarihleri */
+    @Query(value = """
+            SELECT t.id AS "id", t.start_date::text AS "startDate", t.due_date::text AS "dueDate"
+              FROM tasks t
+             WHERE t.id IN (:ids)
+            """, nativeQuery = true)
+    List<NodeRow> findNodesByIds(Collection<Long> ids);
+
+    /** Task'ın iki yöndeki kenarları */
+    @Query(value = """
+            SELECT d.predecessor_id AS "predecessorId", d.successor_id AS "successorId"
+              FROM task_dependencies d
+             WHERE d.successor_id = :taskId OR d.predecessor_id = :taskId
+            """, nativeQuery = true)
+    List<EdgeRow> findEdgesOfTask(Long taskId);
+
+    @Query(value = """
+            SELECT COALESCE(e.project_id, 0)
+              FROM tasks t
+              LEFT JOIN epics e ON e.id = t.epic_id
+             WHERE t.id = :taskId
+            """, nativeQuery = true)
+    Long findProjectKey(Long taskId);
+
+    /**
+     * Proje başına kenar ekleme kilidi (transaction sonunda bırakılır); projesiz task'lar 0 anahtarını
+     * paylaşır, bu yüzden proje satırı yerine advisory lock
+     */
+    @Query(value = """
+            SELECT count(*) FROM (SELECT pg_advisory_xact_lock(hashtext('task_dependencies'), CAST(:projectKey AS integer))) l
+            """, nativeQuery = true)
+    long lockProject(long projectKey);
+
+    boolean existsByPredecessorIdAndSuccessorId(Long predecessorId, Long successorId);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_dependencies WHERE predecessor_id = :predecessorId AND successor_id = :successorId",
+            nativeQuery = true)
+    int deleteEdge(Long predecessorId, Long successorId);
+
+    /* ---------------- Arşiv (task_dependencies_archive) ---------------- */
+
+    /** Arşivlenecek task'ların iki yöndeki kenarları; hot satırlar silinmeden (FK cascade) önce */
+    @Modifying
+    @Query(value = """
+            INSERT INTO task_dependencies_archive (id, predecessor_id, successor_id, created_at)
+            SELECT d.id, d.predecessor_id, d.successor_id, d.created_at
+              FROM task_dependencies d
+             WHERE d.predecessor_id IN (:taskIds) OR d.successor_id IN (:taskIds)
+            """, nativeQuery = true)
+    int copyEdgesToArchive(Collection<Long> taskIds);
+
+    /** Geri dönen task'ların arşivdeki kenarlarından iki ucu da hot ve aynı projede olanlar */
+    @Query(value = """
+            SELECT d.id AS "id", d.predecessor_id AS "predecessorId", d.successor_id AS "successorId",
+                   COALESCE(ep.project_id, 0) AS "projectKey"
+              FROM task_dependencies_archive d
+              JOIN tasks p ON p.id = d.predecessor_id
+              JOIN tasks s ON s.id = d.successor_id
+              LEFT JOIN epics ep ON ep.id = p.epic_id
+              LEFT JOIN epics es ON es.id = s.epic_id
+             WHERE (d.predecessor_id IN (:taskIds) OR d.successor_id IN (:taskIds))
+               AND COALESCE(ep.project_id, 0) = COALESCE(es.project_id, 0)
+             ORDER BY d.id
+            """, nativeQuery = true)
+    List<ArchivedEdgeRow> findRestorableEdges(Collection<Long> taskIds);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO task_dependencies (predecessor_id, successor_id, created_at)
+            SELECT predecessor_id, successor_id, created_at
+              FROM task_dependencies_archive
+             WHERE id IN (:archivedIds)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int copyEdgesToHot(Collection<Long> archivedIds);
+
+    /**
+     * Task'lar arşivden çıktıktan sonra: diğer ucu hâlâ arşivde olanlar kalır (o da dönünce yazılır),
+     * geri yazılan, atlanan ya da diğer ucu silinmiş olanlar temizlenir
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM task_dependencies_archive d
+             WHERE (d.predecessor_id IN (:taskIds) OR d.successor_id IN (:taskIds))
+               AND NOT EXISTS (SELECT 1 FROM tasks_archive a WHERE a.id IN (d.predecessor_id, d.successor_id))
+            """, nativeQuery = true)
+    int deleteSettledArchivedEdges(Collection<Long> taskIds);
+
+    /** Arşivdeki task'lar kalıcı silinince */
+    @Modifying
+    @Query(value = """
+            DELETE FROM task_dependencies_archive
+             WHERE predecessor_id IN (:taskIds) OR successor_id IN (:taskIds)
+            """, nativeQuery = true)
+    int deleteArchivedEdges(Collection<Long> taskIds);
+
+    interface EdgeRow {
+        Long getPredecessorId();
+        Long getSuccessorId();
+    }
+
+    interface ArchivedEdgeRow {
+        Long getId();
+        Long getPredecessorId();
+        Long getSuccessorId();
+        Long getProjectKey();
+    }
+
+    interface NodeRow {
+        Long getId();
+        String getStartDate();
+        String getDueDate();
+    }
+}
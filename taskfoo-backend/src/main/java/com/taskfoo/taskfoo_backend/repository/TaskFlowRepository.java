@@ -0,0 +1,164 @@
+// src/main/java/com/taskfoo/taskfoo_backend/repository/TaskFlowRepository.java
+package com.taskfoo.taskfoo_backend.repository;
+
+import com.taskfoo.taskfoo_backend.model.TaskFlowDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface TaskFlowRepository extends JpaRepository<TaskFlowDaily, Long> {
+
+    /**
+     * [:from, :to) aralığındaki task audit'lerinden (epic, status) başına net delta.
+     * CREATE/UPDATE/MOVE: changedFields içindeki statusId (old -1, new +1); DELETE: metadata.fromStatusId -1.
+     * Set-based CREATE (import) satırlarında changedFields yok: metadata.statusId +1.
+     * epicId diff'i olan UPDATE: task o anki status'üyle (metadata.statusId) eski epic'ten -1, yenisine +1.
+     * Epic: diff'teki yeni epic, yoksa audit metadata'sındaki epicId (null -> epic'siz), yoksa task'ın
+     * (hot/arşiv) mevcut epic'i.
+     */
+    String DELTAS = """
+            WITH ev AS (
+                SELECT a.entity_id AS task_id,
+                       CASE WHEN a.action = 'DELETE' THEN CAST(a.metadata->>'fromStatusId' AS bigint)
+                            WHEN sf IS NOT NULL THEN CAST(sf->>'oldValue' AS bigint)
+                            WHEN ef IS NOT NULL THEN CAST(a.metadata->>'statusId' AS bigint) END AS from_status,
+                       CASE WHEN a.action = 'DELETE' THEN NULL
+                            WHEN sf IS NOT NULL THEN CAST(sf->>'newValue' AS bigint)
+                            WHEN a.action = 'CREATE' OR ef IS NOT NULL THEN CAST(a.metadata->>'statusId' AS bigint) END AS to_status,
+                       CASE WHEN ef IS NOT NULL THEN COALESCE(CAST(ef->>'oldValue' AS bigint), 0) END AS from_epic,
+                       CASE WHEN ef IS NOT NULL THEN COALESCE(CAST(ef->>'newValue' AS bigint), 0)
+                            WHEN a.metadata->'epicId' IS NOT NULL THEN COALESCE(CAST(a.metadata->>'epicId' AS bigint), 0)
+                            END AS epic_id
+                  FROM audit_event a
+                  LEFT JOIN LATERAL jsonb_array_elements(
+                            CASE WHEN jsonb_typeof(a.changed_fields) = 'array' THEN a.changed_fields ELSE '[]'::jsonb END) sf
+                         ON sf->>'field' = 'statusId'
+                  LEFT JOIN LATERAL jsonb_array_elements(
+                            CASE WHEN jsonb_typeof(a.changed_fields) = 'array' THEN a.changed_fields ELSE '[]'::jsonb END) ef
+                         ON ef->>'field' = 'epicId'
+                 WHERE a.entity_type = 'TASK'
+                   AND a.action IN ('CREATE', 'UPDATE', 'MOVE', 'DELETE')
+                   AND a.created_at >= :from AND a.created_at < :to
+            ),
+            delta AS (
+                SELECT s.epic_id, s.status_id, sum(s.n) AS n
+                  FROM ev
+                  LEFT JOIN tasks t ON t.id = ev.task_id
+                  LEFT JOIN tasks_archive ta ON ta.id = ev.task_id
+                 CROSS JOIN LATERAL (VALUES
+                        (COALESCE(ev.from_epic, ev.epic_id, t.epic_id, ta.epic_id, 0), ev.from_status, -1),
+                        (COALESCE(ev.epic_id, t.epic_id, ta.epic_id, 0), ev.to_status, 1)) s(epic_id, status_id, n)
+                 WHERE s.status_id IS NOT NULL
+                 GROUP BY 1, 2
+            )
+            """;
+
+    /** :targetDay = :sourceDay snapshot'ı + :sign * delta (ileri: +1, geriye replay: -1) */
+    @Modifying
+    @Query(value = DELTAS + """
+            INSERT INTO task_flow_daily (day, project_id, epic_id, status_id, task_count)
+            SELECT CAST(:targetDay AS date), COALESCE(max(x.project_id), 0), x.epic_id, x.status_id, sum(x.n)
+              FROM (
+                    SELECT f.project_id, f.epic_id, f.status_id, f.task_count AS n
+                      FROM task_flow_daily f
+                     WHERE f.day = CAST(:sourceDay AS date)
+                    UNION ALL
+                    SELECT e.project_id, d.epic_id, d.status_id, CAST(:sign AS int) * d.n
+                      FROM delta d
+                      LEFT JOIN epics e ON e.id = d.epic_id
+                   ) x
+             GROUP BY x.epic_id, x.status_id
+            HAVING sum(x.n) <> 0
+            """, nativeQuery = true)
+    int insertStep(LocalDate targetDay, LocalDate sourceDay, OffsetDateTime from, OffsetDateTime to, int sign);
+
+    /** İlk çalıştırma: :targetDay = mevcut sayımlar (hot + arşiv) - [:from, :to) delta'ları */
+    @Modifying
+    @Query(value = DELTAS + """
+            INSERT INTO task_flow_daily (day, project_id, epic_id, status_id, task_count)
+            SELECT CAST(:targetDay AS date), COALESCE(max(x.project_id), 0), x.epic_id, x.status_id, sum(x.n)
+              FROM (
+                    SELECT e.project_id, COALESCE(t.epic_id, 0) AS epic_id, t.status_id, count(*) AS n
+                      FROM (SELECT epic_id, status_id FROM tasks
+                            UNION ALL
+                            SELECT epic_id, status_id FROM tasks_archive) t
+                      LEFT JOIN epics e ON e.id = t.epic_id
+                     WHERE t.status_id IS NOT NULL
+                     GROUP BY 1, 2, 3
+                    UNION ALL
+                    SELECT e.project_id, d.epic_id, d.status_id, -d.n
+                      FROM delta d
+                      LEFT JOIN epics e ON e.id = d.epic_id
+                   ) x
+             GROUP BY x.epic_id, x.status_id
+            HAVING sum(x.n) <> 0
+            """, nativeQuery = true)
+    int insertAnchor(LocalDate targetDay, OffsetDateTime from, OffsetDateTime to);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_flow_daily WHERE day = CAST(:day AS date)", nativeQuery = true)
+    int deleteDay(LocalDate day);
+
+    @Query(value = "SELECT CAST(max(day) AS text) FROM task_flow_daily", nativeQuery = true)
+    String findLastDay();
+
+    @Query(value = """
+            SELECT CAST(CAST(min(created_at) AS date) AS text)
+              FROM audit_event
+             WHERE entity_type = 'TASK'
+            """, nativeQuery = true)
+    String findFirstTaskAuditDay();
+
+    /* ---------------- Okuma ---------------- */
+
+    /** Kapanmış günler: gün + status başına toplam (projectId/epicId null -> filtre yok) */
+    @Query(value = """
+            SELECT f.day::text AS "day", f.status_id AS "statusId", sum(f.task_count) AS "count"
+              FROM task_flow_daily f
+             WHERE f.day BETWEEN CAST(:from AS date) AND CAST(:to AS date)
+               AND (CAST(:projectId AS bigint) IS NULL OR f.project_id = :projectId)
+               AND (CAST(:epicId AS bigint) IS NULL OR f.epic_id = :epicId)
+             GROUP BY f.day, f.status_id
+             ORDER BY f.day
+            """, nativeQuery = true)
+    List<FlowRow> findSeries(LocalDate from, LocalDate to, Long projectId, Long epicId);
+
+    /** Bugün (henüz kapanmamış): dünkü snapshot + bugünün delta'ları, persist edilmez */
+    @Query(value = DELTAS + """
+            SELECT CAST(CAST(:sourceDay AS date) + 1 AS text) AS "day", x.status_id AS "statusId", sum(x.n) AS "count"
+              FROM (
+                    SELECT f.project_id, f.epic_id, f.status_id, f.task_count AS n
+                      FROM task_flow_daily f
+                     WHERE f.day = CAST(:sourceDay AS date)
+                    UNION ALL
+                    SELECT e.project_id, d.epic_id, d.status_id, d.n
+                      FROM delta d
+                      LEFT JOIN epics e ON e.id = d.epic_id
+                   ) x
+             WHERE (CAST(:projectId AS bigint) IS NULL OR x.project_id = :projectId)
+               AND (CAST(:epicId AS bigint) IS NULL OR x.epic_id = :epicId)
+             GROUP BY x.status_id
+            HAVING sum(x.n) <> 0
+            """, nativeQuery = true)
+    List<FlowRow> findLiveDay(LocalDate sourceDay, OffsetDateTime from, OffsetDateTime to, Long projectId, Long epicId);
+
+    /* ---------------- Cascade delete ---------------- */
+
+    @Modifying
+    @Query(value = "DELETE FROM task_flow_daily WHERE project_id = :projectId", nativeQuery = true)
+    int deleteByProject(Long projectId);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_flow_daily WHERE epic_id = :epicId", nativeQuery = true)
+    int deleteByEpic(Long epicId);
+
+    interface FlowRow {
+        String getDay();
+        Long getStatusId();
+        Long getCount();
+    }
+}
@@ -1,10 +1,416 @@
 package com.taskfoo.taskfoo_backend.repository;
 
 import com.taskfoo.taskfoo_backend.model.Task;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByTitleContainingIgnoreCase(String title);
-}
\ No newline at end of file
+
+    /**
+     * Drag&drop fast path: SELECT + dirty checking yerine tek koşullu UPDATE.
+     * Version tutmazsa, task yoksa veya status zaten aynıysa 0 satır döner.
+     * Eski status aynı statement içindeki alt sorgudan (güncelleme öncesi snapshot) okunur.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE tasks t
+               SET status_id = :statusId, version = t.version + 1, updated_at = now()
+              FROM (SELECT id, status_id FROM tasks WHERE id = :id) o
+             WHERE t.id = o.id
+               AND t.version = :version
+               AND t.status_id IS DISTINCT FROM :statusId
+            RETURNING t.id                 AS "id",
+                      o.status_id          AS "fromStatusId",
+                      t.status_id          AS "toStatusId",
+                      t.version            AS "version",
+                      (SELECT e.project_id FROM epics e WHERE e.id = t.epic_id) AS "projectId"
+            """, nativeQuery = true)
+    List<StatusMoveRow> moveStatusIfVersion(Long id, Long statusId, Integer version);
+
+    /**
+     * Board move: status + rank tek satırlık koşullu UPDATE (kolon büyüklüğünden bağımsız tek yazma).
+     * Version tutmazsa veya task yoksa 0 satır döner.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE tasks t
+               SET status_id = :statusId, board_rank = :rank, version = t.version + 1, updated_at = now()
+              FROM (SELECT id, status_id, board_rank FROM tasks WHERE id = :id) o
+             WHERE t.id = o.id
+               AND t.version = :version
+            RETURNING t.id                 AS "id",
+                      o.status_id          AS "fromStatusId",
+                      t.status_id          AS "toStatusId",
+                      o.board_rank         AS "fromRank",
+                      t.board_rank         AS "boardRank",
+                      t.version            AS "version",
+                      (SELECT e.project_id FROM epics e WHERE e.id = t.epic_id) AS "projectId"
+            """, nativeQuery = true)
+    List<RankMoveRow> moveIfVersion(Long id, Long statusId, String rank, Integer version);
+
+    /*
+     * Rank kolonu = (proje, status): status'lar projeler arasında ortak olduğundan kolon projeye
+     * epics.project_id üzerinden daraltılır. Epic'siz task'lar kendi (projectId = null) kolonundadır.
+     */
+
+    @Query(value = """
+            SELECT t.id AS "id", t.status_id AS "statusId", t.board_rank AS "boardRank", e.project_id AS "projectId"
+              FROM tasks t LEFT JOIN epics e ON e.id = t.epic_id
+             WHERE t.id IN (:ids)
+            """, nativeQuery = true)
+    List<RankRow> findRanks(Collection<Long> ids);
+
+    @Query(value = """
+            SELECT max(t.board_rank) FROM tasks t LEFT JOIN epics e ON e.id = t.epic_id
+             WHERE t.status_id = :statusId
+               AND (e.project_id = CAST(:projectId AS bigint)
+                    OR (CAST(:projectId AS bigint) IS NULL AND t.epic_id IS NULL))
+            """, nativeQuery = true)
+    String findMaxRank(Long projectId, Long statusId);
+
+    @Query(value = """
+            SELECT DISTINCT e.project_id AS "projectId", t.status_id AS "statusId"
+              FROM tasks t LEFT JOIN epics e ON e.id = t.epic_id
+             WHERE t.board_rank IS NULL AND t.status_id IS NOT NULL
+            """, nativeQuery = true)
+    List<RankColumnRow> findColumnsWithUnrankedTasks();
+
+    /** Rebalance: kolonu sırasıyla kilitle (sırasız task'lar sona) */
+    @Query(value = """
+            SELECT t.id FROM tasks t LEFT JOIN epics e ON e.id = t.epic_id
+             WHERE t.status_id = :statusId
+               AND (e.project_id = CAST(:projectId AS bigint)
+                    OR (CAST(:projectId AS bigint) IS NULL AND t.epic_id IS NULL))
+             ORDER BY t.board_rank NULLS LAST, t.id
+               FOR UPDATE OF t
+            """, nativeQuery = true)
+    List<Long> lockColumn(Long projectId, Long statusId);
+
+    /** Diff için eski assignee id'leri; bekleyen değişiklikler flush edilmeden okunur */
+    @QueryHints(@QueryHint(name = "org.hibernate.flushMode", value = "COMMIT"))
+    @Query(value = "SELECT tu.user_id FROM task_user tu WHERE tu.task_id = :taskId", nativeQuery = true)
+    List<Long> findAssigneeIds(Long taskId);
+
+    /* ---------------- Cascade delete (chunk'lı) ---------------- */
+
+    @Query(value = """
+            SELECT t.id FROM tasks t JOIN epics e ON e.id = t.epic_id
+             WHERE e.project_id = :projectId
+             ORDER BY t.id
+             LIMIT :limit
+               FOR UPDATE OF t
+            """, nativeQuery = true)
+    List<Long> findIdsByProject(Long projectId, int limit);
+
+    @Query(value = "SELECT id FROM tasks WHERE epic_id = :epicId ORDER BY id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Long> findIdsByEpic(Long epicId, int limit);
+
+    /**
+     * Toplu tarih kaydırma: epic'in (epicId) ya da projenin (projectId) tarihli tüm task'ları tek
+     * UPDATE ile; diğer parametre null. Döner: yeni tarihler.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE tasks t
+               SET start_date = t.start_date + CAST(:days AS integer),
+                   due_date   = t.due_date + CAST(:days AS integer),
+                   version    = t.version + 1,
+                   updated_at = now()
+             WHERE (t.start_date IS NOT NULL OR t.due_date IS NOT NULL)
+               AND t.epic_id IN (SELECT e.id FROM epics e
+                                  WHERE e.id = CAST(:epicId AS bigint)
+                                     OR e.project_id = CAST(:projectId AS bigint))
+            RETURNING t.id AS "id", t.start_date::text AS "startDate", t.due_date::text AS "dueDate"
+            """, nativeQuery = true)
+    List<DateShiftRow> shiftDates(Long epicId, Long projectId, int days);
+
+    @Query(value = "SELECT count(*) FROM tasks t JOIN epics e ON e.id = t.epic_id WHERE e.project_id = :projectId", nativeQuery = true)
+    long countByProject(Long projectId);
+
+    @Query(value = "SELECT count(*) FROM tasks WHERE epic_id = :epicId", nativeQuery = true)
+    long countByEpic(Long epicId);
+
+    /* ---------------- Dashboard reconcile (GROUP BY; projectId null -> tüm projeler, 0 = yok) ---------------- */
+
+    @Query(value = """
+            SELECT COALESCE(e.project_id, 0) AS "projectId",
+                   COALESCE(t.status_id, 0)  AS "statusId",
+                   COALESCE(t.priority_id, 0) AS "priorityId",
+                   t.due_date::text          AS "dueDate",
+                   count(*)                  AS "count"
+              FROM tasks t
+              LEFT JOIN epics e ON e.id = t.epic_id
+             WHERE CAST(:projectId AS bigint) IS NULL OR e.project_id = :projectId
+             GROUP BY 1, 2, 3, 4
+            """, nativeQuery = true)
+    List<DashboardRow> countForDashboard(Long projectId);
+
+    @Query(value = """
+            SELECT COALESCE(e.project_id, 0) AS "projectId",
+                   COALESCE(tu.user_id, 0)   AS "userId",
+                   count(*)                  AS "count"
+              FROM tasks t
+              LEFT JOIN epics e ON e.id = t.epic_id
+              LEFT JOIN task_user tu ON tu.task_id = t.id
+             WHERE CAST(:projectId AS bigint) IS NULL OR e.project_id = :projectId
+             GROUP BY 1, 2
+            """, nativeQuery = true)
+    List<AssigneeCountRow> countAssigneesForDashboard(Long projectId);
+
+    /** Status başına son N task (LATERAL + LIMIT; tabloyu taramaz) */
+    @Query(value = """
+            SELECT r.id AS "id", r.title AS "title", r.status_id AS "statusId", r.priority_id AS "priorityId"
+              FROM statuses s
+             CROSS JOIN LATERAL (
+                   SELECT t.id, t.title, t.status_id, t.priority_id
+                     FROM tasks t
+                     LEFT JOIN epics e ON e.id = t.epic_id
+                    WHERE t.status_id = s.id
+                      AND (CAST(:projectId AS bigint) IS NULL OR e.project_id = :projectId)
+                    ORDER BY t.id DESC
+                    LIMIT :limit) r
+            """, nativeQuery = true)
+    List<RecentRow> findRecentPerStatus(Long projectId, int limit);
+
+    /** Cycle-time slice'ları: task'ın (hot veya arşiv) proje/epic/priority/assignee'leri */
+    @Query(value = """
+            SELECT t.id AS "id", e.project_id AS "projectId", t.epic_id AS "epicId", t.priority_id AS "priorityId",
+                   (SELECT string_agg(tu.user_id::text, ',') FROM task_user tu WHERE tu.task_id = t.id) AS "assigneeIds"
+              FROM tasks t
+              LEFT JOIN epics e ON e.id = t.epic_id
+             WHERE t.id IN (:ids)
+            UNION ALL
+            SELECT t.id, e.project_id, t.epic_id, t.priority_id,
+                   (SELECT string_agg(tu.user_id::text, ',') FROM task_user_archive tu WHERE tu.task_id = t.id)
+              FROM tasks_archive t
+              LEFT JOIN epics e ON e.id = t.epic_id
+             WHERE t.id IN (:ids)
+            """, nativeQuery = true)
+    List<SliceRow> findSliceAttributes(Collection<Long> ids);
+
+    /* ---------------- Gantt ---------------- */
+
+    /**
+     * [from, to] penceresiyle kesişen task'lar. İfade ve WHERE koşulu schema.sql'deki
+     * idx_tasks_date_range (GiST, daterange) ile birebir aynı olmalı ki index kullanılsın.
+     */
+    @Query(value = """
+            SELECT t.id
+              FROM tasks t
+              LEFT JOIN epics e ON e.id = t.epic_id
+             WHERE (t.start_date IS NOT NULL OR t.due_date IS NOT NULL)
+               AND daterange(LEAST(t.start_date, t.due_date), GREATEST(t.start_date, t.due_date), '[]')
+                   && daterange(CAST(:from AS date), CAST(:to AS date), '[]')
+               AND (CAST(:projectId AS bigint) IS NULL OR e.project_id = :projectId)
+            """, nativeQuery = true)
+    List<Long> findIdsInWindow(Long projectId, LocalDate from, LocalDate to);
+
+    /** Liste response'u için ilişkiler tek seferde */
+    @EntityGraph(attributePaths = {"status", "priority", "epic", "assignedUsers"})
+    List<Task> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Export: forward-only cursor (fetch size kadar satır bellekte). Entity değil projection:
+     * persistence context'e hiçbir şey girmez, satırlar yazıldıkça GC'ye kalır.
+     * Transaction içinde tüketilmeli (PostgreSQL cursor'u autocommit kapalıyken açar).
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query(value = """
+            SELECT t.id AS "id", t.title AS "title", t.description AS "description",
+                   s.name AS "status", p.name AS "priority",
+                   e.id AS "epicId", e.name AS "epic", pr.id AS "projectId", pr.name AS "project",
+                   t.start_date::text AS "startDate", t.due_date::text AS "dueDate",
+                   (SELECT string_agg(u.email, ';' ORDER BY u.id)
+                      FROM task_user tu JOIN users u ON u.id = tu.user_id
+                     WHERE tu.task_id = t.id) AS "assignees",
+                   t.version AS "version", t.created_at::text AS "createdAt", t.updated_at::text AS "updatedAt"
+              FROM tasks t
+              LEFT JOIN statuses s ON s.id = t.status_id
+              LEFT JOIN priorities p ON p.id = t.priority_id
+              LEFT JOIN epics e ON e.id = t.epic_id
+              LEFT JOIN projects pr ON pr.id = e.project_id
+             WHERE CAST(:projectId AS bigint) IS NULL OR e.project_id = CAST(:projectId AS bigint)
+             ORDER BY t.id
+            """, nativeQuery = true)
+    Stream<ExportRow> streamForExport(Long projectId);
+
+    /** Board bootstrap: projenin tüm task'ları, ilişkileriyle tek sorguda */
+    @EntityGraph(attributePaths = {"status", "priority", "epic", "assignedUsers"})
+    List<Task> findByEpicProjectId(Long projectId);
+
+    /**
+     * Board ETag'i: projenin task'ları (sayı, version toplamı, son güncelleme, atamalar) ve
+     * referans verinin (status, priority, user, project, projedeki epic'ler) satır özeti; tek sorgu.
+     */
+    @Query(value = """
+            SELECT md5(concat_ws('|',
+                   (SELECT count(*) || '.' || COALESCE(sum(t.version), 0) || '.' || COALESCE(max(t.id), 0)
+                           || '.' || COALESCE(max(t.updated_at)::text, '')
+                      FROM tasks t JOIN epics e ON e.id = t.epic_id
+                     WHERE e.project_id = :projectId),
+                   (SELECT count(*) || '.' || COALESCE(sum(tu.user_id), 0)
+                      FROM task_user tu JOIN tasks t ON t.id = tu.task_id JOIN epics e ON e.id = t.epic_id
+                     WHERE e.project_id = :projectId),
+                   (SELECT string_agg(s::text, ',' ORDER BY s.id) FROM statuses s),
+                   (SELECT string_agg(p::text, ',' ORDER BY p.id) FROM priorities p),
+                   (SELECT string_agg(u.id || ':' || COALESCE(u.name, '') || ':' || COALESCE(u.surname, '')
+                                      || ':' || COALESCE(u.email, ''), ',' ORDER BY u.id) FROM users u),
+                   (SELECT string_agg(r.user_id || ':' || r.role, ',' ORDER BY r.user_id, r.role) FROM user_roles r),
+                   (SELECT string_agg(pr::text, ',' ORDER BY pr.id) FROM projects pr),
+                   (SELECT string_agg(e::text, ',' ORDER BY e.id) FROM epics e WHERE e.project_id = :projectId)))
+            """, nativeQuery = true)
+    String findBoardFingerprint(Long projectId);
+
+    /** Epic özet çubukları: epic'in tüm task'larının aralığı ve sayıları (idx_tasks_epic) */
+    @Query(value = """
+            SELECT t.epic_id AS "epicId",
+                   CAST(min(LEAST(t.start_date, t.due_date)) AS text)    AS "startDate",
+                   CAST(max(GREATEST(t.start_date, t.due_date)) AS text) AS "dueDate",
+                   count(*)                                              AS "taskCount",
+                   count(*) FILTER (WHERE s.name IN (:doneStatuses))     AS "doneCount"
+              FROM tasks t
+              LEFT JOIN statuses s ON s.id = t.status_id
+             WHERE t.epic_id IN (:epicIds)
+             GROUP BY t.epic_id
+            """, nativeQuery = true)
+    List<EpicSpanRow> findEpicSpans(Collection<Long> epicIds, Collection<String> doneStatuses);
+
+    /* ---------------- Due-date reminder'ları ---------------- */
+
+    /** Açılışta: due date'i bugün veya sonrası olan task'lar (idx_tasks_due_date) */
+    @Query(value = """
+            SELECT t.id AS "id", t.title AS "title", t.due_date::text AS "dueDate",
+                   t.status_id AS "statusId", e.project_id AS "projectId"
+              FROM tasks t
+              LEFT JOIN epics e ON e.id = t.epic_id
+             WHERE t.due_date >= CAST(:from AS date)
+            """, nativeQuery = true)
+    List<ReminderRow> findDueFrom(LocalDate from);
+
+    @Query(value = """
+            SELECT t.id AS "id", t.title AS "title", t.due_date::text AS "dueDate",
+                   t.status_id AS "statusId", e.project_id AS "projectId"
+              FROM tasks t
+              LEFT JOIN epics e ON e.id = t.epic_id
+             WHERE t.id IN (:ids) AND t.due_date IS NOT NULL
+            """, nativeQuery = true)
+    List<ReminderRow> findDueByIds(Collection<Long> ids);
+
+    /** Toplu tarih kaydırma sonrası: shiftDates ile aynı kapsamın due date'li task'ları */
+    @Query(value = """
+            SELECT t.id AS "id", t.title AS "title", t.due_date::text AS "dueDate",
+                   t.status_id AS "statusId", e.project_id AS "projectId"
+              FROM tasks t
+              JOIN epics e ON e.id = t.epic_id
+             WHERE t.due_date IS NOT NULL
+               AND (e.id = CAST(:epicId AS bigint) OR e.project_id = CAST(:projectId AS bigint))
+            """, nativeQuery = true)
+    List<ReminderRow> findDueByShiftScope(Long epicId, Long projectId);
+
+    interface EpicSpanRow {
+        Long getEpicId();
+        String getStartDate();
+        String getDueDate();
+        Long getTaskCount();
+        Long getDoneCount();
+    }
+
+    interface ReminderRow {
+        Long getId();
+        String getTitle();
+        String getDueDate();
+        Long getStatusId();
+        Long getProjectId();
+    }
+
+    interface DashboardRow {
+        Long getProjectId();
+        Long getStatusId();
+        Long getPriorityId();
+        String getDueDate();
+        Long getCount();
+    }
+
+    interface AssigneeCountRow {
+        Long getProjectId();
+        Long getUserId();
+        Long getCount();
+    }
+
+    interface RecentRow {
+        Long getId();
+        String getTitle();
+        Long getStatusId();
+        Long getPriorityId();
+    }
+
+    interface SliceRow {
+        Long getId();
+        Long getProjectId();
+        Long getEpicId();
+        Long getPriorityId();
+        String getAssigneeIds();
+    }
+
+    interface StatusMoveRow {
+        Long getId();
+        Long getFromStatusId();
+        Long getToStatusId();
+        Integer getVersion();
+        Long getProjectId();
+    }
+
+    interface RankMoveRow extends StatusMoveRow {
+        String getFromRank();
+        String getBoardRank();
+    }
+
+    interface RankRow {
+        Long getId();
+        Long getStatusId();
+        String getBoardRank();
+        Long getProjectId();
+    }
+
+    interface RankColumnRow {
+        Long getProjectId();
+        Long getStatusId();
+    }
+
+    interface DateShiftRow {
+        Long getId();
+        String getStartDate();
+        String getDueDate();
+    }
+
+    interface ExportRow {
+        Long getId();
+        String getTitle();
+        String getDescription();
+        String getStatus();
+        String getPriority();
+        Long getEpicId();
+        String getEpic();
+        Long getProjectId();
+        String getProject();
+        String getStartDate();
+        String getDueDate();
+        String getAssignees();
+        Integer getVersion();
+        String getCreatedAt();
+        String getUpdatedAt();
+    }
+}
@@ -2,8 +2,22 @@ package com.taskfoo.taskfoo_backend.repository;
 
 import com.taskfoo.taskfoo_backend.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    @Query("select u.id as id, u.tokenVersion as tokenVersion from User u")
+    List<TokenVersionView> findAllTokenVersions();
+
+    @Query("select u.tokenVersion from User u where u.id = :id")
+    Optional<Integer> findTokenVersionById(Long id);
+
+    interface TokenVersionView {
+        Long getId();
+        int getTokenVersion();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+// src/main/java/com/taskfoo/taskfoo_backend/repository/WebhookEndpointRepository.java
+package com.taskfoo.taskfoo_backend.repository;
+
+import com.taskfoo.taskfoo_backend.model.WebhookEndpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface WebhookEndpointRepository extends JpaRepository<WebhookEndpoint, Long> {
+
+    /**
+     * Teslim edilecek event'i olan, backoff süresi dolmuş ve başka node'da işlenmeyen
+     * endpoint'leri leaseSeconds süreliğine kilitler.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE webhook_endpoints w
+               SET lease_until = now() + make_interval(secs => :leaseSeconds)
+             WHERE w.id IN (
+                    SELECT c.id FROM webhook_endpoints c
+                     WHERE c.active
+                       AND c.next_attempt_at <= now()
+                       AND (c.lease_until IS NULL OR c.lease_until < now())
+                       AND EXISTS (SELECT 1 FROM outbox_events o
+                                    WHERE (o.txid, o.id) > (CAST(CAST(c.last_txid AS text) AS xid8), c.last_event_id)
+                                      AND o.txid < pg_snapshot_xmin(pg_current_snapshot()))
+                     ORDER BY c.id
+                     LIMIT :limit
+                       FOR UPDATE SKIP LOCKED)
+            RETURNING w.id AS "id", w.url AS "url", w.secret AS "secret", w.event_types AS "eventTypes",
+                      w.project_id AS "projectId", w.last_txid AS "lastTxid", w.last_event_id AS "lastEventId",
+                      w.failures AS "failures"
+            """, nativeQuery = true)
+    List<ClaimRow> claimDue(int leaseSeconds, int limit);
+
+    /** Batch teslim edildi (ya da filtreye uymadı): imleç ilerler, hata sayacı sıfırlanır, lease uzar */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE webhook_endpoints
+               SET last_txid = :txid, last_event_id = :eventId, failures = 0, last_error = NULL,
+                   last_delivered_at = CASE WHEN :delivered THEN now() ELSE last_delivered_at END,
+                   lease_until = now() + make_interval(secs => :leaseSeconds)
+             WHERE id = :id
+            """, nativeQuery = true)
+    int advance(Long id, long txid, long eventId, boolean delivered, int leaseSeconds);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE webhook_endpoints
+               SET failures = :failures, last_error = :error, lease_until = NULL,
+                   next_attempt_at = now() + make_interval(secs => :delaySeconds)
+             WHERE id = :id
+            """, nativeQuery = true)
+    int markFailed(Long id, int failures, String error, double delaySeconds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE webhook_endpoints SET lease_until = NULL WHERE id = :id", nativeQuery = true)
+    int release(Long id);
+
+    interface ClaimRow {
+        Long getId();
+        String getUrl();
+        String getSecret();
+        String getEventTypes();
+        Long getProjectId();
+        Long getLastTxid();
+        Long getLastEventId();
+        Integer getFailures();
+    }
+}
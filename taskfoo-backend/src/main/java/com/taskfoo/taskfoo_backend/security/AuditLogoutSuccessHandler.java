@@ -3,7 +3,9 @@ package com.taskfoo.taskfoo_backend.security;
 
 import com.taskfoo.taskfoo_backend.model.AuditEvent;
 import com.taskfoo.taskfoo_backend.repository.AuditEventRepository;
+import com.taskfoo.taskfoo_backend.service.RefreshTokenService;
 import com.taskfoo.taskfoo_backend.support.RequestContext;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -12,6 +14,7 @@ import org.springframework.security.web.authentication.logout.LogoutSuccessHandl
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -19,9 +22,18 @@ import java.util.Optional;
 public class AuditLogoutSuccessHandler implements LogoutSuccessHandler {
 
     private final AuditEventRepository repo;
+    private final JwtService jwtService;
+    private final TokenRevocationRegistry revocations;
+    private final RefreshTokenService refreshTokens;
 
-    public AuditLogoutSuccessHandler(AuditEventRepository repo) {
+    public AuditLogoutSuccessHandler(AuditEventRepository repo,
+                                     JwtService jwtService,
+                                     TokenRevocationRegistry revocations,
+                                     RefreshTokenService refreshTokens) {
         this.repo = repo;
+        this.jwtService = jwtService;
+        this.revocations = revocations;
+        this.refreshTokens = refreshTokens;
     }
 
     @Override
@@ -31,16 +43,39 @@ public class AuditLogoutSuccessHandler implements LogoutSuccessHandler {
         var rc = RequestContext.get();
         String name = authentication != null ? authentication.getName() : "unknown";
 
+        Map<String, Object> metadata = new HashMap<>(Map.of(
+                "event", "LOGOUT",
+                "ip", Optional.ofNullable(rc.ip).orElse("-"),
+                "userAgent", Optional.ofNullable(rc.userAgent).orElse("-")
+        ));
+
+        // Logout filtresi JWT filtresinden önce çalışır: token'ı header'dan kendimiz çözüp iptal ediyoruz
+        String header = request.getHeader("Authorization");
+        Claims claims = (header != null && header.startsWith("Bearer ")) ? jwtService.verify(header.substring(7)) : null;
+        if (claims != null) {
+            name = claims.getSubject();
+            revocations.revokeToken(claims.getId(), claims.getExpiration());
+            if (claims.getId() != null) {
+                // açılışta registry bu kayıtlardan yeniden kurulur
+                metadata.put("jti", claims.getId());
+                metadata.put("exp", claims.getExpiration().getTime());
+            }
+            // refresh zinciri de kapanmazsa /auth/refresh logout'tan sonra da access token basar
+            if (claims.get(JwtClaims.REFRESH_FAMILY) instanceof String family) {
+                refreshTokens.revokeFamily(family);
+                metadata.put("refreshFamily", family);
+            } else if (claims.get(JwtClaims.USER_ID) instanceof Number uid) {
+                // family claim'i olmayan eski token: hangi zincir olduğu bilinmiyor, hepsi kapanır
+                refreshTokens.revokeAllForUser(uid.longValue());
+            }
+        }
+
         repo.save(AuditEvent.builder()
                 .entityType("AUTH")
                 .action(AuditEvent.AuditAction.DELETE)   // istersen enum’a LOGOUT ekleyebilirsin
                 .actorName(name)
                 .pageContext("AUTH")
-                .metadata(Map.of(
-                        "event", "LOGOUT",
-                        "ip", Optional.ofNullable(rc.ip).orElse("-"),
-                        "userAgent", Optional.ofNullable(rc.userAgent).orElse("-")
-                ))
+                .metadata(metadata)
                 .build());
 
         // Varsayılan davranış: 200/redirect’ini sen belirle (gerekirse)
@@ -0,0 +1,109 @@
+// src/main/java/com/taskfoo/taskfoo_backend/security/BoundedPasswordEncoder.java
+package com.taskfoo.taskfoo_backend.security;
+
+import com.taskfoo.taskfoo_backend.support.RetryAfterException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt'i Tomcat thread'lerinde sınırsız çalıştırmak yerine sabit boyutlu bir havuza taşır.
+ * Kuyruk doluysa (veya hash zamanında bitmezse) istek beklemeden 503 ile reddedilir;
+ * böylece login patlaması task API'lerinin thread'lerini tüketemez.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate,
+                                  int threads,
+                                  int queueCapacity,
+                                  long timeoutMillis,
+                                  MeterRegistry meters) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "pwd-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeTimer = Timer.builder("auth.password.hash").tag("op", "encode").register(meters);
+        this.matchTimer = Timer.builder("auth.password.hash").tag("op", "matches").register(meters);
+        this.rejectedQueueFull = Counter.builder("auth.password.rejected").tag("reason", "queue_full").register(meters);
+        this.rejectedTimeout = Counter.builder("auth.password.rejected").tag("reason", "timeout").register(meters);
+        Gauge.builder("auth.password.queue", executor, e -> e.getQueue().size()).register(meters);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount).register(meters);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword), matchTimer);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /** @Bean destroy-method çıkarımı ile context kapanırken çağrılır */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Callable<T> task, Timer timer) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejectedQueueFull.increment();
+            throw overloaded();
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedTimeout.increment();
+            throw overloaded();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static RetryAfterException overloaded() {
+        return new RetryAfterException(HttpStatus.SERVICE_UNAVAILABLE,
+                "Authentication is busy, please retry shortly", 1);
+    }
+}
@@ -1,11 +1,13 @@
 package com.taskfoo.taskfoo_backend.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -18,10 +20,17 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final CustomUserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationRegistry revocations;
 
-    public JwtAuthFilter(JwtService jwtService, CustomUserDetailsService uds) {
+    public JwtAuthFilter(JwtService jwtService,
+                         CustomUserDetailsService uds,
+                         PrincipalCache principalCache,
+                         TokenRevocationRegistry revocations) {
         this.jwtService = jwtService;
         this.userDetailsService = uds;
+        this.principalCache = principalCache;
+        this.revocations = revocations;
     }
 
     @Override
@@ -31,10 +40,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String header = req.getHeader("Authorization");
         if (StringUtils.hasText(header) && header.startsWith("Bearer ")) {
             String token = header.substring(7);
-            if (jwtService.isValid(token)) {
-                String email = jwtService.extractSubject(token);
-                var userDetails = userDetailsService.loadUserByUsername(email);
-
+            Claims claims = jwtService.verify(token); // tek parse + imza doğrulama
+            UserPrincipal userDetails = claims == null ? null : resolvePrincipal(token, claims);
+            if (userDetails != null) {
                 var auth = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(req));
@@ -44,4 +52,29 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         chain.doFilter(req, res);
     }
+
+    /**
+     * uid/roles/ver taşıyan token'larda principal doğrudan claim'lerden kurulur (DB yok).
+     * Eski token'larda cache hit'te DB'ye gidilmez; miss'te kullanıcı bir kez yüklenip cache'lenir.
+     */
+    private UserPrincipal resolvePrincipal(String token, Claims claims) {
+        if (JwtClaims.isStateless(claims)) {
+            UserPrincipal p = UserPrincipal.fromClaims(claims);
+            var u = p.getUser();
+            return revocations.isAccepted(u.getId(), u.getTokenVersion(), claims.getId()) ? p : null;
+        }
+
+        String digest = PrincipalCache.digest(token);
+        UserPrincipal cached = principalCache.get(digest);
+        if (cached != null) return cached;
+
+        long generation = principalCache.generation();
+        try {
+            UserPrincipal loaded = (UserPrincipal) userDetailsService.loadUserByUsername(claims.getSubject());
+            principalCache.put(digest, loaded, claims.getExpiration(), generation);
+            return loaded;
+        } catch (UsernameNotFoundException e) {
+            return null; // token geçerli ama kullanıcı silinmiş
+        }
+    }
 }
\ No newline at end of file
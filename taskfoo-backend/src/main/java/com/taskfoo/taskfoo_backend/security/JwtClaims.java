@@ -0,0 +1,37 @@
+// src/main/java/com/taskfoo/taskfoo_backend/security/JwtClaims.java
+package com.taskfoo.taskfoo_backend.security;
+
+import com.taskfoo.taskfoo_backend.model.Role;
+import com.taskfoo.taskfoo_backend.model.User;
+import io.jsonwebtoken.Claims;
+
+import java.util.List;
+import java.util.Map;
+
+/** Access token claim isimleri + üretimi (AuthService ve filter aynı sözleşmeyi kullanır) */
+public final class JwtClaims {
+
+    public static final String USER_ID = "uid";
+    public static final String ROLES = "roles";
+    public static final String USER_VERSION = "ver";
+    /** Token'ın çıktığı refresh family'si: logout'ta o oturumun refresh zinciri de iptal edilir */
+    public static final String REFRESH_FAMILY = "fid";
+
+    private JwtClaims() {}
+
+    public static Map<String, Object> of(User u, String refreshFamily) {
+        List<String> roles = u.getRoles() == null ? List.of()
+                : u.getRoles().stream().map(Role::name).sorted().toList();
+        return Map.of(
+                USER_ID, u.getId(),
+                ROLES, roles,
+                USER_VERSION, u.getTokenVersion(),
+                REFRESH_FAMILY, refreshFamily
+        );
+    }
+
+    /** roles claim'i olmayan token'lar bu değişiklikten önce üretilmiş eski token'lardır */
+    public static boolean isStateless(Claims c) {
+        return c.get(ROLES) != null && c.get(USER_ID) != null;
+    }
+}
@@ -9,12 +9,14 @@ import org.springframework.stereotype.Service;
 import java.security.Key;
 import java.util.Date;
 import java.util.Map;
+import java.util.UUID;
 
 @Service
 public class JwtService {
 
     private final Key key;
     private final long accessExpMillis;
+    private final JwtParser parser; // immutable + thread-safe, her istekte yeniden kurulmaz
 
     public JwtService(
             @Value("${app.jwt.secret}") String secret,
@@ -24,12 +26,14 @@ public class JwtService {
                 java.util.Base64.getEncoder().encodeToString(secret.getBytes())
         ));
         this.accessExpMillis = accessExpMinutes * 60 * 1000;
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     public String generate(String subject, Map<String,Object> claims) {
         long now = System.currentTimeMillis();
         return Jwts.builder()
                 .setSubject(subject)
+                .setId(UUID.randomUUID().toString()) // jti: logout'ta tekil iptal için
                 .addClaims(claims)
                 .setIssuedAt(new Date(now))
                 .setExpiration(new Date(now + accessExpMillis))
@@ -37,16 +41,25 @@ public class JwtService {
                 .compact();
     }
 
+    public long accessExpMillis() {
+        return accessExpMillis;
+    }
+
+    /** Tek parse: imza + exp doğrulanır, geçersiz token'da null döner */
+    public Claims verify(String token) {
+        try { return parseAll(token).getBody(); }
+        catch (JwtException | IllegalArgumentException e) { return null; }
+    }
+
     public String extractSubject(String token) {
         return parseAll(token).getBody().getSubject();
     }
 
     public boolean isValid(String token) {
-        try { parseAll(token); return true; }
-        catch (JwtException | IllegalArgumentException e) { return false; }
+        return verify(token) != null;
     }
 
     private Jws<Claims> parseAll(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return parser.parseClaimsJws(token);
     }
 }
\ No newline at end of file
@@ -0,0 +1,108 @@
+// src/main/java/com/taskfoo/taskfoo_backend/security/LoginRateLimiter.java
+package com.taskfoo.taskfoo_backend.security;
+
+import com.taskfoo.taskfoo_backend.support.RetryAfterException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * /auth/login ve /auth/register için IP ve hesap bazlı token bucket'lar.
+ * Bucket'lar lock-free (CAS); hash havuzuna hiç girmeden 429 döner.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final int MAX_KEYS = 100_000;
+
+    private final Limits ipLimits;
+    private final Limits accountLimits;
+    private final ConcurrentHashMap<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, TokenBucket> accountBuckets = new ConcurrentHashMap<>();
+
+    private final Counter ipRejected;
+    private final Counter accountRejected;
+
+    public LoginRateLimiter(
+            @Value("${app.auth.rate.ip.capacity:20}") int ipCapacity,
+            @Value("${app.auth.rate.ip.per-minute:20}") int ipPerMinute,
+            @Value("${app.auth.rate.account.capacity:5}") int accountCapacity,
+            @Value("${app.auth.rate.account.per-minute:5}") int accountPerMinute,
+            MeterRegistry meters
+    ) {
+        this.ipLimits = new Limits(ipCapacity, ipPerMinute);
+        this.accountLimits = new Limits(accountCapacity, accountPerMinute);
+        this.ipRejected = Counter.builder("auth.rate_limited").tag("scope", "ip").register(meters);
+        this.accountRejected = Counter.builder("auth.rate_limited").tag("scope", "account").register(meters);
+    }
+
+    public void checkLogin(String ip, String email) {
+        checkIp(ip);
+        if (email != null && !acquire(accountBuckets, email.trim().toLowerCase(Locale.ROOT), accountLimits)) {
+            accountRejected.increment();
+            throw tooMany();
+        }
+    }
+
+    public void checkIp(String ip) {
+        if (ip != null && !acquire(ipBuckets, ip, ipLimits)) {
+            ipRejected.increment();
+            throw tooMany();
+        }
+    }
+
+    private static boolean acquire(ConcurrentHashMap<String, TokenBucket> buckets, String key, Limits limits) {
+        long now = System.nanoTime();
+        if (buckets.size() > MAX_KEYS) {
+            buckets.values().removeIf(b -> b.isFull(now)); // boşta kalan (dolu) bucket'lar bilgi taşımaz
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(limits, now)).tryAcquire(now);
+    }
+
+    private static RetryAfterException tooMany() {
+        return new RetryAfterException(HttpStatus.TOO_MANY_REQUESTS,
+                "Too many authentication attempts, slow down", 60);
+    }
+
+    private record Limits(double capacity, double refillPerNano) {
+        Limits(int capacity, int perMinute) {
+            this(capacity, perMinute / 60_000_000_000d);
+        }
+    }
+
+    static final class TokenBucket {
+        private final Limits limits;
+        private final AtomicReference<State> state;
+
+        TokenBucket(Limits limits, long now) {
+            this.limits = limits;
+            this.state = new AtomicReference<>(new State(limits.capacity(), now));
+        }
+
+        boolean tryAcquire(long now) {
+            while (true) {
+                State s = state.get();
+                double tokens = refilled(s, now);
+                if (tokens < 1) return false;
+                if (state.compareAndSet(s, new State(tokens - 1, Math.max(now, s.at())))) return true;
+            }
+        }
+
+        boolean isFull(long now) {
+            return refilled(state.get(), now) >= limits.capacity();
+        }
+
+        private double refilled(State s, long now) {
+            long elapsed = Math.max(0, now - s.at());
+            return Math.min(limits.capacity(), s.tokens() + elapsed * limits.refillPerNano());
+        }
+
+        private record State(double tokens, long at) {}
+    }
+}
@@ -0,0 +1,102 @@
+// src/main/java/com/taskfoo/taskfoo_backend/security/PrincipalCache.java
+package com.taskfoo.taskfoo_backend.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Doğrulanmış token digest'i -> UserPrincipal önbelleği.
+ * Boyut sınırlı, TTL token'ın exp'ini asla geçmez; kullanıcı değişince invalidateUser ile temizlenir.
+ */
+@Component
+public class PrincipalCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /** Her invalidation'da artar; DB'den yüklerken araya giren değişiklik eski principal'ı cache'e yazdırmaz */
+    private final AtomicLong generation = new AtomicLong();
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try { return MessageDigest.getInstance("SHA-256"); }
+        catch (NoSuchAlgorithmException e) { throw new IllegalStateException(e); }
+    });
+
+    public PrincipalCache(
+            @Value("${app.jwt.principal-cache.max-entries:10000}") int maxEntries,
+            @Value("${app.jwt.principal-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /** Ham token yerine digest saklanır (bellek dökümünde token sızmasın) */
+    public static String digest(String token) {
+        byte[] hash = SHA256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public UserPrincipal get(String digest) {
+        Entry e = entries.get(digest);
+        if (e == null) return null;
+        if (e.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(digest, e);
+            return null;
+        }
+        return e.principal;
+    }
+
+    /** observedGeneration: principal yüklenmeden önce okunan generation() değeri */
+    public void put(String digest, UserPrincipal principal, Date tokenExpiry, long observedGeneration) {
+        if (maxEntries <= 0) return;
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttlMillis;
+        if (tokenExpiry != null) expiresAt = Math.min(expiresAt, tokenExpiry.getTime());
+        if (expiresAt <= now) return;
+
+        if (entries.size() >= maxEntries) evict(now);
+        entries.put(digest, new Entry(principal, principal.getUser().getId(), expiresAt));
+
+        // yükleme sırasında invalidation olduysa yazdığımızı geri al
+        if (generation.get() != observedGeneration) entries.remove(digest);
+    }
+
+    /** Rol değişikliği / silme sonrası o kullanıcıya ait tüm girdileri düşür */
+    public void invalidateUser(Long userId) {
+        generation.incrementAndGet();
+        entries.values().removeIf(e -> Objects.equals(e.userId, userId));
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    /** Önce süresi dolanlar; hâlâ doluysa ~%10 rastgele girdi atılır */
+    private void evict(long now) {
+        entries.values().removeIf(e -> e.expiresAt <= now);
+        int excess = entries.size() - maxEntries + Math.max(1, maxEntries / 10);
+        Iterator<String> it = entries.keySet().iterator();
+        while (excess-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private record Entry(UserPrincipal principal, Long userId, long expiresAt) {}
+}
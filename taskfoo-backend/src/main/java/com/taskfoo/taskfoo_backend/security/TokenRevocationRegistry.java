@@ -0,0 +1,134 @@
+// src/main/java/com/taskfoo/taskfoo_backend/security/TokenRevocationRegistry.java
+package com.taskfoo.taskfoo_backend.security;
+
+import com.taskfoo.taskfoo_backend.model.AuditEvent;
+import com.taskfoo.taskfoo_backend.repository.AuditEventRepository;
+import com.taskfoo.taskfoo_backend.repository.UserRepository;
+import com.taskfoo.taskfoo_backend.service.AuditEventSpecs;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stateless token'lar için O(1) iptal kontrolü.
+ * - userId -> güncel token_version (rol değişikliği/silme eski token'ları geçersiz kılar)
+ * - jti -> exp (logout ile tekil iptal, exp geçince temizlenir)
+ * Açılışta DB'den (users + son logout audit kayıtları) yeniden kurulur.
+ * <p>
+ * Birden çok node: başka node'daki rol değişikliği/silme, version {@code revocation-sync-ms}'den
+ * eski olunca DB'den tekrar okunarak; logout'lar ise aynı periyotta audit kayıtlarından
+ * çekilerek görülür. Yani diğer node'lardaki iptaller en geç bu süre sonra etkili olur.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    /** Silinmiş kullanıcı işareti: bu kullanıcıya ait hiçbir token kabul edilmez */
+    private static final int DELETED = -1;
+    private static final int PURGE_THRESHOLD = 1024;
+
+    private final UserRepository userRepository;
+    private final AuditEventRepository auditRepository;
+    private final JwtService jwtService;
+    private final long syncMillis;
+
+    private final ConcurrentHashMap<Long, Version> versions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> revokedJtis = new ConcurrentHashMap<>();
+
+    /** Son logout senkronunun başladığı an; sadece scheduler thread'i yazar */
+    private volatile OffsetDateTime syncedUntil;
+
+    public TokenRevocationRegistry(UserRepository userRepository,
+                                   AuditEventRepository auditRepository,
+                                   JwtService jwtService,
+                                   @Value("${app.jwt.revocation-sync-ms:30000}") long syncMillis) {
+        this.userRepository = userRepository;
+        this.auditRepository = auditRepository;
+        this.jwtService = jwtService;
+        this.syncMillis = syncMillis;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        long now = System.currentTimeMillis();
+        versions.clear();
+        userRepository.findAllTokenVersions()
+                .forEach(v -> versions.put(v.getId(), new Version(v.getTokenVersion(), now)));
+
+        // Hâlâ süresi dolmamış olabilecek token'ların logout kayıtları
+        revokedJtis.clear();
+        OffsetDateTime start = OffsetDateTime.now();
+        loadLogouts(start.minusNanos(jwtService.accessExpMillis() * 1_000_000));
+        syncedUntil = start;
+    }
+
+    /** Diğer node'lardaki logout'lar (audit kayıtları commit gecikmesine karşı biraz geriden okunur) */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation-sync-ms:30000}", initialDelayString = "${app.jwt.revocation-sync-ms:30000}")
+    public void syncLogouts() {
+        OffsetDateTime start = OffsetDateTime.now();
+        loadLogouts(syncedUntil.minusNanos(syncMillis * 1_000_000));
+        syncedUntil = start;
+        purgeExpiredJtis();
+    }
+
+    /** Token hâlâ geçerli mi? Steady-state'te (version tazeyken) DB'ye gitmez. */
+    public boolean isAccepted(Long userId, int tokenVersion, String jti) {
+        if (jti != null && revokedJtis.containsKey(jti)) return false;
+        long now = System.currentTimeMillis();
+        Version current = versions.get(userId);
+        if (current == null || now - current.loadedAt() > syncMillis) {
+            // yok (ör. başka node'da kayıt oldu) ya da bayat: tek sorgu, sonuç cache'lenir
+            current = new Version(loadVersion(userId), now);
+            versions.put(userId, current);
+        }
+        return current.value() != DELETED && current.value() == tokenVersion;
+    }
+
+    public void userChanged(Long userId, int tokenVersion) {
+        versions.put(userId, new Version(tokenVersion, System.currentTimeMillis()));
+    }
+
+    public void userRemoved(Long userId) {
+        versions.put(userId, new Version(DELETED, System.currentTimeMillis()));
+    }
+
+    public void revokeToken(String jti, Date expiresAt) {
+        if (jti == null || expiresAt == null) return;
+        long exp = expiresAt.getTime();
+        if (exp <= System.currentTimeMillis()) return;
+        revokedJtis.put(jti, exp);
+        if (revokedJtis.size() > PURGE_THRESHOLD) purgeExpiredJtis();
+    }
+
+    private void loadLogouts(OffsetDateTime since) {
+        Specification<AuditEvent> spec = Specification.allOf(
+                AuditEventSpecs.entityTypeIs("AUTH"),
+                AuditEventSpecs.createdAtGte(since)
+        );
+        long now = System.currentTimeMillis();
+        for (AuditEvent e : auditRepository.findAll(spec)) {
+            Map<String, Object> m = e.getMetadata();
+            if (m == null || !"LOGOUT".equals(m.get("event"))) continue;
+            if (m.get("jti") instanceof String jti && m.get("exp") instanceof Number exp && exp.longValue() > now) {
+                revokedJtis.put(jti, exp.longValue());
+            }
+        }
+    }
+
+    private void purgeExpiredJtis() {
+        long now = System.currentTimeMillis();
+        revokedJtis.values().removeIf(e -> e <= now);
+    }
+
+    private int loadVersion(Long userId) {
+        return userRepository.findTokenVersionById(userId).orElse(DELETED);
+    }
+
+    private record Version(int value, long loadedAt) {}
+}
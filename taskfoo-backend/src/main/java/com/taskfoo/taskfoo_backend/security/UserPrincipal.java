@@ -2,11 +2,14 @@ package com.taskfoo.taskfoo_backend.security;
 
 import com.taskfoo.taskfoo_backend.model.Role;
 import com.taskfoo.taskfoo_backend.model.User;
+import io.jsonwebtoken.Claims;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -17,6 +20,20 @@ public class UserPrincipal implements UserDetails {
 
     public User getUser() { return user; }
 
+    /** Stateless principal: DB'ye gitmeden uid/roles/ver claim'lerinden kurulur (password yok) */
+    public static UserPrincipal fromClaims(Claims c) {
+        User u = new User();
+        u.setId(((Number) c.get(JwtClaims.USER_ID)).longValue());
+        u.setEmail(c.getSubject());
+        Set<Role> roles = new HashSet<>();
+        List<?> raw = c.get(JwtClaims.ROLES, List.class);
+        if (raw != null) raw.forEach(r -> roles.add(Role.valueOf(r.toString())));
+        u.setRoles(roles);
+        Number ver = c.get(JwtClaims.USER_VERSION, Number.class);
+        u.setTokenVersion(ver == null ? 0 : ver.intValue());
+        return new UserPrincipal(u);
+    }
+
     @Override public Collection<? extends GrantedAuthority> getAuthorities() {
         Set<Role> roles = user.getRoles();
         return roles == null ? Set.of() :
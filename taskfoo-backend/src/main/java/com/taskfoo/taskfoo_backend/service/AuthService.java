@@ -8,13 +8,18 @@ import com.taskfoo.taskfoo_backend.dto.response.auth.MeResponse;
 import com.taskfoo.taskfoo_backend.model.Role;
 import com.taskfoo.taskfoo_backend.model.User;
 import com.taskfoo.taskfoo_backend.repository.UserRepository;
+import com.taskfoo.taskfoo_backend.security.JwtClaims;
 import com.taskfoo.taskfoo_backend.security.JwtService;
+import com.taskfoo.taskfoo_backend.security.TokenRevocationRegistry;
 import com.taskfoo.taskfoo_backend.security.UserPrincipal;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.*;
 
@@ -25,12 +30,17 @@ public class AuthService {
     private final PasswordEncoder encoder;
     private final JwtService jwt;
     private final AuthenticationManager authManager;
+    private final TokenRevocationRegistry revocations;
+    private final RefreshTokenService refreshTokens;
 
-    public AuthService(UserRepository userRepo, PasswordEncoder encoder, JwtService jwt, AuthenticationManager am) {
+    public AuthService(UserRepository userRepo, PasswordEncoder encoder, JwtService jwt, AuthenticationManager am,
+                       TokenRevocationRegistry revocations, RefreshTokenService refreshTokens) {
         this.userRepo = userRepo;
         this.encoder = encoder;
         this.jwt = jwt;
         this.authManager = am;
+        this.revocations = revocations;
+        this.refreshTokens = refreshTokens;
     }
 
     public AuthResponse register(RegisterRequest r) {
@@ -46,9 +56,11 @@ public class AuthService {
         u.setRoles(new HashSet<>(Set.of(Role.DEV))); // default rol
 
         userRepo.save(u);
+        revocations.userChanged(u.getId(), u.getTokenVersion());
 
-        String token = jwt.generate(u.getEmail(), Map.of("uid", u.getId()));
-        return new AuthResponse(token);
+        RefreshTokenService.Issued refresh = refreshTokens.issue(u.getId());
+        String token = jwt.generate(u.getEmail(), JwtClaims.of(u, refresh.familyId()));
+        return new AuthResponse(token, refresh.refreshToken());
     }
 
     /** Eğer başka yerler kullanıyorsa kalsın (controller artık bunu çağırmıyor) */
@@ -62,13 +74,26 @@ public class AuthService {
     /** Controller authenticate ettikten sonra token üretimi burada */
     public AuthResponse issueTokenFor(Authentication auth) {
         UserPrincipal up = (UserPrincipal) auth.getPrincipal();
-        String token = jwt.generate(up.getUsername(), Map.of("uid", up.getUser().getId()));
-        return new AuthResponse(token);
+        RefreshTokenService.Issued refresh = refreshTokens.issue(up.getUser().getId());
+        String token = jwt.generate(up.getUsername(), JwtClaims.of(up.getUser(), refresh.familyId()));
+        return new AuthResponse(token, refresh.refreshToken());
+    }
+
+    /** Refresh token rotasyonu: BCrypt yok, tek PK lookup ile güncel rol/versiyon alınır */
+    public AuthResponse refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokens.rotate(refreshToken);
+        User u = userRepo.findById(rotation.userId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "User no longer exists"));
+        String token = jwt.generate(u.getEmail(), JwtClaims.of(u, rotation.familyId()));
+        return new AuthResponse(token, rotation.refreshToken());
     }
 
     public MeResponse me(Authentication auth) {
         UserPrincipal up = (UserPrincipal) auth.getPrincipal();
-        var u = up.getUser();
+        // claim tabanlı principal'da ad/soyad yok -> profil için tek PK lookup
+        Long id = up.getUser().getId();
+        var u = userRepo.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("User not found: " + id));
         return new MeResponse(u.getId(), u.getEmail(), u.getName(), u.getSurname(), u.getRoles());
     }
 }
\ No newline at end of file
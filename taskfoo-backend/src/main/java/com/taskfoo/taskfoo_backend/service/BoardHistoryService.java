@@ -0,0 +1,292 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/BoardHistoryService.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskfoo.taskfoo_backend.dto.response.board.BoardAsOfResponse;
+import com.taskfoo.taskfoo_backend.dto.response.board.BoardTaskStateDto;
+import com.taskfoo.taskfoo_backend.model.Epic;
+import com.taskfoo.taskfoo_backend.model.Project;
+import com.taskfoo.taskfoo_backend.repository.AuditEventRepository;
+import com.taskfoo.taskfoo_backend.repository.BoardSnapshotRepository;
+import com.taskfoo.taskfoo_backend.repository.EpicRepository;
+import com.taskfoo.taskfoo_backend.repository.ProjectRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Geçmiş board ("time travel"): projenin periyodik snapshot'larından asOf'a en yakın olanı yüklenir,
+ * sadece ondan sonraki task audit olayları asOf'a kadar ileri replay edilir. Replay maliyeti
+ * snapshot aralığıyla sınırlı (asOf'un ne kadar eski olduğundan bağımsız).
+ * <p>
+ * Pencere snapshot'tan {@code skew} kadar önce başlar: snapshot sırasında commit olmamış işlerin
+ * olayları kaçmasın. Olaylar mutlak değer yazdığından (newValue / set-based satırlarda metadata'daki
+ * hali) bu aralığı tekrar uygulamak sonucu değiştirmez.
+ * Snapshot'ta olmayan task'lar (pencerede oluşturulan / projeye taşınan / arşivden dönen) bugünkü
+ * satırdan, asOf sonrası değişikliklerin oldValue'ları geri alınarak türetilir.
+ */
+@Service
+public class BoardHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardHistoryService.class);
+
+    private final BoardSnapshotRepository snapshots;
+    private final AuditEventRepository auditRepository;
+    private final ProjectRepository projectRepository;
+    private final EpicRepository epicRepository;
+    private final ObjectMapper objectMapper;
+    private final long skewSeconds;
+    private final long retentionDays;
+
+    public BoardHistoryService(BoardSnapshotRepository snapshots,
+                               AuditEventRepository auditRepository,
+                               ProjectRepository projectRepository,
+                               EpicRepository epicRepository,
+                               ObjectMapper objectMapper,
+                               @Value("${app.boards.snapshot-skew-seconds:300}") long skewSeconds,
+                               @Value("${app.boards.snapshot-retention-days:365}") long retentionDays) {
+        this.snapshots = snapshots;
+        this.auditRepository = auditRepository;
+        this.projectRepository = projectRepository;
+        this.epicRepository = epicRepository;
+        this.objectMapper = objectMapper;
+        this.skewSeconds = skewSeconds;
+        this.retentionDays = retentionDays;
+    }
+
+    /* ---------------- Snapshot'lar ---------------- */
+
+    /** Her proje için bir snapshot (her biri kendi statement'ı); eskiler retention ile silinir */
+    @Scheduled(fixedDelayString = "${app.boards.snapshot-ms:21600000}", initialDelay = 60_000)
+    public void snapshotAll() {
+        int projects = 0;
+        for (Project p : projectRepository.findAll()) {
+            try {
+                snapshots.takeSnapshot(p.getId());
+                projects++;
+            } catch (RuntimeException e) {
+                log.warn("Board snapshot for project {} failed", p.getId(), e);
+            }
+        }
+        int purged = snapshots.deleteOlderThan(OffsetDateTime.now().minusDays(retentionDays));
+        log.info("Took {} board snapshot(s), purged {}", projects, purged);
+    }
+
+    /* ---------------- Reconstruction ---------------- */
+
+    @Transactional(readOnly = true)
+    public BoardAsOfResponse boardAsOf(Long projectId, OffsetDateTime asOf) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found: " + projectId);
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        if (asOf.isAfter(now)) asOf = now;
+
+        BoardSnapshotRepository.SnapshotRow snap = snapshots.findNearest(projectId, asOf);
+        if (snap == null) {
+            String first = snapshots.findFirstTakenAt(projectId);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, first == null
+                    ? "No board history for project " + projectId + " yet"
+                    : "Board history for project " + projectId + " starts at " + first);
+        }
+        OffsetDateTime takenAt = Instant.ofEpochMilli(snap.getTakenAt()).atOffset(ZoneOffset.UTC);
+
+        Map<Long, TaskState> states = new HashMap<>();
+        for (JsonNode t : json(snap.getTasks())) states.put(t.get(0).asLong(), TaskState.fromSnapshot(t));
+
+        // ileri replay: snapshot'ta olmayan task'lar sonra türetilir
+        Set<Long> unknown = new LinkedHashSet<>();
+        long replayed = 0;
+        try (Stream<AuditEventRepository.TaskHistoryRow> events =
+                     auditRepository.streamTaskEvents(takenAt.minusSeconds(skewSeconds), asOf)) {
+            for (AuditEventRepository.TaskHistoryRow e : (Iterable<AuditEventRepository.TaskHistoryRow>) events::iterator) {
+                replayed++;
+                TaskState s = states.get(e.getTaskId());
+                if (s == null) {
+                    if (!"DELETE".equals(e.getAction()) && !"ARCHIVE".equals(e.getAction())) unknown.add(e.getTaskId());
+                    else unknown.remove(e.getTaskId());
+                    continue;
+                }
+                switch (e.getAction()) {
+                    case "DELETE", "ARCHIVE" -> s.removed = true;
+                    case "RESTORE" -> s.removed = false;
+                    default -> { }
+                }
+                applyForward(s, e);
+            }
+        }
+        states.putAll(deriveBackward(unknown, asOf));
+
+        Set<Long> projectEpics = epicRepository.findByProjectId(projectId).stream()
+                .map(Epic::getId).collect(Collectors.toSet());
+        List<BoardTaskStateDto> tasks = states.values().stream()
+                .filter(s -> !s.removed && s.epicId != null && projectEpics.contains(s.epicId))
+                .sorted(Comparator.comparing((TaskState s) -> s.statusId, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(s -> s.boardRank, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(s -> s.id))
+                .map(TaskState::toDto)
+                .toList();
+        return new BoardAsOfResponse(projectId, asOf, takenAt, replayed, tasks);
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    /** changed_fields varsa newValue'lar; yoksa (set-based satır) metadata'daki o anki hal */
+    private void applyForward(TaskState s, AuditEventRepository.TaskHistoryRow e) {
+        JsonNode fields = json(e.getChangedFields());
+        if (fields.isArray()) {
+            for (JsonNode f : fields) s.set(f.path("field").asText(), f.get("newValue"));
+            return;
+        }
+        JsonNode meta = json(e.getMetadata());
+        for (String field : TaskState.STATE_FIELDS) {
+            if (meta.has(field)) s.set(field, meta.get(field));
+        }
+    }
+
+    /**
+     * Bugünkü hal (sıcak ya da arşiv) + asOf sonrası her alanın ilk değişikliğinin oldValue'su.
+     * asOf'tan sonra oluşturulanlar ve tamamen silinenler board'a girmez.
+     */
+    private Map<Long, TaskState> deriveBackward(Set<Long> ids, OffsetDateTime asOf) {
+        if (ids.isEmpty()) return Map.of();
+        Map<Long, TaskState> out = new HashMap<>();
+        for (BoardSnapshotRepository.TaskStateRow r : snapshots.findCurrentStates(ids)) {
+            out.put(r.getId(), TaskState.fromRow(r));
+        }
+        Map<Long, Set<String>> undone = new HashMap<>();
+        for (AuditEventRepository.TaskHistoryRow e : auditRepository.findTaskEventsAfter(out.keySet(), asOf)) {
+            TaskState s = out.get(e.getTaskId());
+            if (s == null) continue;
+            if ("CREATE".equals(e.getAction())) {
+                out.remove(e.getTaskId()); // asOf'ta henüz yoktu
+                continue;
+            }
+            JsonNode fields = json(e.getChangedFields());
+            if (!fields.isArray()) continue;
+            Set<String> done = undone.computeIfAbsent(e.getTaskId(), k -> new HashSet<>());
+            for (JsonNode f : fields) {
+                String field = f.path("field").asText();
+                if (done.add(field)) s.set(field, f.get("oldValue"));
+            }
+        }
+        return out;
+    }
+
+    private JsonNode json(String text) {
+        if (text == null) return objectMapper.nullNode();
+        try {
+            return objectMapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt board history JSON", e);
+        }
+    }
+
+    /** Replay sırasında tutulan task hali (board'un gösterdiği alanlar) */
+    private static final class TaskState {
+        static final List<String> STATE_FIELDS = List.of(
+                TaskChangeDetector.STATUS_ID, TaskChangeDetector.PRIORITY_ID, TaskChangeDetector.EPIC_ID,
+                TaskChangeDetector.START_DATE, TaskChangeDetector.DUE_DATE);
+
+        final Long id;
+        String title;
+        Long statusId;
+        Long priorityId;
+        Long epicId;
+        String startDate;
+        String dueDate;
+        String boardRank;
+        List<Long> assigneeIds = List.of();
+        boolean removed;
+
+        TaskState(Long id) {
+            this.id = id;
+        }
+
+        static TaskState fromSnapshot(JsonNode a) {
+            TaskState s = new TaskState(a.get(0).asLong());
+            s.title = text(a.get(1));
+            s.statusId = id(a.get(2));
+            s.priorityId = id(a.get(3));
+            s.epicId = id(a.get(4));
+            s.startDate = text(a.get(5));
+            s.dueDate = text(a.get(6));
+            s.boardRank = text(a.get(7));
+            s.assigneeIds = ids(a.get(8));
+            return s;
+        }
+
+        static TaskState fromRow(BoardSnapshotRepository.TaskStateRow r) {
+            TaskState s = new TaskState(r.getId());
+            s.title = r.getTitle();
+            s.statusId = r.getStatusId();
+            s.priorityId = r.getPriorityId();
+            s.epicId = r.getEpicId();
+            s.startDate = r.getStartDate();
+            s.dueDate = r.getDueDate();
+            s.boardRank = r.getBoardRank();
+            s.assigneeIds = r.getAssigneeIds() == null ? List.of()
+                    : Arrays.stream(r.getAssigneeIds().split(",")).map(Long::valueOf).toList();
+            return s;
+        }
+
+        /** Audit'teki alan adlarıyla (TaskChangeDetector); board'da olmayanlar yok sayılır */
+        void set(String field, JsonNode v) {
+            switch (field) {
+                case TaskChangeDetector.TITLE -> title = text(v);
+                case TaskChangeDetector.STATUS_ID -> statusId = id(v);
+                case TaskChangeDetector.PRIORITY_ID -> priorityId = id(v);
+                case TaskChangeDetector.EPIC_ID -> epicId = id(v);
+                case TaskChangeDetector.START_DATE -> startDate = date(v);
+                case TaskChangeDetector.DUE_DATE -> dueDate = date(v);
+                case TaskChangeDetector.BOARD_RANK -> boardRank = text(v);
+                case TaskChangeDetector.ASSIGNEE_IDS -> assigneeIds = ids(v);
+                default -> { }
+            }
+        }
+
+        BoardTaskStateDto toDto() {
+            return new BoardTaskStateDto(id, title, statusId, priorityId, epicId, startDate, dueDate, boardRank, assigneeIds);
+        }
+
+        private static String text(JsonNode v) {
+            return v == null || v.isNull() ? null : v.asText();
+        }
+
+        private static Long id(JsonNode v) {
+            return v == null || v.isNull() ? null : v.asLong();
+        }
+
+        private static List<Long> ids(JsonNode v) {
+            if (v == null || !v.isArray()) return List.of();
+            List<Long> out = new ArrayList<>(v.size());
+            for (JsonNode n : v) out.add(n.asLong());
+            Collections.sort(out);
+            return out;
+        }
+
+        /** "2025-01-31" ya da [2025, 1, 31] (audit JSON'u tarihleri dizi olarak yazabilir) */
+        private static String date(JsonNode v) {
+            if (v == null || v.isNull()) return null;
+            if (v.isArray() && v.size() == 3) {
+                return String.format("%04d-%02d-%02d", v.get(0).asInt(), v.get(1).asInt(), v.get(2).asInt());
+            }
+            return v.asText();
+        }
+    }
+}
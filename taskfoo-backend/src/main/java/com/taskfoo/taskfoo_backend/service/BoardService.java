@@ -0,0 +1,69 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/BoardService.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.dto.response.board.BoardBootstrapResponse;
+import com.taskfoo.taskfoo_backend.mapper.EpicMapper;
+import com.taskfoo.taskfoo_backend.mapper.TaskMapper;
+import com.taskfoo.taskfoo_backend.repository.EpicRepository;
+import com.taskfoo.taskfoo_backend.repository.ProjectRepository;
+import com.taskfoo.taskfoo_backend.repository.TaskRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Board bootstrap: status/priority/user/project listeleri, projenin epic'leri ve task'ları tek
+ * transaction'da, sabit sayıda sorguyla (task ilişkileri entity graph, roller vb. batch fetch).
+ * ETag tek bir fingerprint sorgusundan; değişmemiş board için veri hiç yüklenmez.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BoardService {
+
+    private final TaskRepository taskRepository;
+    private final EpicRepository epicRepository;
+    private final ProjectRepository projectRepository;
+    private final StatusService statusService;
+    private final PriorityService priorityService;
+    private final UserService userService;
+    private final ProjectService projectService;
+    private final TaskMapper mapper;
+
+    public BoardService(TaskRepository taskRepository,
+                        EpicRepository epicRepository,
+                        ProjectRepository projectRepository,
+                        StatusService statusService,
+                        PriorityService priorityService,
+                        UserService userService,
+                        ProjectService projectService,
+                        TaskMapper mapper) {
+        this.taskRepository = taskRepository;
+        this.epicRepository = epicRepository;
+        this.projectRepository = projectRepository;
+        this.statusService = statusService;
+        this.priorityService = priorityService;
+        this.userService = userService;
+        this.projectService = projectService;
+        this.mapper = mapper;
+    }
+
+    /** Strong ETag (tırnaklı); proje yoksa 404 */
+    public String etag(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found: " + projectId);
+        }
+        return "\"" + taskRepository.findBoardFingerprint(projectId) + "\"";
+    }
+
+    public BoardBootstrapResponse bootstrap(Long projectId) {
+        return new BoardBootstrapResponse(
+                projectId,
+                statusService.getAll(),
+                priorityService.getAll(),
+                userService.getAllUsers(),
+                projectService.list(),
+                epicRepository.findByProjectId(projectId).stream().map(EpicMapper::toDto).toList(),
+                taskRepository.findByEpicProjectId(projectId).stream().map(mapper::toListItem).toList()
+        );
+    }
+}
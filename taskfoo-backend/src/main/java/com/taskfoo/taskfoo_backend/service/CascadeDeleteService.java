@@ -0,0 +1,199 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/CascadeDeleteService.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.model.AuditEvent;
+import com.taskfoo.taskfoo_backend.repository.*;
+import com.taskfoo.taskfoo_backend.support.JobRegistry;
+import com.taskfoo.taskfoo_backend.support.RequestContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Project/Epic silme: task'lar, task_user satırları ve epic'ler chunk'lar halinde set-based
+ * statement'larla silinir (task başına deleteTask + audit + 4 WS yerine). İş arka planda
+ * JobRegistry üzerinden çalışır; sonunda tek özet audit ve tek *_DELETED yayını yapılır.
+ */
+@Service
+public class CascadeDeleteService {
+
+    private final TaskRepository taskRepository;
+    private final TaskArchiveRepository archiveRepository;
+    private final EpicRepository epicRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskFlowRepository flowRepository;
+    private final AuditEventRepository auditRepository;
+    private final TaskEventPublisher events;
+    private final DashboardService dashboard;
+    private final DueReminderService reminders;
+    private final TaskDependencyService dependencies;
+    private final JobRegistry jobs;
+    private final TransactionTemplate tx;
+    private final int chunkSize;
+
+    public CascadeDeleteService(TaskRepository taskRepository,
+                                TaskArchiveRepository archiveRepository,
+                                EpicRepository epicRepository,
+                                ProjectRepository projectRepository,
+                                TaskFlowRepository flowRepository,
+                                AuditEventRepository auditRepository,
+                                TaskEventPublisher events,
+                                DashboardService dashboard,
+                                DueReminderService reminders,
+                                TaskDependencyService dependencies,
+                                JobRegistry jobs,
+                                PlatformTransactionManager txManager,
+                                @Value("${app.delete.chunk-size:1000}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.archiveRepository = archiveRepository;
+        this.epicRepository = epicRepository;
+        this.projectRepository = projectRepository;
+        this.flowRepository = flowRepository;
+        this.auditRepository = auditRepository;
+        this.events = events;
+        this.dashboard = dashboard;
+        this.reminders = reminders;
+        this.dependencies = dependencies;
+        this.jobs = jobs;
+        this.tx = new TransactionTemplate(txManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /** Varlık kontrolü çağıranda yapılır; job id hemen döner */
+    public JobRegistry.JobStatus deleteProject(Long projectId) {
+        RequestContext rc = RequestContext.get();
+        return jobs.submit("PROJECT_DELETE", job -> {
+            job.total(taskRepository.countByProject(projectId));
+
+            long tasks = deleteInChunks(job, limit -> taskRepository.findIdsByProject(projectId, limit), false);
+            long archived = deleteInChunks(job, limit -> archiveRepository.findIdsByProject(projectId, limit), true);
+
+            Map<String, Object> summary = tx.execute(s -> {
+                // chunk'lar sırasında eklenmiş olabilecek son task'lar
+                long late = drain(limit -> taskRepository.findIdsByProject(projectId, limit));
+                int epics = epicRepository.deleteByProject(projectId);
+                projectRepository.deleteNative(projectId);
+                flowRepository.deleteByProject(projectId);
+
+                Map<String, Object> m = new HashMap<>();
+                m.put("tasksDeleted", tasks + late);
+                m.put("archivedTasksDeleted", archived);
+                m.put("epicsDeleted", epics);
+                writeAudit("PROJECT", projectId, m, rc);
+                return m;
+            });
+
+            job.result(summary);
+            dashboard.markDirty(projectId);
+            events.publish("PROJECT_DELETED",
+                    new CascadeDeletedPayload(projectId, null, summary, OffsetDateTime.now().toString()),
+                    projectId);
+        }).status();
+    }
+
+    public JobRegistry.JobStatus deleteEpic(Long epicId) {
+        RequestContext rc = RequestContext.get();
+        Long projectId = epicRepository.findProjectId(epicId);
+        return jobs.submit("EPIC_DELETE", job -> {
+            job.total(taskRepository.countByEpic(epicId));
+
+            long tasks = deleteInChunks(job, limit -> taskRepository.findIdsByEpic(epicId, limit), false);
+            long archived = deleteInChunks(job, limit -> archiveRepository.findIdsByEpic(epicId, limit), true);
+
+            Map<String, Object> summary = tx.execute(s -> {
+                long late = drain(limit -> taskRepository.findIdsByEpic(epicId, limit));
+                epicRepository.deleteNative(epicId);
+                flowRepository.deleteByEpic(epicId);
+
+                Map<String, Object> m = new HashMap<>();
+                m.put("tasksDeleted", tasks + late);
+                m.put("archivedTasksDeleted", archived);
+                if (projectId != null) m.put("projectId", projectId);
+                writeAudit("EPIC", epicId, m, rc);
+                return m;
+            });
+
+            job.result(summary);
+            dashboard.markDirty(projectId);
+            events.publish("EPIC_DELETED",
+                    new CascadeDeletedPayload(projectId, epicId, summary, OffsetDateTime.now().toString()),
+                    projectId);
+        }).status();
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    /** Her chunk ayrı transaction: kilitler kısa, ilerleme görünür */
+    private long deleteInChunks(JobRegistry.Job job, IntFunction<List<Long>> nextChunk, boolean archive) {
+        long deleted = 0;
+        while (true) {
+            Integer n = tx.execute(s -> {
+                List<Long> ids = nextChunk.apply(chunkSize);
+                if (ids.isEmpty()) return 0;
+                deleteTasks(ids, archive);
+                return ids.size();
+            });
+            if (n == null || n == 0) return deleted;
+            deleted += n;
+            if (!archive) job.progress(n);
+            if (n < chunkSize) return deleted;
+        }
+    }
+
+    /** Mevcut transaction içinde kalanları sil */
+    private long drain(IntFunction<List<Long>> nextChunk) {
+        long deleted = 0;
+        List<Long> ids;
+        while (!(ids = nextChunk.apply(chunkSize)).isEmpty()) {
+            deleteTasks(ids, false);
+            deleted += ids.size();
+        }
+        return deleted;
+    }
+
+    private void deleteTasks(List<Long> ids, boolean archive) {
+        if (archive) {
+            archiveRepository.deleteArchivedAssignees(ids);
+            archiveRepository.deleteArchived(ids);
+            dependencies.onArchivedTasksDeleted(ids);
+        } else {
+            archiveRepository.deleteHotAssignees(ids);
+            archiveRepository.deleteHot(ids);
+            reminders.onTasksRemoved(ids);
+            dependencies.invalidateAll();
+        }
+    }
+
+    private void writeAudit(String entityType, Long entityId, Map<String, Object> summary, RequestContext rc) {
+        AuditEvent.AuditEventBuilder ev = AuditEvent.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .action(AuditEvent.AuditAction.DELETE)
+                .metadata(summary);
+        if (rc != null) {
+            ev.actorId(rc.actorId)
+              .actorName(rc.actorName)
+              .pageContext(rc.pageContext)
+              .clientChangeId(rc.clientChangeId)
+              .requestId(rc.requestId)
+              .ipAddress(rc.ip);
+        }
+        auditRepository.save(ev.build());
+    }
+
+    /* ---------------- Payload DTO'ları ---------------- */
+
+    public record CascadeDeletedPayload(
+            Long projectId,
+            Long epicId,
+            Map<String, Object> summary,
+            String at
+    ) {}
+}
@@ -0,0 +1,238 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/CycleTimeService.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.dto.response.analytics.CycleTimeDto;
+import com.taskfoo.taskfoo_backend.model.Status;
+import com.taskfoo.taskfoo_backend.repository.AuditEventRepository;
+import com.taskfoo.taskfoo_backend.repository.StatusRepository;
+import com.taskfoo.taskfoo_backend.repository.TaskRepository;
+import com.taskfoo.taskfoo_backend.support.JobRegistry;
+import com.taskfoo.taskfoo_backend.support.QuantileSketch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Cycle time (ilk "in progress" girişinden done'a) ve lead time (create'ten done'a) yüzdelikleri.
+ * audit_event keyset ile akıtılır: açık task başına küçük bir state machine, tamamlanan her task
+ * slice'ların (tümü / proje / epic / priority / assignee) sabit bellekli sketch'lerine eklenir.
+ * Açılışta tüm geçmiş bir kez akıtılır, sonra sadece yeni event'ler okunur.
+ * Yeniden açılıp tekrar kapanan task yeni bir cycle sayılır; slice'lar task'ın mevcut değerleridir.
+ */
+@Service
+public class CycleTimeService {
+
+    private static final Logger log = LoggerFactory.getLogger(CycleTimeService.class);
+
+    public static final String ALL = "all";
+    public static final String PROJECT = "project";
+    public static final String EPIC = "epic";
+    public static final String PRIORITY = "priority";
+    public static final String ASSIGNEE = "assignee";
+    private static final Set<String> DIMENSIONS = Set.of(ALL, PROJECT, EPIC, PRIORITY, ASSIGNEE);
+
+    private final AuditEventRepository auditRepository;
+    private final TaskRepository taskRepository;
+    private final StatusRepository statusRepository;
+    private final JobRegistry jobs;
+    private final Set<String> inProgressNames;
+    private final Set<String> doneNames;
+    private final int batchSize;
+    private final int lagSeconds;
+
+    private final Map<SliceKey, Slice> slices = new ConcurrentHashMap<>();
+
+    /* Stream state: sadece poll() içinde (synchronized) değişir */
+    private final Map<Long, TaskState> open = new HashMap<>();
+    private long lastEventId;
+
+    public CycleTimeService(AuditEventRepository auditRepository,
+                            TaskRepository taskRepository,
+                            StatusRepository statusRepository,
+                            JobRegistry jobs,
+                            @Value("${app.tasks.in-progress-statuses:In Progress}") List<String> inProgressNames,
+                            @Value("${app.tasks.done-statuses:Done}") List<String> doneNames,
+                            @Value("${app.analytics.cycle.batch-size:5000}") int batchSize,
+                            @Value("${app.analytics.cycle.lag-seconds:10}") int lagSeconds) {
+        this.auditRepository = auditRepository;
+        this.taskRepository = taskRepository;
+        this.statusRepository = statusRepository;
+        this.jobs = jobs;
+        this.inProgressNames = new HashSet<>(inProgressNames);
+        this.doneNames = new HashSet<>(doneNames);
+        this.batchSize = batchSize;
+        this.lagSeconds = lagSeconds;
+    }
+
+    /* ---------------- Query ---------------- */
+
+    /**
+     * groupBy verilirse o boyuttaki tüm slice'lar; id verilirse tek slice; ikisi de yoksa genel.
+     */
+    public List<CycleTimeDto> cycleTime(String groupBy, Long projectId, Long epicId, Long priorityId, Long assigneeId) {
+        Map<String, Long> filters = new LinkedHashMap<>();
+        if (projectId != null) filters.put(PROJECT, projectId);
+        if (epicId != null) filters.put(EPIC, epicId);
+        if (priorityId != null) filters.put(PRIORITY, priorityId);
+        if (assigneeId != null) filters.put(ASSIGNEE, assigneeId);
+        if (filters.size() > 1 || (groupBy != null && !filters.isEmpty())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Use a single slice filter or groupBy");
+        }
+
+        if (groupBy != null) {
+            if (!DIMENSIONS.contains(groupBy)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown groupBy: " + groupBy);
+            }
+            return slices.entrySet().stream()
+                    .filter(e -> e.getKey().dimension().equals(groupBy))
+                    .map(e -> toDto(e.getKey(), e.getValue()))
+                    .sorted(Comparator.comparingLong((CycleTimeDto d) -> d.cycleTime().count()).reversed())
+                    .toList();
+        }
+
+        SliceKey key = filters.isEmpty()
+                ? new SliceKey(ALL, null)
+                : new SliceKey(filters.keySet().iterator().next(), filters.values().iterator().next());
+        return List.of(toDto(key, slices.getOrDefault(key, new Slice())));
+    }
+
+    /* ---------------- Stream ---------------- */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            jobs.submit("CYCLE_TIME_REPLAY", job -> job.result(poll()));
+        } catch (RuntimeException e) {
+            log.warn("Cycle time replay not scheduled: {}", e.getMessage()); // periyodik poll telafi eder
+        }
+    }
+
+    /** Yeni event'leri işler; döner: işlenen event sayısı */
+    @Scheduled(fixedDelayString = "${app.analytics.cycle.poll-ms:30000}")
+    public synchronized long poll() {
+        Map<Long, String> kinds = statusKinds();
+        long processed = 0;
+        while (true) {
+            OffsetDateTime before = OffsetDateTime.now().minusSeconds(lagSeconds);
+            List<AuditEventRepository.StatusEventRow> rows =
+                    auditRepository.findStatusEventsAfter(lastEventId, before, batchSize);
+            if (rows.isEmpty()) break;
+
+            List<Completion> completions = new ArrayList<>();
+            for (AuditEventRepository.StatusEventRow r : rows) {
+                Completion c = apply(r, kinds);
+                if (c != null) completions.add(c);
+                lastEventId = r.getId();
+            }
+            record(completions);
+            processed += rows.size();
+            if (rows.size() < batchSize) break;
+        }
+        return processed;
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    /** Task state machine: created -> (in progress) -> done; null ya da tamamlanma döner */
+    private Completion apply(AuditEventRepository.StatusEventRow r, Map<Long, String> kinds) {
+        Long taskId = r.getTaskId();
+        if ("DELETE".equals(r.getAction())) {
+            open.remove(taskId);
+            return null;
+        }
+
+        TaskState s = open.get(taskId);
+        if (s == null) {
+            s = new TaskState();
+            if ("CREATE".equals(r.getAction())) s.createdAt = r.getAt();
+            open.put(taskId, s);
+        }
+
+        String kind = kinds.get(r.getToStatusId());
+        if ("IN_PROGRESS".equals(kind)) {
+            if (s.startedAt == null) s.startedAt = r.getAt();
+        } else if ("DONE".equals(kind)) {
+            open.remove(taskId);
+            Long cycle = s.startedAt == null ? null : r.getAt() - s.startedAt;
+            Long lead = s.createdAt == null ? null : r.getAt() - s.createdAt;
+            if (cycle == null && lead == null) return null;
+            return new Completion(taskId, cycle, lead);
+        }
+        return null;
+    }
+
+    /** Tamamlananları slice'lara ekle (slice değerleri tek sorguda) */
+    private void record(List<Completion> completions) {
+        if (completions.isEmpty()) return;
+        Map<Long, TaskRepository.SliceRow> attrs = taskRepository.findSliceAttributes(
+                        completions.stream().map(Completion::taskId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(TaskRepository.SliceRow::getId, r -> r, (a, b) -> a));
+
+        for (Completion c : completions) {
+            List<SliceKey> keys = new ArrayList<>(5);
+            keys.add(new SliceKey(ALL, null));
+            TaskRepository.SliceRow a = attrs.get(c.taskId());
+            if (a != null) {
+                if (a.getProjectId() != null) keys.add(new SliceKey(PROJECT, a.getProjectId()));
+                if (a.getEpicId() != null) keys.add(new SliceKey(EPIC, a.getEpicId()));
+                if (a.getPriorityId() != null) keys.add(new SliceKey(PRIORITY, a.getPriorityId()));
+                if (a.getAssigneeIds() != null) {
+                    for (String id : a.getAssigneeIds().split(",")) keys.add(new SliceKey(ASSIGNEE, Long.valueOf(id)));
+                }
+            }
+            for (SliceKey k : keys) {
+                Slice slice = slices.computeIfAbsent(k, x -> new Slice());
+                if (c.cycleSeconds() != null) slice.cycle.add(c.cycleSeconds());
+                if (c.leadSeconds() != null) slice.lead.add(c.leadSeconds());
+            }
+        }
+    }
+
+    private Map<Long, String> statusKinds() {
+        Map<Long, String> kinds = new HashMap<>();
+        for (Status s : statusRepository.findAll()) {
+            if (doneNames.contains(s.getName())) kinds.put(s.getId(), "DONE");
+            else if (inProgressNames.contains(s.getName())) kinds.put(s.getId(), "IN_PROGRESS");
+        }
+        return kinds;
+    }
+
+    private static CycleTimeDto toDto(SliceKey key, Slice slice) {
+        return new CycleTimeDto(key.dimension(), key.id(), percentiles(slice.cycle), percentiles(slice.lead));
+    }
+
+    private static CycleTimeDto.Percentiles percentiles(QuantileSketch s) {
+        if (s.count() == 0) return new CycleTimeDto.Percentiles(0, null, null, null);
+        return new CycleTimeDto.Percentiles(s.count(), hours(s.quantile(0.50)), hours(s.quantile(0.85)), hours(s.quantile(0.95)));
+    }
+
+    private static Double hours(double seconds) {
+        return Math.round(seconds / 36.0) / 100.0;
+    }
+
+    private record SliceKey(String dimension, Long id) {}
+
+    private record Completion(Long taskId, Long cycleSeconds, Long leadSeconds) {}
+
+    private static final class TaskState {
+        Long createdAt;
+        Long startedAt;
+    }
+
+    private static final class Slice {
+        final QuantileSketch cycle = new QuantileSketch();
+        final QuantileSketch lead = new QuantileSketch();
+    }
+}
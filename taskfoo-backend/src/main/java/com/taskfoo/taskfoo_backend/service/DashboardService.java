@@ -0,0 +1,415 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/DashboardService.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.dto.response.dashboard.DashboardSummaryDto;
+import com.taskfoo.taskfoo_backend.dto.response.dashboard.DashboardSummaryDto.CellDto;
+import com.taskfoo.taskfoo_backend.dto.response.dashboard.DashboardSummaryDto.CountDto;
+import com.taskfoo.taskfoo_backend.dto.response.dashboard.DashboardSummaryDto.RecentTaskDto;
+import com.taskfoo.taskfoo_backend.model.*;
+import com.taskfoo.taskfoo_backend.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import static com.taskfoo.taskfoo_backend.support.TransactionHooks.afterCommit;
+
+/**
+ * Dashboard sayaçları: proje başına in-memory, TaskService mutasyonlarından commit sonrası
+ * +1/-1 delta ile güncellenir. Delta'sı bilinemeyen işlemler (bulk arşiv, cascade delete,
+ * epic değişimi) projeyi "dirty" işaretler; dirty projeler kısa aralıkla, hepsi de periyodik
+ * olarak GROUP BY sorgularıyla yeniden hesaplanır (kayan sayaçları da düzeltir).
+ * Delta taşıyan commit'ler ile reconcile snapshot'ı bir kapıyla sıralanır: snapshot alınırken commit
+ * eden yoktur; snapshot'tan sonraki delta'lar kuyruğa da yazılır ve yeni bucket'a tekrar uygulanır.
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+    private static final long NONE = 0L;
+
+    private final TaskRepository taskRepository;
+    private final StatusRepository statusRepository;
+    private final PriorityRepository priorityRepository;
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final Set<String> doneStatusNames;
+    private final int topAssignees;
+    private final int recentPerStatus;
+    private final TransactionTemplate tx;
+
+    private final Map<Long, Bucket> buckets = new ConcurrentHashMap<>();
+    /** read: delta'lı commit (DB commit'inden delta uygulanana kadar); write: reconcile snapshot'ı */
+    private final ReentrantReadWriteLock commitGate = new ReentrantReadWriteLock();
+    private final Object swapLock = new Object();
+    /** Reconcile sürerken snapshot sonrası delta'lar (swapLock ile); null -> reconcile yok */
+    private List<Delta> sinceSnapshot;
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private volatile boolean allDirty = true; // açılışta tam hesap
+    private volatile Set<Long> doneStatusIds = Set.of();
+
+    public DashboardService(TaskRepository taskRepository,
+                            StatusRepository statusRepository,
+                            PriorityRepository priorityRepository,
+                            UserRepository userRepository,
+                            ProjectRepository projectRepository,
+                            PlatformTransactionManager txManager,
+                            @Value("${app.tasks.done-statuses:Done}") List<String> doneStatusNames,
+                            @Value("${app.dashboard.top-assignees:6}") int topAssignees,
+                            @Value("${app.dashboard.recent-per-status:5}") int recentPerStatus) {
+        this.taskRepository = taskRepository;
+        this.statusRepository = statusRepository;
+        this.priorityRepository = priorityRepository;
+        this.userRepository = userRepository;
+        this.projectRepository = projectRepository;
+        this.doneStatusNames = new HashSet<>(doneStatusNames);
+        this.topAssignees = topAssignees;
+        this.recentPerStatus = recentPerStatus;
+        this.tx = new TransactionTemplate(txManager);
+        this.tx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ); // iki GROUP BY aynı snapshot'tan
+        this.tx.setReadOnly(true);
+    }
+
+    /* ---------------- Mutasyon hook'ları ---------------- */
+
+    /** before null -> create, after null -> delete; commit sonrası uygulanır */
+    public void onChange(TaskFacts before, TaskFacts after) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commitGate.readLock().lock();
+            try {
+                apply(before, after);
+            } finally {
+                commitGate.readLock().unlock();
+            }
+            return;
+        }
+        // kapı commit'ten önce alınır: commit görünür olup delta henüz uygulanmamışken snapshot alınmasın
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean gated;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitGate.readLock().lock();
+                gated = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!gated) return;
+                try {
+                    if (status == STATUS_COMMITTED) apply(before, after);
+                } finally {
+                    commitGate.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    public void markDirty(Long projectId) {
+        afterCommit(() -> dirty.add(projectId == null ? NONE : projectId));
+    }
+
+    public void markAllDirty() {
+        afterCommit(() -> allDirty = true);
+    }
+
+    /* ---------------- Query ---------------- */
+
+    public DashboardSummaryDto summary(Long projectId) {
+        Bucket b = new Bucket();
+        if (projectId != null) {
+            Bucket p = buckets.get(projectId);
+            if (p != null) b.addAll(p);
+        } else {
+            buckets.values().forEach(b::addAll); // proje sayısı kadar, task sayısından bağımsız
+        }
+
+        Map<Long, String> statusNames = statusRepository.findAll().stream()
+                .collect(Collectors.toMap(Status::getId, Status::getName));
+        Map<Long, String> priorityNames = priorityRepository.findAll().stream()
+                .collect(Collectors.toMap(Priority::getId, Priority::getName));
+
+        List<Map.Entry<Long, Long>> top = sortedDesc(b.byAssignee).subList(0, Math.min(topAssignees, b.byAssignee.size()));
+        Map<Long, String> userNames = userRepository.findAllById(top.stream().map(Map.Entry::getKey).filter(id -> id != NONE).toList())
+                .stream().collect(Collectors.toMap(User::getId, DashboardService::fullName));
+
+        List<CountDto> byProject = List.of();
+        if (projectId == null) {
+            Map<Long, String> projectNames = projectRepository.findAll().stream()
+                    .collect(Collectors.toMap(Project::getId, Project::getName));
+            byProject = buckets.entrySet().stream()
+                    .filter(e -> e.getValue().total.sum() > 0)
+                    .map(e -> new CountDto(nullIfNone(e.getKey()),
+                            e.getKey() == NONE ? "No Project" : projectNames.getOrDefault(e.getKey(), "#" + e.getKey()),
+                            e.getValue().total.sum()))
+                    .sorted(Comparator.comparingLong(CountDto::count).reversed())
+                    .toList();
+        }
+
+        List<RecentTaskDto> recent = taskRepository.findRecentPerStatus(projectId, recentPerStatus).stream()
+                .map(r -> new RecentTaskDto(r.getId(), r.getTitle(), r.getStatusId(), r.getPriorityId()))
+                .toList();
+
+        return new DashboardSummaryDto(
+                projectId,
+                b.total.sum(),
+                b.overdue(LocalDate.now()),
+                counts(b.byStatus, statusNames, "No Status"),
+                counts(b.byPriority, priorityNames, "No Priority"),
+                top.stream().map(e -> new CountDto(nullIfNone(e.getKey()),
+                        e.getKey() == NONE ? "Unassigned" : userNames.getOrDefault(e.getKey(), "(user)"), e.getValue())).toList(),
+                b.matrix.entrySet().stream()
+                        .filter(e -> e.getValue().sum() > 0)
+                        .map(e -> new CellDto(nullIfNone(e.getKey().priorityId()), nullIfNone(e.getKey().statusId()), e.getValue().sum()))
+                        .toList(),
+                byProject,
+                recent,
+                OffsetDateTime.now().toString()
+        );
+    }
+
+    /* ---------------- Reconcile ---------------- */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reconcileDirty();
+    }
+
+    /** Dirty projeler (veya hepsi) kısa aralıkla */
+    @Scheduled(fixedDelayString = "${app.dashboard.dirty-check-ms:10000}")
+    public synchronized void reconcileDirty() {
+        if (allDirty) {
+            allDirty = false;
+            dirty.clear();
+            reconcile(null);
+            return;
+        }
+        for (Long pid : List.copyOf(dirty)) {
+            dirty.remove(pid);
+            reconcile(pid);
+        }
+    }
+
+    /** Drift düzeltme: tüm projeler */
+    @Scheduled(fixedDelayString = "${app.dashboard.reconcile-ms:300000}", initialDelayString = "${app.dashboard.reconcile-ms:300000}")
+    public synchronized void reconcileAll() {
+        allDirty = true;
+        reconcileDirty();
+    }
+
+    /** projectId null -> tüm projeler; sonuç bucket'ları atomik olarak değiştirilir */
+    private void reconcile(Long projectId) {
+        try {
+            tx.executeWithoutResult(status -> rebuild(projectId));
+        } catch (RuntimeException e) {
+            // bir sonraki turda tekrar denensin
+            if (projectId == null) allDirty = true; else dirty.add(projectId);
+            log.warn("Dashboard reconcile failed for project {}: {}", projectId, e.getMessage());
+        }
+    }
+
+    /**
+     * Snapshot'a kadar commit edilenlerin delta'ları eski bucket'a uygulanmış ve sayıma dahil;
+     * sonrakiler kuyruktan yeni bucket'a tekrar uygulanır (kayıp ya da çift sayım yok).
+     */
+    private void rebuild(Long projectId) {
+        commitGate.writeLock().lock();
+        try {
+            // transaction'ın ilk sorgusu: REPEATABLE READ snapshot'ı burada alınır
+            doneStatusIds = statusRepository.findAll().stream()
+                    .filter(s -> doneStatusNames.contains(s.getName()))
+                    .map(Status::getId)
+                    .collect(Collectors.toUnmodifiableSet());
+            synchronized (swapLock) {
+                sinceSnapshot = new ArrayList<>();
+            }
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+
+        try {
+            Map<Long, Bucket> fresh = new HashMap<>();
+            Long queryId = (projectId == null || projectId == NONE) ? null : projectId;
+            for (TaskRepository.DashboardRow r : taskRepository.countForDashboard(queryId)) {
+                if (projectId != null && r.getProjectId() != projectId.longValue()) continue;
+                Bucket b = fresh.computeIfAbsent(r.getProjectId(), k -> new Bucket());
+                long n = r.getCount();
+                b.total.add(n);
+                add(b.byStatus, r.getStatusId(), n);
+                add(b.byPriority, r.getPriorityId(), n);
+                add(b.matrix, new Cell(r.getPriorityId(), r.getStatusId()), n);
+                if (r.getDueDate() != null && !doneStatusIds.contains(r.getStatusId())) {
+                    add(b.openDue, LocalDate.parse(r.getDueDate()), n);
+                }
+            }
+            for (TaskRepository.AssigneeCountRow r : taskRepository.countAssigneesForDashboard(queryId)) {
+                if (projectId != null && r.getProjectId() != projectId.longValue()) continue;
+                add(fresh.computeIfAbsent(r.getProjectId(), k -> new Bucket()).byAssignee, r.getUserId(), r.getCount());
+            }
+
+            synchronized (swapLock) {
+                for (Delta d : sinceSnapshot) {
+                    if (projectId == null || keyOf(d.facts().projectId()) == projectId) apply(fresh, d.facts(), d.sign());
+                }
+                if (projectId == null) {
+                    buckets.keySet().retainAll(fresh.keySet());
+                    buckets.putAll(fresh);
+                } else {
+                    Bucket b = fresh.get(projectId);
+                    if (b == null) buckets.remove(projectId); else buckets.put(projectId, b);
+                }
+            }
+        } finally {
+            synchronized (swapLock) {
+                sinceSnapshot = null;
+            }
+        }
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    private void apply(TaskFacts before, TaskFacts after) {
+        synchronized (swapLock) {
+            if (before != null) apply(before, -1);
+            if (after != null) apply(after, +1);
+        }
+    }
+
+    private void apply(TaskFacts f, int sign) {
+        apply(buckets, f, sign);
+        if (sinceSnapshot != null) sinceSnapshot.add(new Delta(f, sign));
+    }
+
+    private void apply(Map<Long, Bucket> target, TaskFacts f, int sign) {
+        Bucket b = target.computeIfAbsent(keyOf(f.projectId()), k -> new Bucket());
+        long statusId = keyOf(f.statusId()), priorityId = keyOf(f.priorityId());
+        b.total.add(sign);
+        add(b.byStatus, statusId, sign);
+        add(b.byPriority, priorityId, sign);
+        add(b.matrix, new Cell(priorityId, statusId), sign);
+        if (f.assigneeIds() == null || f.assigneeIds().isEmpty()) {
+            add(b.byAssignee, NONE, sign);
+        } else {
+            for (Long uid : f.assigneeIds()) add(b.byAssignee, uid, sign);
+        }
+        if (f.dueDate() != null && !doneStatusIds.contains(statusId)) {
+            add(b.openDue, f.dueDate(), sign);
+        }
+    }
+
+    private static <K> void add(Map<K, LongAdder> m, K key, long n) {
+        m.computeIfAbsent(key, k -> new LongAdder()).add(n);
+    }
+
+    private static List<Map.Entry<Long, Long>> sortedDesc(Map<Long, LongAdder> m) {
+        return m.entrySet().stream()
+                .map(e -> Map.entry(e.getKey(), e.getValue().sum()))
+                .filter(e -> e.getValue() > 0)
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static List<CountDto> counts(Map<Long, LongAdder> m, Map<Long, String> names, String noneLabel) {
+        return sortedDesc(m).stream()
+                .map(e -> new CountDto(nullIfNone(e.getKey()),
+                        e.getKey() == NONE ? noneLabel : names.getOrDefault(e.getKey(), "#" + e.getKey()),
+                        e.getValue()))
+                .toList();
+    }
+
+    private static long keyOf(Long id) {
+        return id == null ? NONE : id;
+    }
+
+    private static Long nullIfNone(Long id) {
+        return id == null || id == NONE ? null : id;
+    }
+
+    private static String fullName(User u) {
+        String n = u.getName() == null ? "" : u.getName().trim();
+        String s = u.getSurname() == null ? "" : u.getSurname().trim();
+        String full = (n + " " + s).trim();
+        return full.isEmpty() ? u.getEmail() : full;
+    }
+
+    private record Cell(long priorityId, long statusId) {}
+
+    private record Delta(TaskFacts facts, int sign) {}
+
+    /** Tek proje için sayaçlar (0 anahtarı = yok/atanmamış) */
+    private static final class Bucket {
+        final LongAdder total = new LongAdder();
+        final Map<Long, LongAdder> byStatus = new ConcurrentHashMap<>();
+        final Map<Long, LongAdder> byPriority = new ConcurrentHashMap<>();
+        final Map<Long, LongAdder> byAssignee = new ConcurrentHashMap<>();
+        final Map<Cell, LongAdder> matrix = new ConcurrentHashMap<>();
+        /** Done olmayan task'ların due date histogramı (overdue = bugünden öncekiler) */
+        final ConcurrentSkipListMap<LocalDate, LongAdder> openDue = new ConcurrentSkipListMap<>();
+
+        void addAll(Bucket o) {
+            total.add(o.total.sum());
+            o.byStatus.forEach((k, v) -> add(byStatus, k, v.sum()));
+            o.byPriority.forEach((k, v) -> add(byPriority, k, v.sum()));
+            o.byAssignee.forEach((k, v) -> add(byAssignee, k, v.sum()));
+            o.matrix.forEach((k, v) -> add(matrix, k, v.sum()));
+            o.openDue.forEach((k, v) -> add(openDue, k, v.sum()));
+        }
+
+        long overdue(LocalDate today) {
+            long n = 0;
+            for (LongAdder a : openDue.headMap(today).values()) n += a.sum();
+            return n;
+        }
+    }
+
+    /** Bir task'ın sayaçlara katkısı */
+    public record TaskFacts(Long projectId, Long statusId, Long priorityId, LocalDate dueDate, Collection<Long> assigneeIds) {
+
+        public static TaskFacts of(Task t) {
+            List<Long> assignees = t.getAssignedUsers() == null ? List.of()
+                    : t.getAssignedUsers().stream().map(User::getId).filter(Objects::nonNull).toList();
+            return new TaskFacts(
+                    TaskEventPublisher.projectIdOf(t),
+                    t.getStatus() == null ? null : t.getStatus().getId(),
+                    t.getPriority() == null ? null : t.getPriority().getId(),
+                    t.getDueDate(),
+                    assignees);
+        }
+
+        public TaskFacts withStatus(Long statusId) {
+            return new TaskFacts(projectId, statusId, priorityId, dueDate, assigneeIds);
+        }
+
+        /** PUT diff'inden önceki hal (epic değiştiyse proje bilinmez -> null) */
+        public TaskFacts before(TaskChangeDetector.TaskChanges changes) {
+            if (changes.has(TaskChangeDetector.EPIC_ID)) return null;
+            Long s = changes.has(TaskChangeDetector.STATUS_ID) ? (Long) changes.oldValue(TaskChangeDetector.STATUS_ID) : statusId;
+            Long p = changes.has(TaskChangeDetector.PRIORITY_ID) ? (Long) changes.oldValue(TaskChangeDetector.PRIORITY_ID) : priorityId;
+            LocalDate d = changes.has(TaskChangeDetector.DUE_DATE) ? (LocalDate) changes.oldValue(TaskChangeDetector.DUE_DATE) : dueDate;
+            Collection<Long> a = assigneeIds;
+            if (changes.has(TaskChangeDetector.ASSIGNEE_IDS)) {
+                @SuppressWarnings("unchecked")
+                Collection<Long> old = (Collection<Long>) changes.oldValue(TaskChangeDetector.ASSIGNEE_IDS);
+                a = old;
+            }
+            return new TaskFacts(projectId, s, p, d, a);
+        }
+    }
+}
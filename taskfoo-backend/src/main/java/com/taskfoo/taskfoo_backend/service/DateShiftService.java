@@ -0,0 +1,152 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/DateShiftService.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.dto.response.gantt.ShiftResult;
+import com.taskfoo.taskfoo_backend.model.AuditEvent;
+import com.taskfoo.taskfoo_backend.repository.AuditEventRepository;
+import com.taskfoo.taskfoo_backend.repository.EpicRepository;
+import com.taskfoo.taskfoo_backend.repository.ProjectRepository;
+import com.taskfoo.taskfoo_backend.repository.TaskRepository;
+import com.taskfoo.taskfoo_backend.support.RequestContext;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Epic / proje tarihlerini N gün kaydırma: task'lar tek UPDATE ... RETURNING, epic/proje tarihleri
+ * birer UPDATE ile; audit set-based (task başına satır + kapsam için tek özet), WS'e tek event.
+ * Epic kaydırılınca dışarıdaki bağımlı task'lar dependency motoruyla ileri itilir.
+ */
+@Service
+public class DateShiftService {
+
+    private static final int MAX_SHIFT_DAYS = 3650;
+
+    private final TaskRepository taskRepository;
+    private final EpicRepository epicRepository;
+    private final ProjectRepository projectRepository;
+    private final AuditEventRepository auditRepository;
+    private final TaskEventPublisher events;
+    private final DashboardService dashboard;
+    private final DueReminderService reminders;
+    private final TaskDependencyService dependencies;
+
+    public DateShiftService(TaskRepository taskRepository,
+                            EpicRepository epicRepository,
+                            ProjectRepository projectRepository,
+                            AuditEventRepository auditRepository,
+                            TaskEventPublisher events,
+                            DashboardService dashboard,
+                            DueReminderService reminders,
+                            TaskDependencyService dependencies) {
+        this.taskRepository = taskRepository;
+        this.epicRepository = epicRepository;
+        this.projectRepository = projectRepository;
+        this.auditRepository = auditRepository;
+        this.events = events;
+        this.dashboard = dashboard;
+        this.reminders = reminders;
+        this.dependencies = dependencies;
+    }
+
+    @Transactional
+    public ShiftResult shiftEpic(Long epicId, int days) {
+        requireValid(days);
+        if (!epicRepository.existsById(epicId)) {
+            throw new EntityNotFoundException("Epic not found: " + epicId);
+        }
+        Long projectId = epicRepository.findProjectId(epicId);
+        epicRepository.shiftDates(epicId, null, days);
+        List<TaskRepository.DateShiftRow> rows = taskRepository.shiftDates(epicId, null, days);
+        finish("EPIC", epicId, projectId, epicId, null, days, rows);
+
+        // epic içi kenarlar korunur; dışarıdaki successor'lar gerekiyorsa ileri kayar
+        if (days > 0 && !rows.isEmpty()) {
+            dependencies.onTasksShifted(rows.stream().map(TaskRepository.DateShiftRow::getId).toList(), projectId);
+        }
+        return new ShiftResult(days, rows.size());
+    }
+
+    @Transactional
+    public ShiftResult shiftProject(Long projectId, int days) {
+        requireValid(days);
+        if (projectRepository.shiftDates(projectId, days) == 0) {
+            throw new EntityNotFoundException("Project not found: " + projectId);
+        }
+        epicRepository.shiftDates(null, projectId, days);
+        List<TaskRepository.DateShiftRow> rows = taskRepository.shiftDates(null, projectId, days);
+        finish("PROJECT", projectId, projectId, null, projectId, days, rows);
+        return new ShiftResult(days, rows.size());
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    /** Task audit'i ve reminder'lar id listesiyle değil kapsamla (scopeEpicId / scopeProjectId) */
+    private void finish(String entityType, Long entityId, Long projectId, Long epicId, Long scopeProjectId, int days,
+                        List<TaskRepository.DateShiftRow> rows) {
+        RequestContext rc = RequestContext.get();
+        if (rc == null) rc = new RequestContext();
+        if (!rows.isEmpty()) {
+            auditRepository.insertTaskEventsForShift(epicId, scopeProjectId, AuditEvent.AuditAction.UPDATE.name(),
+                    rc.actorId, rc.actorName, rc.pageContext, rc.clientChangeId, rc.requestId, rc.ip);
+        }
+        writeAudit(entityType, entityId, days, rows.size(), rc);
+
+        List<TaskDependencyService.TasksShiftedPayload.Shift> shifts = new ArrayList<>(rows.size());
+        for (TaskRepository.DateShiftRow r : rows) {
+            shifts.add(new TaskDependencyService.TasksShiftedPayload.Shift(r.getId(),
+                    r.getStartDate() == null ? null : LocalDate.parse(r.getStartDate()),
+                    r.getDueDate() == null ? null : LocalDate.parse(r.getDueDate())));
+        }
+        events.publish("DATES_SHIFTED",
+                new DatesShiftedPayload(projectId, epicId, days, shifts, OffsetDateTime.now().toString()),
+                projectId);
+        if (!rows.isEmpty()) reminders.reloadShifted(epicId, scopeProjectId);
+        dashboard.markDirty(projectId);
+    }
+
+    private void writeAudit(String entityType, Long entityId, int days, int tasks, RequestContext rc) {
+        Map<String, Object> m = new HashMap<>();
+        m.put("shiftDays", days);
+        m.put("tasksShifted", tasks);
+        auditRepository.save(AuditEvent.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .action(AuditEvent.AuditAction.UPDATE)
+                .metadata(m)
+                .actorId(rc.actorId)
+                .actorName(rc.actorName)
+                .pageContext(rc.pageContext)
+                .clientChangeId(rc.clientChangeId)
+                .requestId(rc.requestId)
+                .ipAddress(rc.ip)
+                .build());
+    }
+
+    private static void requireValid(int days) {
+        if (days == 0 || Math.abs(days) > MAX_SHIFT_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "days must be non-zero and at most " + MAX_SHIFT_DAYS + " in either direction");
+        }
+    }
+
+    /* ---------------- Payload DTO'ları ---------------- */
+
+    /** epicId null -> tüm proje kaydırıldı */
+    public record DatesShiftedPayload(
+            Long projectId,
+            Long epicId,
+            int days,
+            List<TaskDependencyService.TasksShiftedPayload.Shift> shifts,
+            String at
+    ) {}
+}
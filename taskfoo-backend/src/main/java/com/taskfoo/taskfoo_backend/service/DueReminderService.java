@@ -0,0 +1,177 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/DueReminderService.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.model.Status;
+import com.taskfoo.taskfoo_backend.model.Task;
+import com.taskfoo.taskfoo_backend.repository.StatusRepository;
+import com.taskfoo.taskfoo_backend.repository.TaskRepository;
+import com.taskfoo.taskfoo_backend.support.TimingWheel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.taskfoo.taskfoo_backend.support.TransactionHooks.afterCommit;
+
+/**
+ * Due date hatırlatmaları: açık task başına iki eşik (TASK_DUE_SOON: due günü başlangıcından
+ * {@code dueSoonHours} önce, TASK_OVERDUE: due gününün bitişi) in-memory timing wheel'de tutulur.
+ * Açılışta bir kez yüklenir, sonra TaskService mutasyonlarıyla güncellenir; periyodik tablo taraması yok.
+ * Geçmişte kalan eşikler tetiklenmez (sadece eşik geçildiği an event gider).
+ */
+@Service
+public class DueReminderService {
+
+    private static final Logger log = LoggerFactory.getLogger(DueReminderService.class);
+
+    public static final String DUE_SOON = "TASK_DUE_SOON";
+    public static final String OVERDUE = "TASK_OVERDUE";
+
+    private final TaskRepository taskRepository;
+    private final StatusRepository statusRepository;
+    private final TaskEventPublisher events;
+    private final Set<String> doneStatusNames;
+    private final long dueSoonHours;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    /** Erişim: synchronized (wheel) */
+    private final TimingWheel<Key, Reminder> wheel;
+    private volatile Set<Long> doneStatusIds = Set.of();
+
+    public DueReminderService(TaskRepository taskRepository,
+                              StatusRepository statusRepository,
+                              TaskEventPublisher events,
+                              @Value("${app.tasks.done-statuses:Done}") List<String> doneStatusNames,
+                              @Value("${app.reminders.due-soon-hours:24}") long dueSoonHours,
+                              @Value("${app.reminders.tick-ms:60000}") long tickMs) {
+        this.taskRepository = taskRepository;
+        this.statusRepository = statusRepository;
+        this.events = events;
+        this.doneStatusNames = new HashSet<>(doneStatusNames);
+        this.dueSoonHours = dueSoonHours;
+        // 64 slot x 4 seviye: 1 dk tick ile ~64 dk / ~68 saat / ~6 ay / ~31 yıl
+        this.wheel = new TimingWheel<>(tickMs, 64, 4, System.currentTimeMillis());
+    }
+
+    /* ---------------- Hook'lar (commit sonrası) ---------------- */
+
+    /** Task oluşturuldu / due date, status, başlık veya epic değişti */
+    public void onTaskChanged(Task task) {
+        Reminder base = new Reminder(task.getId(), null, task.getTitle(), task.getDueDate(),
+                task.getStatus() == null ? null : task.getStatus().getId(),
+                TaskEventPublisher.projectIdOf(task));
+        afterCommit(() -> schedule(base));
+    }
+
+    /** Silindi / arşivlendi */
+    public void onTasksRemoved(Collection<Long> taskIds) {
+        List<Long> ids = List.copyOf(taskIds);
+        afterCommit(() -> {
+            synchronized (wheel) {
+                for (Long id : ids) cancelAll(id);
+            }
+        });
+    }
+
+    /** Arşivden dönen vb.: güncel hali DB'den */
+    public void reload(Collection<Long> taskIds) {
+        List<Long> ids = List.copyOf(taskIds);
+        afterCommit(() -> taskRepository.findDueByIds(ids).forEach(r -> schedule(toReminder(r))));
+    }
+
+    /** Epic (epicId) ya da proje (projectId) tarihleri kaydırıldı; diğer parametre null */
+    public void reloadShifted(Long epicId, Long projectId) {
+        afterCommit(() -> taskRepository.findDueByShiftScope(epicId, projectId).forEach(r -> schedule(toReminder(r))));
+    }
+
+    /* ---------------- Wheel ---------------- */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refreshDoneStatuses();
+        int n = 0;
+        for (TaskRepository.ReminderRow r : taskRepository.findDueFrom(LocalDate.now(zone))) {
+            n += schedule(toReminder(r));
+        }
+        log.info("Loaded {} due-date reminder(s)", n);
+    }
+
+    @Scheduled(fixedDelayString = "${app.reminders.tick-ms:60000}")
+    public void tick() {
+        List<Reminder> fired;
+        synchronized (wheel) {
+            fired = wheel.advance(System.currentTimeMillis());
+        }
+        if (fired.isEmpty()) return;
+
+        String at = OffsetDateTime.now().toString();
+        for (Reminder r : fired) {
+            events.publish(r.type(),
+                    new TaskDueReminderPayload(r.taskId(), r.title(), r.dueDate().toString(), at),
+                    r.projectId());
+        }
+    }
+
+    /** Status isimleri nadiren değişir: saatlik tazele */
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 3_600_000)
+    public void refreshDoneStatuses() {
+        doneStatusIds = statusRepository.findAll().stream()
+                .filter(s -> doneStatusNames.contains(s.getName()))
+                .map(Status::getId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    /** Döner: kurulan eşik sayısı */
+    private int schedule(Reminder base) {
+        synchronized (wheel) {
+            cancelAll(base.taskId());
+            if (base.dueDate() == null || doneStatusIds.contains(base.statusId())) return 0;
+
+            long dueStart = base.dueDate().atStartOfDay(zone).toInstant().toEpochMilli();
+            long overdueAt = base.dueDate().plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+            int n = 0;
+            if (wheel.schedule(new Key(base.taskId(), DUE_SOON), dueStart - dueSoonHours * 3_600_000, base.withType(DUE_SOON))) n++;
+            if (wheel.schedule(new Key(base.taskId(), OVERDUE), overdueAt, base.withType(OVERDUE))) n++;
+            return n;
+        }
+    }
+
+    private void cancelAll(Long taskId) {
+        wheel.cancel(new Key(taskId, DUE_SOON));
+        wheel.cancel(new Key(taskId, OVERDUE));
+    }
+
+    private static Reminder toReminder(TaskRepository.ReminderRow r) {
+        return new Reminder(r.getId(), null, r.getTitle(),
+                r.getDueDate() == null ? null : LocalDate.parse(r.getDueDate()),
+                r.getStatusId(), r.getProjectId());
+    }
+
+    private record Key(Long taskId, String type) {}
+
+    private record Reminder(Long taskId, String type, String title, LocalDate dueDate, Long statusId, Long projectId) {
+        Reminder withType(String t) {
+            return new Reminder(taskId, t, title, dueDate, statusId, projectId);
+        }
+    }
+
+    /* ---------------- Payload DTO'ları ---------------- */
+
+    public record TaskDueReminderPayload(
+            Long taskId,
+            String title,
+            String dueDate,
+            String at
+    ) {}
+}
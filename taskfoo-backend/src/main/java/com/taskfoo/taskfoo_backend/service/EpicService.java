@@ -9,6 +9,7 @@ import com.taskfoo.taskfoo_backend.model.Epic;
 import com.taskfoo.taskfoo_backend.model.Project;
 import com.taskfoo.taskfoo_backend.repository.EpicRepository;
 import com.taskfoo.taskfoo_backend.repository.ProjectRepository;
+import com.taskfoo.taskfoo_backend.support.JobRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,10 +22,13 @@ public class EpicService {
 
     private final EpicRepository epicRepository;
     private final ProjectRepository projectRepository;
+    private final CascadeDeleteService cascadeDeleteService;
 
-    public EpicService(EpicRepository epicRepository, ProjectRepository projectRepository) {
+    public EpicService(EpicRepository epicRepository, ProjectRepository projectRepository,
+                       CascadeDeleteService cascadeDeleteService) {
         this.epicRepository = epicRepository;
         this.projectRepository = projectRepository;
+        this.cascadeDeleteService = cascadeDeleteService;
     }
 
     @Transactional(readOnly = true)
@@ -62,10 +66,12 @@ public class EpicService {
         return EpicMapper.toDto(e); // dirty checking ile persist olunur
     }
 
-    public void delete(Long id) {
+    /** Cascade delete arka planda (task'lar + epic'ler chunk'lı); job durumunu döner */
+    @Transactional(readOnly = true)
+    public JobRegistry.JobStatus delete(Long id) {
         if (!epicRepository.existsById(id)) {
             throw new EntityNotFoundException("Epic not found: " + id);
         }
-        epicRepository.deleteById(id);
+        return cascadeDeleteService.deleteEpic(id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,200 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/FlowMetricsService.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.dto.response.analytics.BurndownPointDto;
+import com.taskfoo.taskfoo_backend.dto.response.analytics.FlowDayDto;
+import com.taskfoo.taskfoo_backend.model.Status;
+import com.taskfoo.taskfoo_backend.repository.StatusRepository;
+import com.taskfoo.taskfoo_backend.repository.TaskFlowRepository;
+import com.taskfoo.taskfoo_backend.support.JobRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Cumulative flow / burndown serileri. Kapanmış her gün task_flow_daily'de snapshot olarak durur
+ * (önceki gün + o günün audit status delta'ları, set-based tek INSERT); bugün ise dünkü snapshot +
+ * bugünün delta'larıyla anlık hesaplanır. Uzun aralıklar audit replay'i gerektirmez.
+ * İlk çalıştırmada mevcut sayımlardan başlanıp audit geriye doğru oynatılır (audit öncesi task'lar da doğru sayılır).
+ */
+@Service
+public class FlowMetricsService {
+
+    private static final Logger log = LoggerFactory.getLogger(FlowMetricsService.class);
+
+    private final TaskFlowRepository flowRepository;
+    private final StatusRepository statusRepository;
+    private final JobRegistry jobs;
+    private final TransactionTemplate tx;
+    private final Set<String> doneStatusNames;
+    private final int backfillDays;
+    private final int maxRangeDays;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public FlowMetricsService(TaskFlowRepository flowRepository,
+                              StatusRepository statusRepository,
+                              JobRegistry jobs,
+                              PlatformTransactionManager txManager,
+                              @Value("${app.tasks.done-statuses:Done}") List<String> doneStatusNames,
+                              @Value("${app.flow.backfill-days:365}") int backfillDays,
+                              @Value("${app.flow.max-range-days:1100}") int maxRangeDays) {
+        this.flowRepository = flowRepository;
+        this.statusRepository = statusRepository;
+        this.jobs = jobs;
+        this.tx = new TransactionTemplate(txManager);
+        this.doneStatusNames = new HashSet<>(doneStatusNames);
+        this.backfillDays = backfillDays;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    /* ---------------- Query ---------------- */
+
+    /** Gün başına status sayıları; aradaki boş günler de döner (0) */
+    public List<FlowDayDto> cumulativeFlow(Long projectId, Long epicId, LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now(zone);
+        if (to == null) to = today;
+        if (from == null) from = to.minusDays(29);
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Range too long (max " + maxRangeDays + " days)");
+        }
+
+        Map<String, Map<Long, Long>> byDay = new HashMap<>();
+        LocalDate lastClosed = today.minusDays(1);
+        if (!from.isAfter(lastClosed)) {
+            LocalDate end = to.isBefore(lastClosed) ? to : lastClosed;
+            collect(byDay, flowRepository.findSeries(from, end, projectId, epicId));
+        }
+        if (!to.isBefore(today) && !from.isAfter(today)) {
+            collect(byDay, flowRepository.findLiveDay(lastClosed, startOf(today), startOf(today.plusDays(1)), projectId, epicId));
+        }
+
+        LocalDate last = to.isAfter(today) ? today : to;
+        List<FlowDayDto> out = new ArrayList<>();
+        for (LocalDate d = from; !d.isAfter(last); d = d.plusDays(1)) {
+            String key = d.toString();
+            out.add(new FlowDayDto(key, byDay.getOrDefault(key, Map.of())));
+        }
+        return out;
+    }
+
+    public List<BurndownPointDto> burndown(Long projectId, Long epicId, LocalDate from, LocalDate to) {
+        Set<Long> done = doneStatusIds();
+        return cumulativeFlow(projectId, epicId, from, to).stream()
+                .map(d -> {
+                    long total = 0, doneCount = 0;
+                    for (Map.Entry<Long, Long> e : d.byStatus().entrySet()) {
+                        total += e.getValue();
+                        if (done.contains(e.getKey())) doneCount += e.getValue();
+                    }
+                    return new BurndownPointDto(d.day(), total, doneCount, total - doneCount);
+                })
+                .toList();
+    }
+
+    /* ---------------- Snapshot ---------------- */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            jobs.submit("FLOW_SNAPSHOT", job -> job.result(closeDays()));
+        } catch (RuntimeException e) {
+            log.warn("Flow snapshot job not scheduled: {}", e.getMessage()); // gece çalışması telafi eder
+        }
+    }
+
+    @Scheduled(cron = "${app.flow.snapshot-cron:0 5 0 * * *}")
+    public void nightly() {
+        closeDays();
+    }
+
+    /** Dün dahil kapanmamış günleri yazar; döner: yazılan gün sayısı */
+    public int closeDays() {
+        if (!running.compareAndSet(false, true)) return 0;
+        try {
+            LocalDate yesterday = LocalDate.now(zone).minusDays(1);
+            String last = flowRepository.findLastDay();
+            if (last == null) return backfill(yesterday);
+
+            int days = 0;
+            for (LocalDate d = LocalDate.parse(last).plusDays(1); !d.isAfter(yesterday); d = d.plusDays(1)) {
+                LocalDate day = d;
+                tx.executeWithoutResult(s -> {
+                    flowRepository.deleteDay(day);
+                    flowRepository.insertStep(day, day.minusDays(1), startOf(day), startOf(day.plusDays(1)), +1);
+                });
+                days++;
+            }
+            if (days > 0) log.info("Closed {} flow snapshot day(s) up to {}", days, yesterday);
+            return days;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    /** Dün = mevcut sayımlar - bugünün delta'ları; sonra her gün bir öncekinden geriye */
+    private int backfill(LocalDate yesterday) {
+        LocalDate today = yesterday.plusDays(1);
+        tx.executeWithoutResult(s -> {
+            flowRepository.deleteDay(yesterday);
+            flowRepository.insertAnchor(yesterday, startOf(today), startOf(today.plusDays(1)));
+        });
+
+        String first = flowRepository.findFirstTaskAuditDay();
+        LocalDate limit = yesterday.minusDays(backfillDays);
+        if (first != null && LocalDate.parse(first).minusDays(1).isAfter(limit)) {
+            limit = LocalDate.parse(first).minusDays(1);
+        }
+
+        int days = 1;
+        for (LocalDate d = yesterday; d.isAfter(limit); d = d.minusDays(1)) {
+            LocalDate day = d;
+            tx.executeWithoutResult(s -> {
+                flowRepository.deleteDay(day.minusDays(1));
+                flowRepository.insertStep(day.minusDays(1), day, startOf(day), startOf(day.plusDays(1)), -1);
+            });
+            days++;
+        }
+        log.info("Backfilled {} flow snapshot day(s) from audit", days);
+        return days;
+    }
+
+    private static void collect(Map<String, Map<Long, Long>> byDay, List<TaskFlowRepository.FlowRow> rows) {
+        for (TaskFlowRepository.FlowRow r : rows) {
+            byDay.computeIfAbsent(r.getDay(), k -> new TreeMap<>()).put(r.getStatusId(), r.getCount());
+        }
+    }
+
+    private Set<Long> doneStatusIds() {
+        return statusRepository.findAll().stream()
+                .filter(s -> doneStatusNames.contains(s.getName()))
+                .map(Status::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private OffsetDateTime startOf(LocalDate day) {
+        return day.atStartOfDay(zone).toOffsetDateTime();
+    }
+}
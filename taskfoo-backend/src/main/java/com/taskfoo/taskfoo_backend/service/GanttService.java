@@ -0,0 +1,119 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/GanttService.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.dto.response.gantt.GanttResponse;
+import com.taskfoo.taskfoo_backend.dto.response.task.TaskListItemResponse;
+import com.taskfoo.taskfoo_backend.mapper.TaskMapper;
+import com.taskfoo.taskfoo_backend.model.Epic;
+import com.taskfoo.taskfoo_backend.model.Task;
+import com.taskfoo.taskfoo_backend.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Gantt penceresi: sadece [from, to] ile kesişen task'lar (GiST daterange index'i), epic bazında
+ * gruplanmış ve epic özet çubuklarıyla. Yük toplam geçmişe değil görünen pencereye bağlı.
+ */
+@Service
+public class GanttService {
+
+    private static final Comparator<TaskListItemResponse> BY_START = Comparator
+            .comparing((TaskListItemResponse t) -> t.startDate() != null ? t.startDate() : t.dueDate(),
+                    Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(TaskListItemResponse::id);
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper mapper;
+    private final List<String> doneStatusNames;
+    private final int maxRangeDays;
+
+    public GanttService(TaskRepository taskRepository,
+                        TaskMapper mapper,
+                        @Value("${app.tasks.done-statuses:Done}") List<String> doneStatusNames,
+                        @Value("${app.gantt.max-range-days:731}") int maxRangeDays) {
+        this.taskRepository = taskRepository;
+        this.mapper = mapper;
+        this.doneStatusNames = doneStatusNames;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    public GanttResponse window(Long projectId, LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'from' and 'to' are required");
+        }
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Range too long (max " + maxRangeDays + " days)");
+        }
+
+        List<Long> ids = taskRepository.findIdsInWindow(projectId, from, to);
+        if (ids.isEmpty()) return new GanttResponse(from, to, List.of());
+
+        // epic id -> (epic, task'lar); epic'siz task'lar null anahtarında
+        Map<Long, Epic> epics = new HashMap<>();
+        Map<Long, List<TaskListItemResponse>> byEpic = new HashMap<>();
+        for (Task t : taskRepository.findByIdIn(ids)) {
+            Long epicId = t.getEpic() == null ? null : t.getEpic().getId();
+            if (epicId != null) epics.putIfAbsent(epicId, t.getEpic());
+            byEpic.computeIfAbsent(epicId, k -> new ArrayList<>()).add(mapper.toListItem(t));
+        }
+
+        Map<Long, TaskRepository.EpicSpanRow> spans = new HashMap<>();
+        if (!epics.isEmpty()) {
+            for (TaskRepository.EpicSpanRow r : taskRepository.findEpicSpans(epics.keySet(), doneStatusNames)) {
+                spans.put(r.getEpicId(), r);
+            }
+        }
+
+        List<GanttResponse.EpicGroup> groups = new ArrayList<>(byEpic.size());
+        byEpic.forEach((epicId, tasks) -> {
+            tasks.sort(BY_START);
+            if (epicId == null) {
+                groups.add(new GanttResponse.EpicGroup(null, null, spanStart(tasks), spanEnd(tasks), tasks.size(), 0, tasks));
+                return;
+            }
+            Epic e = epics.get(epicId);
+            TaskRepository.EpicSpanRow span = spans.get(epicId);
+            LocalDate start = e.getStartDate() != null ? e.getStartDate() : parse(span == null ? null : span.getStartDate());
+            LocalDate end = e.getDueDate() != null ? e.getDueDate() : parse(span == null ? null : span.getDueDate());
+            groups.add(new GanttResponse.EpicGroup(epicId, e.getName(), start, end,
+                    span == null ? tasks.size() : span.getTaskCount(),
+                    span == null ? 0 : span.getDoneCount(),
+                    tasks));
+        });
+
+        // epic'ler en erken başlangıca göre, epic'sizler en sonda
+        groups.sort(Comparator
+                .comparing((GanttResponse.EpicGroup g) -> g.id() == null)
+                .thenComparing(GanttResponse.EpicGroup::startDate, Comparator.nullsLast(Comparator.naturalOrder())));
+        return new GanttResponse(from, to, groups);
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    private static LocalDate spanStart(List<TaskListItemResponse> tasks) {
+        return tasks.stream()
+                .map(t -> t.startDate() != null ? t.startDate() : t.dueDate())
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder()).orElse(null);
+    }
+
+    private static LocalDate spanEnd(List<TaskListItemResponse> tasks) {
+        return tasks.stream()
+                .map(t -> t.dueDate() != null ? t.dueDate() : t.startDate())
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder()).orElse(null);
+    }
+
+    private static LocalDate parse(String date) {
+        return date == null ? null : LocalDate.parse(date);
+    }
+}
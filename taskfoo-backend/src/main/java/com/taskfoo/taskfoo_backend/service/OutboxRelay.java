@@ -0,0 +1,282 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/OutboxRelay.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskfoo.taskfoo_backend.model.TaskEvent;
+import com.taskfoo.taskfoo_backend.repository.OutboxEventRepository;
+import com.taskfoo.taskfoo_backend.repository.WebhookEndpointRepository;
+import com.taskfoo.taskfoo_backend.support.TransactionHooks;
+import com.taskfoo.taskfoo_backend.support.WebhookTargetPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Outbox dağıtıcısı. Tek "outbox-relay" thread'i commit sonrası uyandırılır (publish eden
+ * transaction'ın afterCommit'i) ve ayrıca {@code app.outbox.poll-ms}'de bir yoklar
+ * (başka node'ların yazdıkları / kaçan uyandırmalar).
+ * <ul>
+ *   <li>STOMP: her node kendi imleciyle tüm event'leri kendi broker'ına basar (imleç bellekte,
+ *       açılışta "şimdi"den başlar; bağlı istemciler zaten bu node'a bağlı).</li>
+ *   <li>Webhook: endpoint başına kalıcı imleç; endpoint lease ile tek node'da, sırayla, batch
+ *       halinde POST edilir. Hata -> aynı batch üstel backoff ile tekrar (sıra korunur).
+ *       Alıcı event id'siyle tekrarları ayıklamalı (en az bir kez teslim).</li>
+ * </ul>
+ */
+@Service
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final String SIGNATURE_HEADER = "X-Taskfoo-Signature";
+
+    private final OutboxEventRepository outbox;
+    private final WebhookEndpointRepository endpoints;
+    private final SimpMessagingTemplate broker;
+    private final ObjectMapper objectMapper;
+    private final WebhookTargetPolicy targets;
+    private final HttpClient http;
+
+    private final int batchSize;
+    private final int webhookBatchSize;
+    private final int maxBatchesPerClaim;
+    private final int leaseSeconds;
+    private final Duration requestTimeout;
+    private final long backoffBaseMs;
+    private final long backoffMaxMs;
+    private final long retentionHours;
+
+    /** Kuyruk 1: arka arkaya gelen uyandırmalar tek turda birleşir */
+    private final ThreadPoolExecutor relay;
+    private final ThreadPoolExecutor deliveries;
+
+    /** Sadece relay thread'i erişir; null -> henüz başlatılmadı */
+    private long[] stompCursor;
+
+    private final Counter stompDelivered;
+    private final Counter webhookDelivered;
+    private final Counter webhookFailures;
+
+    public OutboxRelay(OutboxEventRepository outbox,
+                       WebhookEndpointRepository endpoints,
+                       SimpMessagingTemplate broker,
+                       ObjectMapper objectMapper,
+                       WebhookTargetPolicy targets,
+                       MeterRegistry meters,
+                       @Value("${app.outbox.batch-size:500}") int batchSize,
+                       @Value("${app.outbox.retention-hours:168}") long retentionHours,
+                       @Value("${app.webhooks.threads:4}") int webhookThreads,
+                       @Value("${app.webhooks.batch-size:100}") int webhookBatchSize,
+                       @Value("${app.webhooks.max-batches-per-claim:20}") int maxBatchesPerClaim,
+                       @Value("${app.webhooks.timeout-ms:5000}") long timeoutMs,
+                       @Value("${app.webhooks.backoff-base-ms:1000}") long backoffBaseMs,
+                       @Value("${app.webhooks.backoff-max-ms:600000}") long backoffMaxMs) {
+        this.outbox = outbox;
+        this.endpoints = endpoints;
+        this.broker = broker;
+        this.objectMapper = objectMapper;
+        this.targets = targets;
+        this.batchSize = batchSize;
+        this.retentionHours = retentionHours;
+        this.maxBatchesPerClaim = maxBatchesPerClaim;
+        this.requestTimeout = Duration.ofMillis(timeoutMs);
+        this.backoffBaseMs = backoffBaseMs;
+        this.backoffMaxMs = backoffMaxMs;
+        // lease bir claim'in en kötü süresini (her batch timeout'a kadar) kapsasın
+        this.leaseSeconds = (int) Math.max(30, (timeoutMs * 2) / 1000);
+        this.webhookBatchSize = webhookBatchSize;
+        this.http = HttpClient.newBuilder().connectTimeout(requestTimeout).build();
+
+        this.relay = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1),
+                daemon("outbox-relay"), new ThreadPoolExecutor.DiscardPolicy());
+        this.deliveries = new ThreadPoolExecutor(webhookThreads, webhookThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(webhookThreads * 4), daemon("webhook-"), new ThreadPoolExecutor.AbortPolicy());
+
+        this.stompDelivered = Counter.builder("outbox.delivered").tag("target", "stomp").register(meters);
+        this.webhookDelivered = Counter.builder("outbox.delivered").tag("target", "webhook").register(meters);
+        this.webhookFailures = Counter.builder("outbox.webhook.failures").register(meters);
+    }
+
+    /** Publish eden transaction commit olunca (transaction yoksa hemen) dağıt */
+    public void wakeAfterCommit() {
+        TransactionHooks.afterCommit(this::wake);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-ms:1000}")
+    public void wake() {
+        relay.execute(this::dispatch);
+    }
+
+    /** Retention'dan eski event'ler (webhook imleci geride kalmış olsa da) silinir */
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 600_000)
+    public void purge() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minusHours(retentionHours);
+        int total = 0, n;
+        while ((n = outbox.deleteOlderThan(cutoff, 10_000)) > 0) total += n;
+        if (total > 0) log.info("Purged {} outbox event(s) older than {}h", total, retentionHours);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        relay.shutdown();
+        deliveries.shutdown();
+    }
+
+    /* ---------------- Relay thread ---------------- */
+
+    private void dispatch() {
+        try {
+            dispatchStomp();
+        } catch (RuntimeException e) {
+            log.warn("Outbox STOMP dispatch failed", e);
+        }
+        try {
+            dispatchWebhooks();
+        } catch (RuntimeException e) {
+            log.warn("Outbox webhook dispatch failed", e);
+        }
+    }
+
+    private void dispatchStomp() {
+        if (stompCursor == null) stompCursor = new long[]{outbox.findHorizon(), Long.MAX_VALUE};
+        while (true) {
+            List<OutboxEventRepository.OutboxRow> batch =
+                    outbox.findBatchAfter(stompCursor[0], stompCursor[1], batchSize);
+            for (OutboxEventRepository.OutboxRow r : batch) {
+                send(r);
+                stompCursor = new long[]{r.getTxid(), r.getId()};
+            }
+            stompDelivered.increment(batch.size());
+            if (batch.size() < batchSize) return;
+        }
+    }
+
+    /** Global ve proje bazlı topic'ler (payload outbox'taki JSON, yeniden serileştirilmez) */
+    private void send(OutboxEventRepository.OutboxRow r) {
+        TaskEvent evt = new TaskEvent(r.getType(), json(r.getPayload()));
+        broker.convertAndSend("/topic/tasks", evt);
+        broker.convertAndSend("/topic/gantt", evt);
+        if (r.getProjectId() != null) {
+            broker.convertAndSend("/topic/board." + r.getProjectId(), evt);
+            broker.convertAndSend("/topic/gantt." + r.getProjectId(), evt);
+        }
+    }
+
+    private void dispatchWebhooks() {
+        int free = deliveries.getMaximumPoolSize() - deliveries.getActiveCount();
+        if (free <= 0) return;
+        for (WebhookEndpointRepository.ClaimRow ep : endpoints.claimDue(leaseSeconds, free)) {
+            try {
+                deliveries.execute(() -> deliver(ep));
+            } catch (RejectedExecutionException e) {
+                endpoints.release(ep.getId());
+            }
+        }
+    }
+
+    /* ---------------- Webhook teslimi ---------------- */
+
+    private void deliver(WebhookEndpointRepository.ClaimRow ep) {
+        long txid = ep.getLastTxid(), eventId = ep.getLastEventId();
+        Set<String> types = ep.getEventTypes() == null ? null : new HashSet<>(Arrays.asList(ep.getEventTypes().split(",")));
+        try {
+            for (int round = 0; round < maxBatchesPerClaim; round++) {
+                List<OutboxEventRepository.OutboxRow> batch = outbox.findBatchAfter(txid, eventId, webhookBatchSize);
+                if (batch.isEmpty()) break;
+
+                List<Map<String, Object>> events = new ArrayList<>();
+                for (OutboxEventRepository.OutboxRow r : batch) {
+                    if (types != null && !types.contains(r.getType())) continue;
+                    if (ep.getProjectId() != null && !ep.getProjectId().equals(r.getProjectId())) continue;
+                    Map<String, Object> e = new LinkedHashMap<>();
+                    e.put("id", r.getId());
+                    e.put("type", r.getType());
+                    e.put("projectId", r.getProjectId());
+                    e.put("createdAt", r.getCreatedAt());
+                    e.put("payload", json(r.getPayload()));
+                    events.add(e);
+                }
+                if (!events.isEmpty()) post(ep, events);
+
+                OutboxEventRepository.OutboxRow last = batch.get(batch.size() - 1);
+                txid = last.getTxid();
+                eventId = last.getId();
+                endpoints.advance(ep.getId(), txid, eventId, !events.isEmpty(), leaseSeconds);
+                webhookDelivered.increment(events.size());
+                if (batch.size() < webhookBatchSize) break;
+            }
+            endpoints.release(ep.getId());
+        } catch (Exception e) {
+            int failures = ep.getFailures() + 1;
+            long delay = Math.min(backoffMaxMs, backoffBaseMs << Math.min(failures - 1, 20));
+            delay += ThreadLocalRandom.current().nextLong(delay / 4 + 1); // jitter
+            String error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            if (error.length() > 1000) error = error.substring(0, 1000);
+            webhookFailures.increment();
+            log.warn("Webhook {} delivery failed ({} in a row), retry in {} ms: {}", ep.getId(), failures, delay, error);
+            endpoints.markFailed(ep.getId(), failures, error, delay / 1000.0);
+        }
+    }
+
+    private void post(WebhookEndpointRepository.ClaimRow ep, List<Map<String, Object>> events) throws Exception {
+        URI uri = URI.create(ep.getUrl());
+        targets.check(uri); // kayıttan sonra iç adrese dönmüş olabilir (hata -> backoff)
+        byte[] body = objectMapper.writeValueAsBytes(Map.of("events", events));
+        HttpRequest.Builder req = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        if (ep.getSecret() != null && !ep.getSecret().isEmpty()) {
+            req.header(SIGNATURE_HEADER, "sha256=" + hmacSha256(ep.getSecret(), body));
+        }
+        HttpResponse<Void> res = http.send(req.build(), HttpResponse.BodyHandlers.discarding());
+        if (res.statusCode() / 100 != 2) {
+            throw new IllegalStateException("HTTP " + res.statusCode() + " from " + ep.getUrl());
+        }
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    private JsonNode json(String payload) {
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt outbox payload", e);
+        }
+    }
+
+    private static String hmacSha256(String secret, byte[] body) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return HexFormat.of().formatHex(mac.doFinal(body));
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix.endsWith("-") ? prefix + seq.incrementAndGet() : prefix);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
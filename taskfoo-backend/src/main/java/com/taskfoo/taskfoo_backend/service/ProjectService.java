@@ -7,6 +7,7 @@ import com.taskfoo.taskfoo_backend.dto.response.Project.ProjectDto;
 import com.taskfoo.taskfoo_backend.mapper.ProjectMapper;
 import com.taskfoo.taskfoo_backend.model.Project;
 import com.taskfoo.taskfoo_backend.repository.ProjectRepository;
+import com.taskfoo.taskfoo_backend.support.JobRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,9 +18,11 @@ import java.util.List;
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final CascadeDeleteService cascadeDeleteService;
 
-    public ProjectService(ProjectRepository projectRepository) {
+    public ProjectService(ProjectRepository projectRepository, CascadeDeleteService cascadeDeleteService) {
         this.projectRepository = projectRepository;
+        this.cascadeDeleteService = cascadeDeleteService;
     }
 
     @Transactional(readOnly = true)
@@ -48,10 +51,12 @@ public class ProjectService {
         return ProjectMapper.toDto(p); // dirty-checking ile persist
     }
 
-    public void delete(Long id) {
+    /** Cascade delete arka planda (task'lar + epic'ler chunk'lı); job durumunu döner */
+    @Transactional(readOnly = true)
+    public JobRegistry.JobStatus delete(Long id) {
         if (!projectRepository.existsById(id)) {
             throw new EntityNotFoundException("Project not found: " + id);
         }
-        projectRepository.deleteById(id);
+        return cascadeDeleteService.deleteProject(id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/RefreshTokenService.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.model.RefreshToken;
+import com.taskfoo.taskfoo_backend.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.taskfoo.taskfoo_backend.support.TransactionHooks.afterCommit;
+
+/**
+ * Rotating refresh token'lar: her kullanımda yenisi verilir, eskisi "used" olur.
+ * Kullanılmış/iptal edilmiş bir token tekrar gelirse tüm family iptal edilir.
+ * Aktif token'lar hash -> entry index'inde tutulur; hot path'te SELECT yapılmaz.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int INDEX_PURGE_THRESHOLD = 10_000;
+
+    private final RefreshTokenRepository repo;
+    private final long refreshExpDays;
+
+    /** Sadece aktif (kullanılmamış, iptal edilmemiş) token'lar */
+    private final ConcurrentHashMap<String, IndexEntry> index = new ConcurrentHashMap<>();
+
+    public RefreshTokenService(RefreshTokenRepository repo,
+                               @Value("${app.jwt.refresh-exp-days}") long refreshExpDays) {
+        this.repo = repo;
+        this.refreshExpDays = refreshExpDays;
+    }
+
+    /** Login/register: yeni family başlatır, ham token'ı ve family id'sini döner */
+    @Transactional
+    public Issued issue(Long userId) {
+        String familyId = UUID.randomUUID().toString();
+        return new Issued(create(userId, familyId), familyId);
+    }
+
+    /** Refresh: token'ı tüketir, aynı family'de yenisini üretir */
+    @Transactional(noRollbackFor = ResponseStatusException.class)
+    public Rotation rotate(String rawToken) {
+        String hash = hash(rawToken);
+        OffsetDateTime now = OffsetDateTime.now();
+
+        IndexEntry entry = index.remove(hash);
+        if (entry == null) {
+            // restart sonrası veya başka node'da üretilmiş token: DB'den bak
+            RefreshToken stored = repo.findByTokenHash(hash)
+                    .orElseThrow(() -> unauthorized("Invalid refresh token"));
+            if (stored.getUsedAt() != null || stored.getRevokedAt() != null) {
+                revokeFamily(stored.getFamilyId(), now); // reuse
+                throw unauthorized("Refresh token reuse detected");
+            }
+            entry = IndexEntry.of(stored);
+        }
+
+        if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            throw unauthorized("Refresh token expired");
+        }
+
+        if (repo.markUsed(entry.id(), now) == 0) {
+            // aynı token'la yarışan ikinci istek ya da iptal edilmiş family
+            revokeFamily(entry.familyId(), now);
+            throw unauthorized("Refresh token reuse detected");
+        }
+
+        String next = create(entry.userId(), entry.familyId());
+        return new Rotation(entry.userId(), entry.familyId(), next);
+    }
+
+    /** Logout: o oturumun refresh zinciri artık access token üretemez */
+    @Transactional
+    public void revokeFamily(String familyId) {
+        revokeFamily(familyId, OffsetDateTime.now());
+    }
+
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        repo.revokeAllForUser(userId, OffsetDateTime.now());
+        afterCommit(() -> index.values().removeIf(e -> e.userId().equals(userId)));
+    }
+
+    @Scheduled(cron = "${app.jwt.refresh-cleanup-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        repo.deleteExpired(OffsetDateTime.now());
+        long now = System.currentTimeMillis();
+        index.values().removeIf(e -> e.expiresAtMillis() <= now);
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    private String create(Long userId, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String raw = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken saved = repo.save(RefreshToken.builder()
+                .tokenHash(hash(raw))
+                .familyId(familyId)
+                .userId(userId)
+                .expiresAt(OffsetDateTime.now().plusDays(refreshExpDays))
+                .build());
+
+        IndexEntry entry = IndexEntry.of(saved);
+        afterCommit(() -> {
+            if (index.size() >= INDEX_PURGE_THRESHOLD) {
+                long now = System.currentTimeMillis();
+                index.values().removeIf(e -> e.expiresAtMillis() <= now);
+            }
+            index.put(saved.getTokenHash(), entry);
+        });
+        return raw;
+    }
+
+    private void revokeFamily(String familyId, OffsetDateTime now) {
+        repo.revokeFamily(familyId, now);
+        index.values().removeIf(e -> e.familyId().equals(familyId));
+    }
+
+    private static String hash(String raw) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(raw.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ResponseStatusException unauthorized(String reason) {
+        return new ResponseStatusException(HttpStatus.UNAUTHORIZED, reason);
+    }
+
+    private record IndexEntry(Long id, Long userId, String familyId, long expiresAtMillis) {
+        static IndexEntry of(RefreshToken t) {
+            return new IndexEntry(t.getId(), t.getUserId(), t.getFamilyId(), t.getExpiresAt().toInstant().toEpochMilli());
+        }
+    }
+
+    public record Issued(String refreshToken, String familyId) {}
+
+    public record Rotation(Long userId, String familyId, String refreshToken) {}
+}
@@ -0,0 +1,226 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/TaskArchiveService.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.model.*;
+import com.taskfoo.taskfoo_backend.repository.*;
+import com.taskfoo.taskfoo_backend.support.RequestContext;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.taskfoo.taskfoo_backend.model.AuditEvent.AuditAction;
+
+/**
+ * Hot/cold task ayrımı: arşivlenen task'lar tasks_archive'a set-based taşınır,
+ * böylece board sorguları ve hot tablo index'leri sadece aktif task'ları görür.
+ * Bulk arşiv sabit boyutlu batch'lerle ilerler; her batch ayrı transaction.
+ */
+@Service
+public class TaskArchiveService {
+
+    private final TaskArchiveRepository archiveRepository;
+    private final AuditEventRepository auditRepository;
+    private final StatusRepository statusRepository;
+    private final PriorityRepository priorityRepository;
+    private final EpicRepository epicRepository;
+    private final UserRepository userRepository;
+    private final TaskEventPublisher events;
+    private final DashboardService dashboard;
+    private final DueReminderService reminders;
+    private final TaskDependencyService dependencies;
+    private final TransactionTemplate tx;
+    private final int batchSize;
+
+    public TaskArchiveService(TaskArchiveRepository archiveRepository,
+                              AuditEventRepository auditRepository,
+                              StatusRepository statusRepository,
+                              PriorityRepository priorityRepository,
+                              EpicRepository epicRepository,
+                              UserRepository userRepository,
+                              TaskEventPublisher events,
+                              DashboardService dashboard,
+                              DueReminderService reminders,
+                              TaskDependencyService dependencies,
+                              PlatformTransactionManager txManager,
+                              @Value("${app.tasks.archive.batch-size:500}") int batchSize) {
+        this.archiveRepository = archiveRepository;
+        this.auditRepository = auditRepository;
+        this.statusRepository = statusRepository;
+        this.priorityRepository = priorityRepository;
+        this.epicRepository = epicRepository;
+        this.userRepository = userRepository;
+        this.events = events;
+        this.dashboard = dashboard;
+        this.reminders = reminders;
+        this.dependencies = dependencies;
+        this.tx = new TransactionTemplate(txManager);
+        this.batchSize = batchSize;
+    }
+
+    /* ---------------- Commands ---------------- */
+
+    /** Tek task arşivle */
+    public void archive(Long taskId) {
+        List<TaskArchiveRepository.MoveRow> moved = tx.execute(s -> {
+            List<TaskArchiveRepository.MoveRow> rows = archiveRepository.findHotRows(List.of(taskId));
+            if (rows.isEmpty()) throw new EntityNotFoundException("Task not found");
+            moveToArchive(rows);
+            return rows;
+        });
+        publish("TASKS_ARCHIVED", moved);
+    }
+
+    /**
+     * Bulk: verilen status'larda olup {@code olderThanDays} gündür değişmeyen task'ları arşivler.
+     * Diğer işlemlerin kilitlediği satırlar atlanır (bir sonraki çalıştırmada alınır).
+     */
+    public int archiveOlderThan(Collection<Long> statusIds, int olderThanDays) {
+        OffsetDateTime before = OffsetDateTime.now().minusDays(olderThanDays);
+        int total = 0;
+        while (true) {
+            List<TaskArchiveRepository.MoveRow> moved = tx.execute(s -> {
+                List<TaskArchiveRepository.MoveRow> rows =
+                        archiveRepository.findArchiveCandidates(statusIds, before, batchSize);
+                if (!rows.isEmpty()) moveToArchive(rows);
+                return rows;
+            });
+            if (moved.isEmpty()) break;
+            total += moved.size();
+            publish("TASKS_ARCHIVED", moved);
+            if (moved.size() < batchSize) break;
+        }
+        return total;
+    }
+
+    /** Arşivden geri al (aynı id ile) */
+    public void restore(Long taskId) {
+        List<TaskArchiveRepository.MoveRow> moved = tx.execute(s -> {
+            List<TaskArchiveRepository.MoveRow> rows = archiveRepository.findArchivedRows(List.of(taskId));
+            if (rows.isEmpty()) throw new EntityNotFoundException("Archived task not found");
+            List<Long> ids = idsOf(rows);
+
+            archiveRepository.copyToHot(ids);
+            archiveRepository.copyAssigneesToHot(ids);
+            archiveRepository.deleteArchivedAssignees(ids);
+            archiveRepository.deleteArchived(ids);
+            writeAudit(ids, AuditAction.RESTORE); // hot tablodaki (version+1) hali
+            dependencies.onTasksRestored(ids);
+            reminders.reload(ids);
+            return rows;
+        });
+        publish("TASKS_RESTORED", moved);
+    }
+
+    /* ---------------- Queries (opt-in: includeArchived) ---------------- */
+
+    public List<Task> getArchivedTasks() {
+        return toTasks(archiveRepository.findAllWithAssignees());
+    }
+
+    public Optional<Task> findArchivedTask(Long id) {
+        return archiveRepository.findById(id).map(a -> toTasks(List.of(a)).get(0));
+    }
+
+    public List<Task> findArchivedTasks(Collection<Long> ids) {
+        return toTasks(archiveRepository.findAllById(ids));
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    private void moveToArchive(List<TaskArchiveRepository.MoveRow> rows) {
+        List<Long> ids = idsOf(rows);
+        writeAudit(ids, AuditAction.ARCHIVE); // silmeden önce: son hot hali
+        archiveRepository.copyToArchive(ids);
+        archiveRepository.copyAssigneesToArchive(ids);
+        dependencies.onTasksArchived(ids);
+        archiveRepository.deleteHotAssignees(ids);
+        archiveRepository.deleteHot(ids);
+        reminders.onTasksRemoved(ids);
+    }
+
+    private void writeAudit(List<Long> ids, AuditAction action) {
+        RequestContext rc = RequestContext.get();
+        if (rc == null) rc = new RequestContext(); // request dışı (job) çağrı
+        auditRepository.insertTaskEvents(ids, action.name(),
+                rc.actorId, rc.actorName, rc.pageContext, rc.clientChangeId, rc.requestId, rc.ip);
+    }
+
+    /** Commit sonrası: proje bazında tek event (id listesi); dashboard sayaçları yeniden sayılır */
+    private void publish(String type, List<TaskArchiveRepository.MoveRow> rows) {
+        Map<Long, List<Long>> byProject = new LinkedHashMap<>();
+        List<Long> noProject = new ArrayList<>();
+        for (TaskArchiveRepository.MoveRow r : rows) {
+            if (r.getProjectId() == null) noProject.add(r.getId());
+            else byProject.computeIfAbsent(r.getProjectId(), k -> new ArrayList<>()).add(r.getId());
+        }
+        String at = OffsetDateTime.now().toString();
+        byProject.forEach((pid, ids) -> {
+            events.publish(type, new TasksMovedPayload(ids, at), pid);
+            dashboard.markDirty(pid);
+        });
+        if (!noProject.isEmpty()) {
+            events.publish(type, new TasksMovedPayload(noProject, at), null);
+            dashboard.markDirty(null);
+        }
+    }
+
+    /** Arşiv satırlarından response için transient Task'lar (referanslar toplu yüklenir) */
+    private List<Task> toTasks(List<ArchivedTask> archived) {
+        Set<Long> statusIds = new HashSet<>(), priorityIds = new HashSet<>(), epicIds = new HashSet<>(), userIds = new HashSet<>();
+        for (ArchivedTask a : archived) {
+            if (a.getStatusId() != null) statusIds.add(a.getStatusId());
+            if (a.getPriorityId() != null) priorityIds.add(a.getPriorityId());
+            if (a.getEpicId() != null) epicIds.add(a.getEpicId());
+            userIds.addAll(a.getAssigneeIds());
+        }
+        Map<Long, Status> statuses = byId(statusRepository.findAllById(statusIds), Status::getId);
+        Map<Long, Priority> priorities = byId(priorityRepository.findAllById(priorityIds), Priority::getId);
+        Map<Long, Epic> epics = byId(epicRepository.findAllById(epicIds), Epic::getId);
+        Map<Long, User> users = byId(userRepository.findAllById(userIds), User::getId);
+
+        List<Task> out = new ArrayList<>(archived.size());
+        for (ArchivedTask a : archived) {
+            Task t = new Task();
+            t.setId(a.getId());
+            t.setTitle(a.getTitle());
+            t.setDescription(a.getDescription());
+            t.setStartDate(a.getStartDate());
+            t.setDueDate(a.getDueDate());
+            t.setCreatedAt(a.getCreatedAt());
+            t.setUpdatedAt(a.getUpdatedAt());
+            t.setVersion(a.getVersion());
+            t.setBoardRank(a.getBoardRank());
+            t.setStatus(statuses.get(a.getStatusId()));
+            t.setPriority(priorities.get(a.getPriorityId()));
+            t.setEpic(epics.get(a.getEpicId()));
+            t.setAssignedUsers(a.getAssigneeIds().stream()
+                    .map(users::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(ArrayList::new)));
+            out.add(t);
+        }
+        return out;
+    }
+
+    private static <T> Map<Long, T> byId(List<T> list, Function<T, Long> id) {
+        return list.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    private static List<Long> idsOf(List<TaskArchiveRepository.MoveRow> rows) {
+        return rows.stream().map(TaskArchiveRepository.MoveRow::getId).toList();
+    }
+
+    /* ---------------- Payload DTO'ları ---------------- */
+
+    public record TasksMovedPayload(
+            List<Long> taskIds,
+            String at
+    ) {}
+}
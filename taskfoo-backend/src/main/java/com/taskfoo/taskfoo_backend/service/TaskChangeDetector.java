@@ -0,0 +1,175 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/TaskChangeDetector.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.model.*;
+import com.taskfoo.taskfoo_backend.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Task alan bazlı diff'i: eski değerler persistence context'in loaded state'inden okunur
+ * (flush öncesi Hibernate'in dirty checking için tuttuğu snapshot). Ek SELECT yok,
+ * property index'leri bir kez çözülür; yeni değerler doğrudan getter'lardan gelir.
+ */
+@Component
+public class TaskChangeDetector {
+
+    public static final String TITLE = "title";
+    public static final String DESCRIPTION = "description";
+    public static final String START_DATE = "startDate";
+    public static final String DUE_DATE = "dueDate";
+    public static final String STATUS_ID = "statusId";
+    public static final String PRIORITY_ID = "priorityId";
+    public static final String EPIC_ID = "epicId";
+    public static final String ASSIGNEE_IDS = "assigneeIds";
+    /** Sadece board move yazar (PUT diff'ine dahil değil) */
+    public static final String BOARD_RANK = "boardRank";
+
+    private final EntityManager em;
+    private final TaskRepository taskRepository;
+
+    private volatile PropertyIndex index;
+
+    public TaskChangeDetector(EntityManager em, TaskRepository taskRepository) {
+        this.em = em;
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Flush'tan ÖNCE çağrılmalı (flush loaded state'i günceller).
+     * Task persistence context'te değilse (detached) null döner.
+     */
+    public TaskChanges detect(Task task) {
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        EntityEntry entry = session.getPersistenceContextInternal().getEntry(task);
+        if (entry == null || entry.getLoadedState() == null) return null;
+
+        Object[] loaded = entry.getLoadedState();
+        PropertyIndex ix = index(entry.getPersister());
+        List<AuditEvent.ChangedField> fields = new ArrayList<>();
+
+        compare(fields, TITLE,       loaded[ix.title()],       task.getTitle());
+        compare(fields, DESCRIPTION, loaded[ix.description()], task.getDescription());
+        compare(fields, START_DATE,  loaded[ix.startDate()],   task.getStartDate());
+        compare(fields, DUE_DATE,    loaded[ix.dueDate()],     task.getDueDate());
+        compare(fields, STATUS_ID,   idOf(loaded[ix.status()]),   idOf(task.getStatus()));
+        compare(fields, PRIORITY_ID, idOf(loaded[ix.priority()]), idOf(task.getPriority()));
+        compare(fields, EPIC_ID,     idOf(loaded[ix.epic()]),     idOf(task.getEpic()));
+
+        Set<Long> added = Set.of();
+        Set<Long> removed = Set.of();
+        Set<Long> before = assigneesBefore(task, loaded[ix.assignees()]);
+        if (before != null) {
+            Set<Long> after = idsOf(task.getAssignedUsers());
+            if (!before.equals(after)) {
+                added = new TreeSet<>(after);
+                added.removeAll(before);
+                removed = new TreeSet<>(before);
+                removed.removeAll(after);
+                fields.add(new AuditEvent.ChangedField(ASSIGNEE_IDS, new ArrayList<>(before), new ArrayList<>(after)));
+            }
+        }
+
+        return new TaskChanges(fields, added, removed);
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    /** null -> assignee listesi değişmemiş */
+    private Set<Long> assigneesBefore(Task task, Object loadedCollection) {
+        List<User> current = task.getAssignedUsers();
+
+        if (current == loadedCollection) {
+            // aynı koleksiyon: yerinde değiştiyse Hibernate'in stored snapshot'ı eski hali tutar
+            if (current instanceof PersistentCollection<?> pc && pc.wasInitialized() && pc.isDirty()) {
+                return idsOf((Collection<?>) pc.getStoredSnapshot());
+            }
+            return null;
+        }
+
+        // koleksiyon tamamen değiştirilmiş (mapper yeni liste set ediyor)
+        if (loadedCollection instanceof PersistentCollection<?> pc) {
+            if (pc.wasInitialized()) return idsOf((Collection<?>) loadedCollection);
+            // hiç yüklenmemiş: sadece id'ler, flush tetiklemeden
+            return new TreeSet<>(taskRepository.findAssigneeIds(task.getId()));
+        }
+        return loadedCollection == null ? new TreeSet<>() : idsOf((Collection<?>) loadedCollection);
+    }
+
+    private PropertyIndex index(EntityPersister persister) {
+        PropertyIndex ix = index;
+        if (ix == null) {
+            String[] names = persister.getPropertyNames();
+            Map<String, Integer> byName = new HashMap<>();
+            for (int i = 0; i < names.length; i++) byName.put(names[i], i);
+            ix = new PropertyIndex(
+                    byName.get("title"), byName.get("description"),
+                    byName.get("startDate"), byName.get("dueDate"),
+                    byName.get("status"), byName.get("priority"), byName.get("epic"),
+                    byName.get("assignedUsers"));
+            index = ix;
+        }
+        return ix;
+    }
+
+    private static void compare(List<AuditEvent.ChangedField> out, String field, Object before, Object after) {
+        if (!Objects.equals(before, after)) out.add(new AuditEvent.ChangedField(field, before, after));
+    }
+
+    private static Long idOf(Object ref) {
+        if (ref instanceof Status s) return s.getId();
+        if (ref instanceof Priority p) return p.getId();
+        if (ref instanceof Epic e) return e.getId();
+        return null;
+    }
+
+    private static Set<Long> idsOf(Collection<?> users) {
+        Set<Long> ids = new TreeSet<>();
+        if (users != null) {
+            for (Object o : users) {
+                if (o instanceof User u && u.getId() != null) ids.add(u.getId());
+            }
+        }
+        return ids;
+    }
+
+    private record PropertyIndex(int title, int description, int startDate, int dueDate,
+                                 int status, int priority, int epic, int assignees) {}
+
+    /** Değişen alanlar + assignee set farkı */
+    public record TaskChanges(List<AuditEvent.ChangedField> fields,
+                              Set<Long> assigneesAdded,
+                              Set<Long> assigneesRemoved) {
+
+        public boolean isEmpty() {
+            return fields.isEmpty();
+        }
+
+        public boolean has(String field) {
+            for (AuditEvent.ChangedField f : fields) {
+                if (f.getField().equals(field)) return true;
+            }
+            return false;
+        }
+
+        public Object oldValue(String field) {
+            for (AuditEvent.ChangedField f : fields) {
+                if (f.getField().equals(field)) return f.getOldValue();
+            }
+            return null;
+        }
+
+        /** Audit metadata: assignee farkı (boşsa eklenmez) */
+        public Map<String, Object> metadata() {
+            if (assigneesAdded.isEmpty() && assigneesRemoved.isEmpty()) return Map.of();
+            return Map.of("assigneesAdded", List.copyOf(assigneesAdded),
+                          "assigneesRemoved", List.copyOf(assigneesRemoved));
+        }
+    }
+}
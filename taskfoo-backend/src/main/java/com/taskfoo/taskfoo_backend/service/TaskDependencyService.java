@@ -0,0 +1,525 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/TaskDependencyService.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.dto.response.gantt.DependencyDto;
+import com.taskfoo.taskfoo_backend.dto.response.gantt.ScheduleResponse;
+import com.taskfoo.taskfoo_backend.model.AuditEvent;
+import com.taskfoo.taskfoo_backend.model.Task;
+import com.taskfoo.taskfoo_backend.model.TaskDependency;
+import com.taskfoo.taskfoo_backend.repository.AuditEventRepository;
+import com.taskfoo.taskfoo_backend.repository.TaskDependencyRepository;
+import com.taskfoo.taskfoo_backend.repository.TaskRepository;
+import com.taskfoo.taskfoo_backend.support.ChangeCounters;
+import com.taskfoo.taskfoo_backend.support.RequestContext;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.taskfoo.taskfoo_backend.support.TransactionHooks.afterCompletion;
+
+/**
+ * Task bağımlılıkları (finish-to-start) ve proje bazlı DAG motoru. Topoloji (kenarlar) proje
+ * başına bellekte tutulur; tarihler her seferinde sadece ilgili düğümler için DB'den okunur.
+ * Tarih değişince sadece aşağı akış alt grafı topolojik sırayla gezilir: başlangıcı artık
+ * predecessor'ının bitişinden önce kalan task'lar süresi korunarak ileri kaydırılır (geri çekilmez).
+ * Proje anahtarı 0 -> projesiz task'lar.
+ */
+@Service
+public class TaskDependencyService {
+
+    private static final int BATCH = 500;
+
+    private final TaskDependencyRepository dependencyRepository;
+    private final TaskRepository taskRepository;
+    private final AuditEventRepository auditRepository;
+    private final TaskEventPublisher events;
+    private final DashboardService dashboard;
+    private final DueReminderService reminders;
+    private final JdbcTemplate jdbc;
+    private final ChangeCounters counters;
+
+    private final Map<Long, Topology> graphs = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TaskDependencyService(TaskDependencyRepository dependencyRepository,
+                                 TaskRepository taskRepository,
+                                 AuditEventRepository auditRepository,
+                                 TaskEventPublisher events,
+                                 DashboardService dashboard,
+                                 DueReminderService reminders,
+                                 JdbcTemplate jdbc,
+                                 ChangeCounters counters) {
+        this.dependencyRepository = dependencyRepository;
+        this.taskRepository = taskRepository;
+        this.auditRepository = auditRepository;
+        this.events = events;
+        this.dashboard = dashboard;
+        this.reminders = reminders;
+        this.jdbc = jdbc;
+        this.counters = counters;
+    }
+
+    /* ---------------- Queries ---------------- */
+
+    public List<DependencyDto> dependencies(Long projectId) {
+        return topology(keyOf(projectId)).edges();
+    }
+
+    public List<DependencyDto> dependenciesOf(Long taskId) {
+        return dependencyRepository.findEdgesOfTask(taskId).stream()
+                .map(r -> new DependencyDto(r.getPredecessorId(), r.getSuccessorId()))
+                .toList();
+    }
+
+    /** Tam CPM: ileri geçiş (ES/EF), geri geçiş (LS/LF), slack ve kritik yol */
+    public ScheduleResponse schedule(Long projectId) {
+        Topology g = topology(keyOf(projectId));
+        Map<Long, Span> spans = new HashMap<>();
+        for (TaskDependencyRepository.NodeRow r : dependencyRepository.findNodesByProject(keyOf(projectId))) {
+            Span s = Span.of(r);
+            if (s != null) spans.put(r.getId(), s);
+        }
+        if (spans.isEmpty()) return new ScheduleResponse(projectId, null, List.of(), List.of());
+
+        List<Long> order = g.topologicalOrder(spans.keySet());
+        Map<Long, Long> es = new HashMap<>(), ef = new HashMap<>();
+        long finish = Long.MIN_VALUE;
+        for (Long id : order) {
+            Span s = spans.get(id);
+            long start = s.start;
+            for (Long p : g.predecessors(id)) {
+                Long pf = ef.get(p);
+                if (pf != null) start = Math.max(start, pf + 1);
+            }
+            es.put(id, start);
+            ef.put(id, start + s.duration() - 1);
+            finish = Math.max(finish, start + s.duration() - 1);
+        }
+
+        Map<Long, Long> ls = new HashMap<>(), lf = new HashMap<>();
+        for (int i = order.size() - 1; i >= 0; i--) {
+            Long id = order.get(i);
+            long latestFinish = finish;
+            for (Long n : g.successors(id)) {
+                Long nls = ls.get(n);
+                if (nls != null) latestFinish = Math.min(latestFinish, nls - 1);
+            }
+            lf.put(id, latestFinish);
+            ls.put(id, latestFinish - spans.get(id).duration() + 1);
+        }
+
+        List<ScheduleResponse.Item> items = new ArrayList<>(order.size());
+        for (Long id : order) {
+            long slack = ls.get(id) - es.get(id);
+            items.add(new ScheduleResponse.Item(id,
+                    LocalDate.ofEpochDay(es.get(id)), LocalDate.ofEpochDay(ef.get(id)),
+                    LocalDate.ofEpochDay(ls.get(id)), LocalDate.ofEpochDay(lf.get(id)),
+                    slack, slack == 0));
+        }
+        return new ScheduleResponse(projectId, LocalDate.ofEpochDay(finish), items, criticalPath(g, order, es, ef, ls));
+    }
+
+    /* ---------------- Commands ---------------- */
+
+    @Transactional
+    public DependencyDto addDependency(Long successorId, Long predecessorId) {
+        if (Objects.equals(successorId, predecessorId)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Task cannot depend on itself");
+        }
+        Task successor = taskRepository.findById(successorId)
+                .orElseThrow(() -> new EntityNotFoundException("Task not found: " + successorId));
+        Task predecessor = taskRepository.findById(predecessorId)
+                .orElseThrow(() -> new EntityNotFoundException("Task not found: " + predecessorId));
+        Long key = keyOf(TaskEventPublisher.projectIdOf(successor));
+        if (!key.equals(keyOf(TaskEventPublisher.projectIdOf(predecessor)))) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Dependent tasks must be in the same project");
+        }
+        // eşzamanlı iki ekleme birbirinin kenarını görmeden döngü kuramasın: kilit altında DB'den kontrol
+        dependencyRepository.lockProject(key);
+        if (dependencyRepository.existsByPredecessorIdAndSuccessorId(predecessorId, successorId)) {
+            return new DependencyDto(predecessorId, successorId);
+        }
+        if (Topology.of(dependencyRepository.findEdgesByProject(key)).reaches(successorId, predecessorId)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Dependency would create a cycle");
+        }
+
+        TaskDependency d = new TaskDependency();
+        d.setPredecessor(predecessor);
+        d.setSuccessor(successor);
+        dependencyRepository.saveAndFlush(d);
+        writeAudit(successorId, AuditEvent.AuditAction.LINK, predecessorId);
+        invalidate(key);
+
+        // yeni kenar mevcut planı bozuyorsa successor ve aşağı akışı kayar
+        propagate(Set.of(predecessorId), key, TaskEventPublisher.projectIdOf(successor), predecessorId);
+        return new DependencyDto(predecessorId, successorId);
+    }
+
+    @Transactional
+    public void removeDependency(Long successorId, Long predecessorId) {
+        Long key = dependencyRepository.findProjectKey(successorId);
+        if (key == null || dependencyRepository.deleteEdge(predecessorId, successorId) == 0) {
+            throw new EntityNotFoundException("Dependency not found");
+        }
+        writeAudit(successorId, AuditEvent.AuditAction.UNLINK, predecessorId);
+        invalidate(key);
+    }
+
+    /* ---------------- Hook'lar ---------------- */
+
+    /** updateTaskDates sonrası (aynı transaction): aşağı akışı kaydırır */
+    public void onDatesChanged(Task saved) {
+        Long projectId = TaskEventPublisher.projectIdOf(saved);
+        propagate(Set.of(saved.getId()), keyOf(projectId), projectId, saved.getId());
+    }
+
+    /** Toplu kaydırma sonrası (aynı transaction): kaydırılan grubun dışındaki successor'lar */
+    public void onTasksShifted(Collection<Long> taskIds, Long projectId) {
+        propagate(new HashSet<>(taskIds), keyOf(projectId), projectId, null);
+    }
+
+    /** Arşivlenecek task'ların kenarları (aynı transaction, hot satırlar silinmeden önce) */
+    public void onTasksArchived(Collection<Long> taskIds) {
+        dependencyRepository.copyEdgesToArchive(taskIds);
+        invalidateAll(); // hot kenarlar FK ile silinecek
+    }
+
+    /**
+     * Arşivden dönen task'ların kenarları (aynı transaction, tasks_archive satırları silindikten sonra).
+     * Arşivdeyken eklenen kenarlarla döngü kuracak olanlar addDependency'deki kilit altında atlanır;
+     * geri gelen kenarlar mevcut planı bozuyorsa aşağı akış kayar.
+     */
+    public void onTasksRestored(Collection<Long> taskIds) {
+        Map<Long, List<TaskDependencyRepository.ArchivedEdgeRow>> byProject = new TreeMap<>(); // sabit kilit sırası
+        for (TaskDependencyRepository.ArchivedEdgeRow r : dependencyRepository.findRestorableEdges(taskIds)) {
+            byProject.computeIfAbsent(r.getProjectKey(), k -> new ArrayList<>()).add(r);
+        }
+
+        List<Long> accepted = new ArrayList<>();
+        Map<Long, Set<Long>> sources = new HashMap<>();
+        byProject.forEach((key, rows) -> {
+            dependencyRepository.lockProject(key);
+            Topology g = Topology.of(dependencyRepository.findEdgesByProject(key));
+            for (TaskDependencyRepository.ArchivedEdgeRow r : rows) {
+                if (g.reaches(r.getSuccessorId(), r.getPredecessorId())) continue;
+                g = g.plus(r.getPredecessorId(), r.getSuccessorId());
+                accepted.add(r.getId());
+                sources.computeIfAbsent(key, k -> new HashSet<>()).add(r.getPredecessorId());
+            }
+        });
+        if (!accepted.isEmpty()) {
+            dependencyRepository.copyEdgesToHot(accepted);
+            invalidateAll();
+        }
+        dependencyRepository.deleteSettledArchivedEdges(taskIds);
+
+        sources.forEach((key, from) -> propagate(from, key, key == 0L ? null : key, null));
+    }
+
+    /** Arşivdeki task'lar kalıcı silindi */
+    public void onArchivedTasksDeleted(Collection<Long> taskIds) {
+        dependencyRepository.deleteArchivedEdges(taskIds);
+    }
+
+    /** Kenarlar değişti (silme / arşiv / epic değişimi ...): topoloji commit ya da rollback sonrası yeniden yüklenir */
+    public void invalidate(Long projectId) {
+        Long key = keyOf(projectId);
+        markChanged();
+        invalidations.incrementAndGet();
+        graphs.remove(key);
+        afterCompletion(() -> {
+            invalidations.incrementAndGet();
+            graphs.remove(key);
+        });
+    }
+
+    public void invalidateAll() {
+        markChanged();
+        invalidations.incrementAndGet();
+        graphs.clear();
+        afterCompletion(() -> {
+            invalidations.incrementAndGet();
+            graphs.clear();
+        });
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    private void propagate(Set<Long> sources, Long key, Long projectId, Long sourceTaskId) {
+        Topology g = topology(key);
+        if (sources.stream().allMatch(id -> g.successors(id).isEmpty())) return;
+
+        Set<Long> downstream = g.downstream(sources);
+        Set<Long> needed = new HashSet<>(downstream);
+        for (Long id : downstream) needed.addAll(g.predecessors(id));
+
+        Map<Long, Span> spans = new HashMap<>();
+        for (TaskDependencyRepository.NodeRow r : dependencyRepository.findNodesByIds(needed)) {
+            Span s = Span.of(r);
+            if (s != null) spans.put(r.getId(), s);
+        }
+
+        // sadece kayan bir predecessor'ı olan düğümler yeniden hesaplanır
+        Set<Long> changed = new HashSet<>(sources);
+        Map<Long, Span> shifted = new LinkedHashMap<>();
+        for (Long id : g.topologicalOrder(downstream)) {
+            if (sources.contains(id)) continue;
+            List<Long> preds = g.predecessors(id);
+            if (preds.stream().noneMatch(changed::contains)) continue;
+            Span s = spans.get(id);
+            if (s == null) continue;
+
+            long required = Long.MIN_VALUE;
+            for (Long p : preds) {
+                Span ps = spans.get(p);
+                if (ps != null) required = Math.max(required, ps.finish + 1);
+            }
+            if (s.start >= required) continue;
+
+            Span moved = s.shift(required - s.start);
+            spans.put(id, moved);
+            shifted.put(id, moved);
+            changed.add(id);
+        }
+        if (shifted.isEmpty()) return;
+
+        persist(shifted);
+        List<Long> ids = List.copyOf(shifted.keySet());
+        RequestContext rc = RequestContext.get();
+        if (rc == null) rc = new RequestContext();
+        auditRepository.insertTaskEvents(ids, AuditEvent.AuditAction.UPDATE.name(),
+                rc.actorId, rc.actorName, rc.pageContext, rc.clientChangeId, rc.requestId, rc.ip);
+
+        List<TasksShiftedPayload.Shift> out = new ArrayList<>(shifted.size());
+        shifted.forEach((id, s) -> out.add(new TasksShiftedPayload.Shift(id, s.startDate(), s.dueDate())));
+        events.publish("TASKS_SHIFTED", new TasksShiftedPayload(sourceTaskId, out, OffsetDateTime.now().toString()), projectId);
+        reminders.reload(ids);
+        dashboard.markDirty(projectId);
+    }
+
+    /** Tek round-trip'lik batch'ler; tarihsiz tarafı null kalır */
+    private void persist(Map<Long, Span> shifted) {
+        List<Object[]> args = new ArrayList<>(Math.min(shifted.size(), BATCH));
+        for (Map.Entry<Long, Span> e : shifted.entrySet()) {
+            Span s = e.getValue();
+            args.add(new Object[]{s.startDate(), s.dueDate(), e.getKey()});
+            if (args.size() == BATCH) {
+                batchUpdate(args);
+                args.clear();
+            }
+        }
+        if (!args.isEmpty()) batchUpdate(args);
+        counters.touch("tasks");
+    }
+
+    private void batchUpdate(List<Object[]> args) {
+        jdbc.batchUpdate("""
+                UPDATE tasks SET start_date = ?, due_date = ?, version = version + 1, updated_at = now()
+                 WHERE id = ?
+                """, args);
+    }
+
+    /** Kritik düğümler arasında sürükleyen (EF + 1 = ES) kenarları izleyen en uzun zincir */
+    private static List<Long> criticalPath(Topology g, List<Long> order,
+                                           Map<Long, Long> es, Map<Long, Long> ef, Map<Long, Long> ls) {
+        Map<Long, Long> next = new HashMap<>();
+        Map<Long, Integer> length = new HashMap<>();
+        for (int i = order.size() - 1; i >= 0; i--) {
+            Long id = order.get(i);
+            if (!ls.get(id).equals(es.get(id))) continue;
+            int best = 0;
+            for (Long n : g.successors(id)) {
+                Integer len = length.get(n);
+                if (len != null && es.get(n) == ef.get(id) + 1 && len > best) {
+                    best = len;
+                    next.put(id, n);
+                }
+            }
+            length.put(id, best + 1);
+        }
+
+        Long head = null;
+        for (Long id : order) {
+            Integer len = length.get(id);
+            if (len != null && (head == null || len > length.get(head))) head = id;
+        }
+        List<Long> path = new ArrayList<>();
+        for (Long id = head; id != null; id = next.get(id)) path.add(id);
+        return path;
+    }
+
+    /**
+     * Kenarları değiştiren transaction kendi (commit edilmemiş) grafını her seferinde DB'den okur ve
+     * paylaşılan cache'e yazmaz. Diğerleri yükleme sürerken invalidate geldiyse eski grafı geri alır.
+     */
+    private Topology topology(Long key) {
+        boolean changedHere = TransactionSynchronizationManager.hasResource(this);
+        if (!changedHere) {
+            Topology cached = graphs.get(key);
+            if (cached != null) return cached;
+        }
+        long seen = invalidations.get();
+        Topology loaded = Topology.of(dependencyRepository.findEdgesByProject(key));
+        if (changedHere) return loaded;
+        graphs.putIfAbsent(key, loaded);
+        if (invalidations.get() != seen) graphs.remove(key, loaded);
+        return loaded;
+    }
+
+    private void markChanged() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) return;
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        afterCompletion(() -> TransactionSynchronizationManager.unbindResourceIfPossible(this));
+    }
+
+    private void writeAudit(Long taskId, AuditEvent.AuditAction action, Long predecessorId) {
+        AuditEvent.AuditEventBuilder ev = AuditEvent.builder()
+                .entityType("TASK")
+                .entityId(taskId)
+                .action(action)
+                .metadata(Map.of("predecessorId", predecessorId));
+        RequestContext rc = RequestContext.get();
+        if (rc != null) {
+            ev.actorId(rc.actorId)
+              .actorName(rc.actorName)
+              .pageContext(rc.pageContext)
+              .clientChangeId(rc.clientChangeId)
+              .requestId(rc.requestId)
+              .ipAddress(rc.ip);
+        }
+        auditRepository.save(ev.build());
+    }
+
+    private static Long keyOf(Long projectId) {
+        return projectId == null ? 0L : projectId;
+    }
+
+    /** Epoch-day aralığı; tek tarihi olan task tek günlük sayılır */
+    private record Span(long start, long finish, boolean hasStart, boolean hasDue) {
+        static Span of(TaskDependencyRepository.NodeRow r) {
+            LocalDate s = r.getStartDate() == null ? null : LocalDate.parse(r.getStartDate());
+            LocalDate d = r.getDueDate() == null ? null : LocalDate.parse(r.getDueDate());
+            if (s == null && d == null) return null;
+            long start = (s != null ? s : d).toEpochDay();
+            long finish = Math.max(start, (d != null ? d : s).toEpochDay());
+            return new Span(start, finish, s != null, d != null);
+        }
+
+        long duration() {
+            return finish - start + 1;
+        }
+
+        Span shift(long days) {
+            return new Span(start + days, finish + days, hasStart, hasDue);
+        }
+
+        LocalDate startDate() {
+            return hasStart ? LocalDate.ofEpochDay(start) : null;
+        }
+
+        LocalDate dueDate() {
+            return hasDue ? LocalDate.ofEpochDay(finish) : null;
+        }
+    }
+
+    /** Değişmez kenar listesi (predecessor -> successor) */
+    private record Topology(Map<Long, List<Long>> succ, Map<Long, List<Long>> pred) {
+        static Topology of(List<TaskDependencyRepository.EdgeRow> rows) {
+            Map<Long, List<Long>> succ = new HashMap<>(), pred = new HashMap<>();
+            for (TaskDependencyRepository.EdgeRow r : rows) {
+                succ.computeIfAbsent(r.getPredecessorId(), k -> new ArrayList<>()).add(r.getSuccessorId());
+                pred.computeIfAbsent(r.getSuccessorId(), k -> new ArrayList<>()).add(r.getPredecessorId());
+            }
+            return new Topology(succ, pred);
+        }
+
+        List<Long> successors(Long id) {
+            return succ.getOrDefault(id, List.of());
+        }
+
+        List<Long> predecessors(Long id) {
+            return pred.getOrDefault(id, List.of());
+        }
+
+        /** Kopya + yeni kenar */
+        Topology plus(Long predecessorId, Long successorId) {
+            Map<Long, List<Long>> s = new HashMap<>(succ), p = new HashMap<>(pred);
+            s.merge(predecessorId, List.of(successorId), Topology::concat);
+            p.merge(successorId, List.of(predecessorId), Topology::concat);
+            return new Topology(s, p);
+        }
+
+        private static List<Long> concat(List<Long> a, List<Long> b) {
+            List<Long> out = new ArrayList<>(a);
+            out.addAll(b);
+            return out;
+        }
+
+        List<DependencyDto> edges() {
+            List<DependencyDto> out = new ArrayList<>();
+            succ.forEach((p, ss) -> ss.forEach(s -> out.add(new DependencyDto(p, s))));
+            return out;
+        }
+
+        /** from'dan to'ya yol var mı (yeni to -> from kenarı döngü yaratır mı) */
+        boolean reaches(Long from, Long to) {
+            return downstream(Set.of(from)).contains(to);
+        }
+
+        /** from'lar dahil, aşağı akıştaki tüm düğümler */
+        Set<Long> downstream(Set<Long> from) {
+            Set<Long> seen = new HashSet<>(from);
+            Deque<Long> stack = new ArrayDeque<>(from);
+            while (!stack.isEmpty()) {
+                for (Long n : successors(stack.pop())) {
+                    if (seen.add(n)) stack.push(n);
+                }
+            }
+            return seen;
+        }
+
+        /** nodes içinde Kahn sıralaması (dışarıdaki kenarlar yok sayılır) */
+        List<Long> topologicalOrder(Set<Long> nodes) {
+            Map<Long, Integer> indegree = new HashMap<>();
+            for (Long id : nodes) {
+                int n = 0;
+                for (Long p : predecessors(id)) if (nodes.contains(p)) n++;
+                indegree.put(id, n);
+            }
+            Deque<Long> ready = new ArrayDeque<>();
+            indegree.forEach((id, n) -> { if (n == 0) ready.add(id); });
+            List<Long> order = new ArrayList<>(nodes.size());
+            while (!ready.isEmpty()) {
+                Long id = ready.poll();
+                order.add(id);
+                for (Long s : successors(id)) {
+                    Integer n = indegree.get(s);
+                    if (n != null && indegree.merge(s, -1, Integer::sum) == 0) ready.add(s);
+                }
+            }
+            return order;
+        }
+    }
+
+    /* ---------------- Payload DTO'ları ---------------- */
+
+    /** Tek event: kayan tüm task'ların yeni tarihleri (sourceTaskId null -> toplu kaydırma) */
+    public record TasksShiftedPayload(
+            Long sourceTaskId,
+            List<Shift> shifts,
+            String at
+    ) {
+        public record Shift(Long taskId, LocalDate startDate, LocalDate dueDate) {}
+    }
+}
@@ -0,0 +1,51 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/TaskEventPublisher.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskfoo.taskfoo_backend.model.Task;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Task event'leri: çağıranın transaction'ı içinde outbox_events'e yazılır (rollback olan iş
+ * event üretmez, commit ile sonrası arasında node ölse de event kaybolmaz). Global + proje bazlı
+ * board/gantt topic'lerine ve webhook'lara dağıtım OutboxRelay'de.
+ */
+@Component
+public class TaskEventPublisher {
+
+    private final JdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+    private final OutboxRelay relay;
+
+    public TaskEventPublisher(JdbcTemplate jdbc, ObjectMapper objectMapper, OutboxRelay relay) {
+        this.jdbc = jdbc;
+        this.objectMapper = objectMapper;
+        this.relay = relay;
+    }
+
+    /** Payload burada (açık session'da) JSON'a çevrilir; transaction yoksa satır hemen commit olur */
+    public void publish(String type, Object payload, Long projectId) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Event payload not serializable: " + type, e);
+        }
+        jdbc.update("INSERT INTO outbox_events (type, project_id, payload, created_at) VALUES (?, ?, CAST(? AS jsonb), now())",
+                type, projectId, json);
+        relay.wakeAfterCommit();
+    }
+
+    /** Task -> Project id (epic üzerinden) */
+    public static Long projectIdOf(Task t) {
+        if (t == null) return null;
+        try {
+            if (t.getEpic() != null && t.getEpic().getProject() != null) {
+                return t.getEpic().getProject().getId();
+            }
+        } catch (Exception ignored) {}
+        return null;
+    }
+}
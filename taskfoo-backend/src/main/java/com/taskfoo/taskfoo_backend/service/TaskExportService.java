@@ -0,0 +1,142 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/TaskExportService.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskfoo.taskfoo_backend.repository.TaskRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Task export'u (NDJSON / CSV): satırlar DB cursor'undan okunup yazıldıkça bırakılır; bellek
+ * kullanımı task sayısından bağımsız. Kendi read-only transaction'ında çalışır (response
+ * StreamingResponseBody ile request thread'i dışında yazılır).
+ */
+@Service
+public class TaskExportService {
+
+    public static final String NDJSON = "ndjson";
+    public static final String CSV = "csv";
+
+    private static final String[] CSV_HEADER = {
+            "id", "title", "description", "status", "priority", "epicId", "epic", "projectId", "project",
+            "startDate", "dueDate", "assignees", "version", "createdAt", "updatedAt"
+    };
+
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+
+    public TaskExportService(TaskRepository taskRepository,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager txManager) {
+        this.taskRepository = taskRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = new TransactionTemplate(txManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    public static String requireFormat(String format) {
+        String f = format == null ? NDJSON : format.toLowerCase();
+        if (!f.equals(NDJSON) && !f.equals(CSV)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "format must be ndjson or csv");
+        }
+        return f;
+    }
+
+    /** out kapatılmaz (çağıran gzip/servlet stream'ini kapatır); döner: yazılan satır sayısı */
+    public long export(String format, Long projectId, OutputStream out) throws IOException {
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        try {
+            Long n = readOnlyTx.execute(s -> {
+                try (Stream<TaskRepository.ExportRow> rows = taskRepository.streamForExport(projectId)) {
+                    if (CSV.equals(format)) writeCsvLine(w, CSV_HEADER);
+                    long count = 0;
+                    for (TaskRepository.ExportRow r : (Iterable<TaskRepository.ExportRow>) rows::iterator) {
+                        if (CSV.equals(format)) writeCsv(w, r);
+                        else writeJson(w, r);
+                        count++;
+                    }
+                    return count;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // istemci bağlantıyı kapattı vb.
+                }
+            });
+            w.flush();
+            return n == null ? 0 : n;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    private void writeJson(Writer w, TaskRepository.ExportRow r) throws IOException {
+        w.write(objectMapper.writeValueAsString(new ExportLine(
+                r.getId(), r.getTitle(), r.getDescription(), r.getStatus(), r.getPriority(),
+                r.getEpicId(), r.getEpic(), r.getProjectId(), r.getProject(),
+                r.getStartDate(), r.getDueDate(),
+                r.getAssignees() == null ? new String[0] : r.getAssignees().split(";"),
+                r.getVersion(), r.getCreatedAt(), r.getUpdatedAt())));
+        w.write('\n');
+    }
+
+    private static void writeCsv(Writer w, TaskRepository.ExportRow r) throws IOException {
+        writeCsvLine(w, new String[]{
+                str(r.getId()), r.getTitle(), r.getDescription(), r.getStatus(), r.getPriority(),
+                str(r.getEpicId()), r.getEpic(), str(r.getProjectId()), r.getProject(),
+                r.getStartDate(), r.getDueDate(), r.getAssignees(),
+                str(r.getVersion()), r.getCreatedAt(), r.getUpdatedAt()
+        });
+    }
+
+    /** RFC 4180: virgül/tırnak/satır sonu içeren alanlar tırnaklanır */
+    private static void writeCsvLine(Writer w, String[] fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) w.write(',');
+            String f = fields[i];
+            if (f == null) continue;
+            if (f.indexOf(',') >= 0 || f.indexOf('"') >= 0 || f.indexOf('\n') >= 0 || f.indexOf('\r') >= 0) {
+                w.write('"');
+                w.write(f.replace("\"", "\"\""));
+                w.write('"');
+            } else {
+                w.write(f);
+            }
+        }
+        w.write("\r\n");
+    }
+
+    private static String str(Object o) {
+        return o == null ? null : o.toString();
+    }
+
+    public record ExportLine(
+            Long id,
+            String title,
+            String description,
+            String status,
+            String priority,
+            Long epicId,
+            String epic,
+            Long projectId,
+            String project,
+            String startDate,
+            String dueDate,
+            String[] assignees,
+            Integer version,
+            String createdAt,
+            String updatedAt
+    ) {}
+}
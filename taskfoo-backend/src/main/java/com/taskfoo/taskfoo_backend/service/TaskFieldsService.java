@@ -0,0 +1,175 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/TaskFieldsService.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.dto.response.common.UserBriefDto;
+import com.taskfoo.taskfoo_backend.model.Role;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldset: {@code ?fields=id,title,status,version} sadece istenen kolonları SELECT eder,
+ * join'ler (status/priority/epic) ve assignee sorgusu sadece o alan istenirse yapılır.
+ * Response alan adları TaskListItemResponse ile aynı; ek olarak ucuz {@code assigneeIds}.
+ * ids verilirse tek sorguda multi-get (arşiv dahil edilebilir).
+ */
+@Service
+@Transactional(readOnly = true)
+public class TaskFieldsService {
+
+    public static final int MAX_IDS = 1000;
+
+    /** Alan -> SELECT ifadeleri (tablo alias'ı t; join gerektirenler ayrıca) */
+    private static final Map<String, String> COLUMNS = Map.ofEntries(
+            Map.entry("id", "t.id AS id"),
+            Map.entry("title", "t.title AS title"),
+            Map.entry("description", "t.description AS description"),
+            Map.entry("startDate", "t.start_date::text AS start_date"),
+            Map.entry("dueDate", "t.due_date::text AS due_date"),
+            Map.entry("status", "t.status_id AS status_id, s.name AS status_name"),
+            Map.entry("priority", "t.priority_id AS priority_id, p.name AS priority_name, p.color AS priority_color"),
+            Map.entry("epic", "t.epic_id AS epic_id, e.name AS epic_name"),
+            Map.entry("version", "t.version AS version"),
+            Map.entry("boardRank", "t.board_rank AS board_rank"),
+            Map.entry("assigneeIds", "(SELECT string_agg(a.user_id::text, ',' ORDER BY a.user_id) FROM %s a WHERE a.task_id = t.id) AS assignee_ids"),
+            Map.entry("assignees", "")
+    );
+
+    private static final Map<String, String> JOINS = Map.of(
+            "status", " LEFT JOIN statuses s ON s.id = t.status_id",
+            "priority", " LEFT JOIN priorities p ON p.id = t.priority_id",
+            "epic", " LEFT JOIN epics e ON e.id = t.epic_id"
+    );
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public TaskFieldsService(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** ids null -> tümü; sıra id'ye göre */
+    public List<Map<String, Object>> find(Set<String> fields, Collection<Long> ids, boolean includeArchived) {
+        Set<String> wanted = new LinkedHashSet<>();
+        wanted.add("id");
+        for (String f : fields) {
+            if (!COLUMNS.containsKey(f)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown field: " + f);
+            }
+            wanted.add(f);
+        }
+        if (ids != null && ids.isEmpty()) return List.of();
+        requireIdLimit(ids);
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = select(wanted, "tasks", "task_user", ids != null);
+        if (includeArchived) sql += " UNION ALL " + select(wanted, "tasks_archive", "task_user_archive", ids != null);
+        sql += " ORDER BY id";
+        if (ids != null) params.addValue("ids", ids);
+
+        List<Map<String, Object>> out = jdbc.query(sql, params, (rs, i) -> {
+            Map<String, Object> m = new LinkedHashMap<>();
+            for (String f : wanted) {
+                switch (f) {
+                    case "id" -> m.put("id", rs.getLong("id"));
+                    case "title" -> m.put("title", rs.getString("title"));
+                    case "description" -> m.put("description", rs.getString("description"));
+                    case "startDate" -> m.put("startDate", rs.getString("start_date"));
+                    case "dueDate" -> m.put("dueDate", rs.getString("due_date"));
+                    case "status" -> m.put("status", brief(rs.getObject("status_id", Long.class),
+                            "name", rs.getString("status_name")));
+                    case "priority" -> {
+                        Map<String, Object> p = brief(rs.getObject("priority_id", Long.class),
+                                "name", rs.getString("priority_name"));
+                        if (p != null) p.put("color", rs.getString("priority_color"));
+                        m.put("priority", p);
+                    }
+                    case "epic" -> m.put("epic", brief(rs.getObject("epic_id", Long.class),
+                            "name", rs.getString("epic_name")));
+                    case "version" -> m.put("version", rs.getObject("version", Integer.class));
+                    case "boardRank" -> m.put("boardRank", rs.getString("board_rank"));
+                    case "assigneeIds" -> {
+                        String s = rs.getString("assignee_ids");
+                        m.put("assigneeIds", s == null ? List.of()
+                                : Arrays.stream(s.split(",")).map(Long::valueOf).toList());
+                    }
+                    default -> { } // assignees: aşağıda tek sorguda
+                }
+            }
+            return m;
+        });
+
+        if (wanted.contains("assignees") && !out.isEmpty()) {
+            Map<Long, List<UserBriefDto>> byTask = assignees(ids, includeArchived);
+            for (Map<String, Object> m : out) m.put("assignees", byTask.getOrDefault((Long) m.get("id"), List.of()));
+        }
+        return out;
+    }
+
+    public static void requireIdLimit(Collection<Long> ids) {
+        if (ids != null && ids.size() > MAX_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Too many ids (max " + MAX_IDS + ")");
+        }
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    private static String select(Set<String> wanted, String table, String assigneeTable, boolean byIds) {
+        StringBuilder cols = new StringBuilder();
+        StringBuilder joins = new StringBuilder();
+        for (String f : wanted) {
+            String c = COLUMNS.get(f);
+            if (c.isEmpty()) continue;
+            if (cols.length() > 0) cols.append(", ");
+            cols.append(c.formatted(assigneeTable));
+            String j = JOINS.get(f);
+            if (j != null) joins.append(j);
+        }
+        return "SELECT " + cols + " FROM " + table + " t" + joins + (byIds ? " WHERE t.id IN (:ids)" : "");
+    }
+
+    /**
+     * ids null -> ana sorgu zaten tüm task'ları döndürür; link tablosu filtresiz okunur (binlerce id'yi
+     * bind parametresi yapmak Postgres'in 65535 sınırını aşar). Aksi halde istenen (MAX_IDS ile sınırlı) ids.
+     */
+    private Map<Long, List<UserBriefDto>> assignees(Collection<Long> ids, boolean includeArchived) {
+        String where = ids != null ? " WHERE task_id IN (:ids)" : "";
+        String links = "SELECT task_id, user_id FROM task_user" + where
+                + (includeArchived ? " UNION ALL SELECT task_id, user_id FROM task_user_archive" + where : "");
+        String sql = """
+                SELECT a.task_id, u.id, u.name, u.surname, u.email,
+                       (SELECT string_agg(r.role, ',') FROM user_roles r WHERE r.user_id = u.id) AS roles
+                  FROM (%s) a
+                  JOIN users u ON u.id = a.user_id
+                 ORDER BY a.task_id, u.id
+                """.formatted(links);
+
+        Map<Long, List<UserBriefDto>> byTask = new HashMap<>();
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        if (ids != null) params.addValue("ids", ids);
+        jdbc.query(sql, params, rs -> {
+            String roles = rs.getString("roles");
+            byTask.computeIfAbsent(rs.getLong("task_id"), k -> new ArrayList<>()).add(new UserBriefDto(
+                    rs.getLong("id"),
+                    Objects.toString(rs.getString("name"), ""),
+                    Objects.toString(rs.getString("surname"), ""),
+                    Objects.toString(rs.getString("email"), ""),
+                    roles == null ? Set.of()
+                            : Arrays.stream(roles.split(",")).map(Role::valueOf).collect(Collectors.toSet())));
+        });
+        return byTask;
+    }
+
+    private static Map<String, Object> brief(Long id, String key, Object value) {
+        if (id == null) return null;
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("id", id);
+        m.put(key, value);
+        return m;
+    }
+}
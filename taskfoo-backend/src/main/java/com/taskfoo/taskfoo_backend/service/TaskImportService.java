@@ -0,0 +1,613 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/TaskImportService.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskfoo.taskfoo_backend.model.AuditEvent;
+import com.taskfoo.taskfoo_backend.repository.AuditEventRepository;
+import com.taskfoo.taskfoo_backend.repository.TaskRepository;
+import com.taskfoo.taskfoo_backend.support.ChangeCounters;
+import com.taskfoo.taskfoo_backend.support.JobRegistry;
+import com.taskfoo.taskfoo_backend.support.LexoRank;
+import com.taskfoo.taskfoo_backend.support.RequestContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Toplu task import'u (NDJSON / CSV, export ile aynı alanlar). Upload önce geçici dosyaya akıtılır
+ * (request thread'i sadece kopyalar), iş JobRegistry'de chunk chunk koşar: referans isimleri
+ * (status, priority, epic, assignee e-postası) job başında yüklenen map'lerden çözülür, chunk
+ * satırları paralel doğrulanır, geçerliler JDBC batch'leriyle tek transaction'da yazılır.
+ * Satır başına audit/WS yok: chunk başına set-based audit, sonda tek özet audit ve proje başına
+ * tek TASKS_IMPORTED yayını. Hatalı satırlar atlanır ve satır numarasıyla raporlanır.
+ */
+@Service
+public class TaskImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportService.class);
+
+    private static final long AMBIGUOUS = -1L;
+
+    private final TaskRepository taskRepository;
+    private final AuditEventRepository auditRepository;
+    private final TaskEventPublisher events;
+    private final DashboardService dashboard;
+    private final DueReminderService reminders;
+    private final TaskDependencyService dependencies;
+    private final TaskRankService rankService;
+    private final ChangeCounters counters;
+    private final JobRegistry jobs;
+    private final JdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate tx;
+    private final int chunkSize;
+    private final long maxBytes;
+    private final int maxErrors;
+
+    public TaskImportService(TaskRepository taskRepository,
+                             AuditEventRepository auditRepository,
+                             TaskEventPublisher events,
+                             DashboardService dashboard,
+                             DueReminderService reminders,
+                             TaskDependencyService dependencies,
+                             TaskRankService rankService,
+                             ChangeCounters counters,
+                             JobRegistry jobs,
+                             JdbcTemplate jdbc,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager txManager,
+                             @Value("${app.import.chunk-size:5000}") int chunkSize,
+                             @Value("${app.import.max-bytes:536870912}") long maxBytes,
+                             @Value("${app.import.max-errors:1000}") int maxErrors) {
+        this.taskRepository = taskRepository;
+        this.auditRepository = auditRepository;
+        this.events = events;
+        this.dashboard = dashboard;
+        this.reminders = reminders;
+        this.dependencies = dependencies;
+        this.rankService = rankService;
+        this.counters = counters;
+        this.jobs = jobs;
+        this.jdbc = jdbc;
+        this.objectMapper = objectMapper;
+        this.tx = new TransactionTemplate(txManager);
+        this.chunkSize = chunkSize;
+        this.maxBytes = maxBytes;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * body request thread'inde geçici dosyaya kopyalanır (sabit bellek), job id hemen döner.
+     * projectId verilirse epic isimleri sadece o projede aranır.
+     */
+    public JobRegistry.JobStatus startImport(String format, Long projectId, InputStream body, boolean gzip)
+            throws IOException {
+        String f = TaskExportService.requireFormat(format);
+        Path file = spool(body);
+        RequestContext rc = RequestContext.get();
+        try {
+            return jobs.submit("TASK_IMPORT", job -> {
+                try {
+                    run(job, f, projectId, file, gzip, rc == null ? new RequestContext() : rc);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    deleteQuietly(file);
+                }
+            }).status();
+        } catch (RuntimeException e) {
+            deleteQuietly(file); // kuyruk dolu (503)
+            throw e;
+        }
+    }
+
+    /* ---------------- Job ---------------- */
+
+    private void run(JobRegistry.Job job, String format, Long projectId, Path file, boolean gzip, RequestContext rc)
+            throws IOException {
+        Refs refs = loadRefs(projectId);
+        Report report = new Report();
+        Set<Long> touchedProjects = new HashSet<>();
+        boolean orphanTasks = false;
+
+        try (RowReader rows = open(format, file, gzip)) {
+            List<ParsedRow> chunk = new ArrayList<>(chunkSize);
+            ParsedRow row;
+            do {
+                row = rows.next();
+                if (row != null) chunk.add(row);
+                if (chunk.size() == chunkSize || (row == null && !chunk.isEmpty())) {
+                    List<Validated> validated = chunk.parallelStream().map(r -> validate(r, refs)).toList();
+                    ChunkReport cr = importChunk(report.chunks.size() + 1, validated, rc, report);
+                    for (Validated v : validated) {
+                        if (v.task() == null || cr.error() != null) continue;
+                        Long p = v.task().projectId();
+                        if (p == null) orphanTasks = true;
+                        else touchedProjects.add(p);
+                    }
+                    report.chunks.add(cr);
+                    job.progress(chunk.size());
+                    job.result(report.snapshot());
+                    chunk.clear();
+                }
+            } while (row != null);
+        }
+
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("rowsRead", report.rowsRead);
+        summary.put("imported", report.imported);
+        summary.put("failed", report.failed);
+        if (projectId != null) summary.put("projectId", projectId);
+        tx.executeWithoutResult(s -> writeAudit(projectId, summary, rc));
+
+        dependencies.invalidateAll();
+        String at = OffsetDateTime.now().toString();
+        List<Long> targets = new ArrayList<>(touchedProjects);
+        if (orphanTasks) targets.add(null);
+        for (Long p : targets) {
+            dashboard.markDirty(p);
+            events.publish("TASKS_IMPORTED", new TasksImportedPayload(p, job.id(), report.imported, at), p);
+        }
+        job.result(report.snapshot());
+        log.info("Task import {}: {} imported, {} failed", job.id(), report.imported, report.failed);
+    }
+
+    /** Geçerli satırlar tek transaction'da; DB hatasında chunk'ın tamamı başarısız sayılır */
+    private ChunkReport importChunk(int no, List<Validated> rows, RequestContext rc, Report report) {
+        List<Validated> valid = rows.stream().filter(v -> v.task() != null).toList();
+        int invalid = rows.size() - valid.size();
+        long first = rows.get(0).line(), last = rows.get(rows.size() - 1).line();
+        report.rowsRead += rows.size();
+        for (Validated v : rows) {
+            if (v.error() != null) report.error(v.line(), v.error(), maxErrors);
+        }
+
+        String error = null;
+        if (!valid.isEmpty()) {
+            try {
+                tx.executeWithoutResult(s -> insert(valid, rc));
+            } catch (DataAccessException e) {
+                error = Objects.toString(e.getMostSpecificCause().getMessage(), e.getClass().getSimpleName());
+                log.warn("Task import chunk {} (lines {}-{}) failed: {}", no, first, last, error);
+            }
+        }
+        if (error == null) {
+            // commit sonrası: rebalance job'u yeni satırları görsün
+            valid.stream().map(v -> v.task().column()).distinct()
+                    .forEach(c -> rankService.afterMove(c.projectId(), c.statusId(),
+                            taskRepository.findMaxRank(c.projectId(), c.statusId())));
+        }
+        int imported = error == null ? valid.size() : 0;
+        int failed = rows.size() - imported;
+        report.imported += imported;
+        report.failed += failed;
+        return new ChunkReport(no, first, last, imported, failed, invalid, error);
+    }
+
+    private void insert(List<Validated> rows, RequestContext rc) {
+        List<Long> ids = jdbc.queryForList(
+                "SELECT nextval(pg_get_serial_sequence('tasks', 'id')) FROM generate_series(1, ?)",
+                Long.class, rows.size());
+
+        // kolon sonuna, satır sırasıyla: (proje, status) başına tek kısa anahtar dizisi
+        Map<RankColumn, Integer> perColumn = new HashMap<>();
+        for (Validated v : rows) perColumn.merge(v.task().column(), 1, Integer::sum);
+        Map<RankColumn, Iterator<String>> ranks = new HashMap<>();
+        perColumn.forEach((c, n) -> ranks.put(c, Arrays.asList(
+                LexoRank.spreadAfter(taskRepository.findMaxRank(c.projectId(), c.statusId()), n)).iterator()));
+
+        List<Object[]> taskArgs = new ArrayList<>(rows.size());
+        List<Object[]> assigneeArgs = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ValidTask t = rows.get(i).task();
+            Long id = ids.get(i);
+            taskArgs.add(new Object[]{id, t.title(), t.description(), t.startDate(), t.dueDate(),
+                    t.statusId(), t.priorityId(), t.epicId(), ranks.get(t.column()).next()});
+            for (Long userId : t.assigneeIds()) assigneeArgs.add(new Object[]{id, userId});
+        }
+        jdbc.batchUpdate("""
+                INSERT INTO tasks (id, title, description, start_date, due_date, status_id, priority_id,
+                                   epic_id, board_rank, version, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, now())
+                """, taskArgs);
+        if (!assigneeArgs.isEmpty()) {
+            jdbc.batchUpdate("INSERT INTO task_user (task_id, user_id) VALUES (?, ?)", assigneeArgs);
+        }
+
+        auditRepository.insertTaskEvents(ids, AuditEvent.AuditAction.CREATE.name(),
+                rc.actorId, rc.actorName, rc.pageContext, rc.clientChangeId, rc.requestId, rc.ip);
+        counters.touch("tasks");
+        counters.touch("task_user");
+        reminders.reload(ids);
+    }
+
+    /* ---------------- Validation ---------------- */
+
+    private static Validated validate(ParsedRow r, Refs refs) {
+        if (r.error() != null) return Validated.failed(r.line(), r.error());
+        ImportRow in = r.row();
+        try {
+            String title = trimToNull(in.title());
+            if (title == null) return Validated.failed(r.line(), "title is required");
+            if (in.description() != null && in.description().length() > 10_000) {
+                return Validated.failed(r.line(), "description is too long (max 10000)");
+            }
+            LocalDate start = date(in.startDate(), "startDate");
+            LocalDate due = date(in.dueDate(), "dueDate");
+
+            Long statusId = lookup(refs.statuses, in.status(), "status");
+            Long priorityId = lookup(refs.priorities, in.priority(), "priority");
+
+            Long epicId = in.epicId();
+            if (epicId != null) {
+                if (!refs.epicProjects.containsKey(epicId)) return Validated.failed(r.line(), "Unknown epicId: " + epicId);
+            } else if (trimToNull(in.epic()) != null) {
+                epicId = lookup(refs.epics, in.epic(), "epic");
+            }
+
+            List<Long> assigneeIds = new ArrayList<>();
+            if (in.assignees() != null) {
+                for (String email : in.assignees()) {
+                    if (trimToNull(email) == null) continue;
+                    Long userId = lookup(refs.users, email, "assignee");
+                    if (!assigneeIds.contains(userId)) assigneeIds.add(userId);
+                }
+            }
+            Long projectId = epicId == null ? null : refs.epicProjects.get(epicId);
+            return new Validated(r.line(), new ValidTask(title, in.description(), start, due,
+                    statusId, priorityId, epicId, projectId, assigneeIds), null);
+        } catch (IllegalArgumentException e) {
+            return Validated.failed(r.line(), e.getMessage());
+        }
+    }
+
+    private static LocalDate date(String value, String field) {
+        String v = trimToNull(value);
+        if (v == null) throw new IllegalArgumentException(field + " is required");
+        try {
+            return LocalDate.parse(v);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(field + " must be YYYY-MM-DD: " + v);
+        }
+    }
+
+    private static Long lookup(Map<String, Long> map, String name, String field) {
+        String key = trimToNull(name);
+        if (key == null) throw new IllegalArgumentException(field + " is required");
+        Long id = map.get(key.toLowerCase(Locale.ROOT));
+        if (id == null) throw new IllegalArgumentException("Unknown " + field + ": " + key);
+        if (id == AMBIGUOUS) throw new IllegalArgumentException("Ambiguous " + field + " (give projectId or epicId): " + key);
+        return id;
+    }
+
+    private static String trimToNull(String s) {
+        if (s == null) return null;
+        String t = s.trim();
+        return t.isEmpty() ? null : t;
+    }
+
+    /* ---------------- Referanslar ---------------- */
+
+    private Refs loadRefs(Long projectId) {
+        Refs refs = new Refs();
+        jdbc.query("SELECT id, name FROM statuses", rs -> {
+            refs.statuses.put(rs.getString("name").toLowerCase(Locale.ROOT), rs.getLong("id"));
+        });
+        jdbc.query("SELECT id, name FROM priorities", rs -> {
+            refs.priorities.put(rs.getString("name").toLowerCase(Locale.ROOT), rs.getLong("id"));
+        });
+        jdbc.query("SELECT id, lower(email) AS email FROM users", rs -> {
+            refs.users.put(rs.getString("email"), rs.getLong("id"));
+        });
+        jdbc.query("SELECT id, name, project_id FROM epics", rs -> {
+            long id = rs.getLong("id");
+            Long project = rs.getObject("project_id", Long.class);
+            refs.epicProjects.put(id, project);
+            if (rs.getString("name") == null) return;
+            if (projectId != null && !projectId.equals(project)) return;
+            // projectId yoksa aynı isimli epic'ler belirsiz
+            refs.epics.merge(rs.getString("name").toLowerCase(Locale.ROOT), id, (a, b) -> AMBIGUOUS);
+        });
+        return refs;
+    }
+
+    private static final class Refs {
+        final Map<String, Long> statuses = new HashMap<>();
+        final Map<String, Long> priorities = new HashMap<>();
+        final Map<String, Long> users = new HashMap<>();
+        final Map<String, Long> epics = new HashMap<>();
+        /** epicId -> projectId (null olabilir) */
+        final Map<Long, Long> epicProjects = new HashMap<>();
+    }
+
+    /* ---------------- Okuma ---------------- */
+
+    private Path spool(InputStream body) throws IOException {
+        Path file = Files.createTempFile("task-import-", ".upload");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            byte[] buf = new byte[64 * 1024];
+            long total = 0;
+            int n;
+            while ((n = body.read(buf)) != -1) {
+                total += n;
+                if (total > maxBytes) {
+                    throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                            "Import file too large (max " + maxBytes + " bytes)");
+                }
+                out.write(buf, 0, n);
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+        return file;
+    }
+
+    private RowReader open(String format, Path file, boolean gzip) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), 64 * 1024);
+        if (gzip) in = new GZIPInputStream(in, 64 * 1024);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        return TaskExportService.CSV.equals(format) ? new CsvRowReader(reader) : new JsonRowReader(reader, objectMapper);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}", file, e);
+        }
+    }
+
+    private interface RowReader extends Closeable {
+        /** null -> dosya sonu; bozuk satır hata mesajıyla döner (import devam eder) */
+        ParsedRow next() throws IOException;
+    }
+
+    /** Satır başına bir JSON nesnesi; boş satırlar atlanır */
+    private static final class JsonRowReader implements RowReader {
+        private final BufferedReader reader;
+        private final ObjectMapper mapper;
+        private long line;
+
+        JsonRowReader(BufferedReader reader, ObjectMapper mapper) {
+            this.reader = reader;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            String s;
+            while ((s = reader.readLine()) != null) {
+                line++;
+                if (s.isBlank()) continue;
+                try {
+                    return new ParsedRow(line, mapper.readValue(s, ImportRow.class), null);
+                } catch (JsonProcessingException e) {
+                    return new ParsedRow(line, null, "Invalid JSON: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV: ilk satır başlık (export ile aynı kolon adları, bilinmeyenler yok sayılır),
+     * tırnaklı alanlar virgül/satır sonu içerebilir. Assignee'ler ';' ile ayrılmış e-postalar.
+     */
+    private static final class CsvRowReader implements RowReader {
+        private final BufferedReader reader;
+        private Map<String, Integer> header;
+        private long line;
+        /** son okunan kaydın ilk satırı */
+        private long recordLine;
+
+        CsvRowReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            if (header == null) {
+                List<String> h = record();
+                if (h == null) return null;
+                header = new HashMap<>();
+                for (int i = 0; i < h.size(); i++) header.put(h.get(i).trim(), i);
+                if (!header.containsKey("title")) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header must contain title");
+                }
+            }
+            List<String> f;
+            do {
+                f = record();
+                if (f == null) return null;
+            } while (f.size() == 1 && f.get(0).isEmpty());
+            long at = recordLine;
+
+            Long epicId = null;
+            String epicIdText = trimToNull(field(f, "epicId"));
+            if (epicIdText != null) {
+                try {
+                    epicId = Long.valueOf(epicIdText);
+                } catch (NumberFormatException e) {
+                    return new ParsedRow(at, null, "epicId must be a number: " + epicIdText);
+                }
+            }
+            String assignees = field(f, "assignees");
+            return new ParsedRow(at, new ImportRow(
+                    field(f, "title"), field(f, "description"), field(f, "status"), field(f, "priority"),
+                    epicId, field(f, "epic"), field(f, "startDate"), field(f, "dueDate"),
+                    assignees == null || assignees.isBlank() ? List.of() : List.of(assignees.split(";"))), null);
+        }
+
+        private String field(List<String> f, String name) {
+            Integer i = header.get(name);
+            return i == null || i >= f.size() ? null : f.get(i);
+        }
+
+        /** Bir kayıt (çok satırlı olabilir); null -> dosya sonu. line: kaydın ilk satırı */
+        private List<String> record() throws IOException {
+            int c = reader.read();
+            if (c == -1) return null;
+            line++;
+            long start = line;
+            List<String> out = new ArrayList<>();
+            StringBuilder cur = new StringBuilder();
+            boolean quoted = false;
+            while (c != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int n = reader.read();
+                        if (n == '"') cur.append('"');
+                        else {
+                            quoted = false;
+                            if (n != -1) reader.reset();
+                        }
+                    } else {
+                        if (c == '\n') line++;
+                        cur.append((char) c);
+                    }
+                } else if (c == '"' && cur.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    out.add(cur.toString());
+                    cur.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    cur.append((char) c);
+                }
+                c = reader.read();
+            }
+            out.add(cur.toString());
+            recordLine = start;
+            return out;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /* ---------------- Rapor ---------------- */
+
+    /** Job thread'i yazar; dışarıya her chunk sonunda değişmez snapshot verilir */
+    private static final class Report {
+        long rowsRead;
+        long imported;
+        long failed;
+        final List<ChunkReport> chunks = new ArrayList<>();
+        final List<RowError> errors = new ArrayList<>();
+        boolean errorsTruncated;
+
+        void error(long line, String message, int max) {
+            if (errors.size() < max) errors.add(new RowError(line, message));
+            else errorsTruncated = true;
+        }
+
+        ImportReport snapshot() {
+            return new ImportReport(rowsRead, imported, failed, List.copyOf(chunks), List.copyOf(errors), errorsTruncated);
+        }
+    }
+
+    public record ImportReport(
+            long rowsRead,
+            long imported,
+            long failed,
+            List<ChunkReport> chunks,
+            List<RowError> errors,
+            boolean errorsTruncated
+    ) {}
+
+    public record ChunkReport(
+            int chunk,
+            long firstLine,
+            long lastLine,
+            int imported,
+            int failed,
+            int invalid,
+            String error          // DB hatası: chunk'ın tamamı yazılmadı
+    ) {}
+
+    public record RowError(long line, String message) {}
+
+    /** Export satırıyla aynı alan adları (id, version, project ... yok sayılır) */
+    public record ImportRow(
+            String title,
+            String description,
+            String status,
+            String priority,
+            Long epicId,
+            String epic,
+            String startDate,
+            String dueDate,
+            List<String> assignees
+    ) {}
+
+    private record ParsedRow(long line, ImportRow row, String error) {}
+
+    private record ValidTask(String title, String description, LocalDate startDate, LocalDate dueDate,
+                             Long statusId, Long priorityId, Long epicId, Long projectId, List<Long> assigneeIds) {
+
+        RankColumn column() {
+            return new RankColumn(projectId, statusId);
+        }
+    }
+
+    /** Rank kolonu: (proje, status) */
+    private record RankColumn(Long projectId, Long statusId) {}
+
+    private record Validated(long line, ValidTask task, String error) {
+        static Validated failed(long line, String error) {
+            return new Validated(line, null, error);
+        }
+    }
+
+    private void writeAudit(Long projectId, Map<String, Object> summary, RequestContext rc) {
+        auditRepository.save(AuditEvent.builder()
+                .entityType("TASK_IMPORT")
+                .entityId(projectId == null ? 0L : projectId)
+                .action(AuditEvent.AuditAction.CREATE)
+                .metadata(summary)
+                .actorId(rc.actorId)
+                .actorName(rc.actorName)
+                .pageContext(rc.pageContext)
+                .clientChangeId(rc.clientChangeId)
+                .requestId(rc.requestId)
+                .ipAddress(rc.ip)
+                .build());
+    }
+
+    /* ---------------- Payload DTO'ları ---------------- */
+
+    public record TasksImportedPayload(
+            Long projectId,
+            String jobId,
+            long imported,
+            String at
+    ) {}
+}
@@ -0,0 +1,83 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/TaskMergeResolver.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.model.AuditEvent;
+import com.taskfoo.taskfoo_backend.repository.AuditEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.*;
+
+/**
+ * Eşzamanlı düzenlemelerde alan bazlı merge: client'ın base version'ından sonra
+ * yazılmış audit satırları change log olarak okunur. Değişen alanlar istenen
+ * alanlarla kesişmiyorsa güncelleme mevcut version üzerine uygulanır; kesişme,
+ * eksik geçmiş veya alan bilgisi olmayan satır varsa 409.
+ */
+@Component
+public class TaskMergeResolver {
+
+    private static final String CONFLICT_MESSAGE = "Task was updated by another user";
+
+    private final AuditEventRepository auditRepository;
+    private final int maxGap;
+    private final Counter merged;
+    private final Counter conflicts;
+
+    public TaskMergeResolver(AuditEventRepository auditRepository,
+                             MeterRegistry meters,
+                             @Value("${app.tasks.merge.max-gap:50}") int maxGap) {
+        this.auditRepository = auditRepository;
+        this.maxGap = maxGap;
+        this.merged = Counter.builder("tasks.merge").tag("result", "merged").register(meters);
+        this.conflicts = Counter.builder("tasks.merge").tag("result", "conflict").register(meters);
+    }
+
+    /**
+     * base == current ise hiçbir şey yapmaz. Aksi halde (base, current] aralığındaki
+     * her version için audit satırı olmalı ve hiçbiri {@code fields} ile çakışmamalı.
+     */
+    public void requireMergeable(Long taskId, Integer baseVersion, Integer currentVersion, Collection<String> fields) {
+        if (Objects.equals(baseVersion, currentVersion)) return;
+        if (baseVersion == null || currentVersion == null
+                || baseVersion > currentVersion
+                || currentVersion - baseVersion > maxGap) {
+            throw conflict(CONFLICT_MESSAGE);
+        }
+
+        Set<Integer> covered = new HashSet<>();
+        Set<String> changedSince = new TreeSet<>();
+        for (AuditEvent ev : auditRepository.findChangesSince("TASK", taskId, baseVersion)) {
+            if (ev.getEntityVersion() > currentVersion) continue; // bizden sonra commit olmuş
+            if (ev.getChangedFields() == null) {
+                // hangi alanın değiştiği bilinmiyor
+                throw conflict(CONFLICT_MESSAGE);
+            }
+            covered.add(ev.getEntityVersion());
+            for (AuditEvent.ChangedField f : ev.getChangedFields()) changedSince.add(f.getField());
+        }
+
+        // Change log kesintisiz olmalı (audit'siz version artışı = bilinmeyen değişiklik)
+        for (int v = baseVersion + 1; v <= currentVersion; v++) {
+            if (!covered.contains(v)) throw conflict(CONFLICT_MESSAGE);
+        }
+
+        List<String> overlap = new ArrayList<>();
+        for (String f : fields) {
+            if (changedSince.contains(f)) overlap.add(f);
+        }
+        if (!overlap.isEmpty()) {
+            throw conflict(CONFLICT_MESSAGE + " (conflicting fields: " + String.join(", ", overlap) + ")");
+        }
+        merged.increment();
+    }
+
+    private ResponseStatusException conflict(String reason) {
+        conflicts.increment();
+        return new ResponseStatusException(HttpStatus.CONFLICT, reason);
+    }
+}
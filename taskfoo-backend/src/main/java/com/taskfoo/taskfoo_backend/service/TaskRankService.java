@@ -0,0 +1,176 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/TaskRankService.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.repository.TaskRepository;
+import com.taskfoo.taskfoo_backend.support.ChangeCounters;
+import com.taskfoo.taskfoo_backend.support.JobRegistry;
+import com.taskfoo.taskfoo_backend.support.LexoRank;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.taskfoo.taskfoo_backend.support.TransactionHooks.afterCommit;
+
+/**
+ * Board kolon sırası: move sadece taşınan task'ın rank'ını yazar (komşuların arası).
+ * Kolon (proje, status) çiftidir; status'lar projeler arasında ortak olsa da sıra ve rebalance
+ * kilidi tek board'la sınırlı kalır.
+ * Rank'lar çok uzarsa (aynı aralığa çok sayıda ekleme) kolon arka planda eşit aralıklı
+ * kısa anahtarlarla yeniden numaralanır; bu sırada version artmaz (kullanıcı değişikliği değil).
+ */
+@Service
+public class TaskRankService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskRankService.class);
+    private static final int REBALANCE_BATCH = 500;
+
+    private final TaskRepository taskRepository;
+    private final JdbcTemplate jdbc;
+    private final ChangeCounters counters;
+    private final JobRegistry jobs;
+    private final TransactionTemplate tx;
+    private final int maxLength;
+
+    /** Aynı kolon için üst üste rebalance kuyruğa alınmasın */
+    private final Set<Column> pending = ConcurrentHashMap.newKeySet();
+
+    public TaskRankService(TaskRepository taskRepository,
+                           JdbcTemplate jdbc,
+                           ChangeCounters counters,
+                           JobRegistry jobs,
+                           PlatformTransactionManager txManager,
+                           @Value("${app.tasks.rank.max-length:16}") int maxLength) {
+        this.taskRepository = taskRepository;
+        this.jdbc = jdbc;
+        this.counters = counters;
+        this.jobs = jobs;
+        this.tx = new TransactionTemplate(txManager);
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * prevId (üstteki) ile nextId (alttaki) arasına rank. İkisi de task'ın projesinde, hedef
+     * status'ta olmalı; board eskiyse (komşu başka kolonda / sıra bozuk) 409.
+     */
+    public String rankBetween(Long taskId, Long statusId, Long prevId, Long nextId) {
+        List<Long> ids = new ArrayList<>(3);
+        ids.add(taskId);
+        if (prevId != null) ids.add(prevId);
+        if (nextId != null) ids.add(nextId);
+        if (prevId != null && prevId.equals(taskId) || nextId != null && nextId.equals(taskId)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Task cannot be its own neighbour");
+        }
+
+        Map<Long, TaskRepository.RankRow> rows = new HashMap<>();
+        for (TaskRepository.RankRow r : taskRepository.findRanks(ids)) rows.put(r.getId(), r);
+        TaskRepository.RankRow self = rows.get(taskId);
+        if (self == null) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found");
+        Long projectId = self.getProjectId();
+        if (rows.size() != ids.size()) throw staleBoard();
+
+        String prevRank = null, nextRank = null;
+        for (TaskRepository.RankRow r : rows.values()) {
+            if (r == self) continue;
+            if (!Objects.equals(r.getStatusId(), statusId) || !Objects.equals(r.getProjectId(), projectId)) {
+                throw staleBoard();
+            }
+            if (r.getId().equals(prevId)) prevRank = r.getBoardRank();
+            if (r.getId().equals(nextId)) nextRank = r.getBoardRank();
+        }
+
+        if (prevId == null && nextId == null) return rankAtEnd(projectId, statusId);
+        if (prevId != null && prevRank == null) {
+            // üstteki komşu henüz sıralanmamış (backfill bekliyor): kolonun sonuna
+            requestRebalance(projectId, statusId);
+            return rankAtEnd(projectId, statusId);
+        }
+        if (nextRank != null && prevRank != null && prevRank.compareTo(nextRank) >= 0) throw staleBoard();
+        return LexoRank.between(prevRank, nextRank);
+    }
+
+    /** Kolonun en sonu (yeni task / komşusuz bırakma) */
+    public String rankAtEnd(Long projectId, Long statusId) {
+        if (statusId == null) return null;
+        return LexoRank.after(taskRepository.findMaxRank(projectId, statusId));
+    }
+
+    /** Yazılan rank eşik üstündeyse kolonu yeniden numaralandır */
+    public void afterMove(Long projectId, Long statusId, String rank) {
+        if (rank != null && rank.length() > maxLength) requestRebalance(projectId, statusId);
+    }
+
+    /** Job commit sonrası kuyruğa girer: kolonu kilitlediğinde tetikleyen rank'ı da görsün */
+    public void requestRebalance(Long projectId, Long statusId) {
+        if (statusId == null) return;
+        Column column = new Column(projectId, statusId);
+        afterCommit(() -> submit(column));
+    }
+
+    /** Açılışta: rank'ı olmayan (eski) task'ları olan kolonları sırala */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        for (TaskRepository.RankColumnRow c : taskRepository.findColumnsWithUnrankedTasks()) {
+            requestRebalance(c.getProjectId(), c.getStatusId());
+        }
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    private void submit(Column column) {
+        if (!pending.add(column)) return;
+        try {
+            jobs.submit("RANK_REBALANCE", job -> {
+                try {
+                    job.result(rebalance(column));
+                } finally {
+                    pending.remove(column);
+                }
+            });
+        } catch (RuntimeException e) {
+            pending.remove(column); // kuyruk dolu: bir sonraki move tekrar dener
+            log.warn("Rank rebalance for {} not scheduled: {}", column, e.getMessage());
+        }
+    }
+
+    private int rebalance(Column column) {
+        Integer n = tx.execute(s -> {
+            List<Long> ids = taskRepository.lockColumn(column.projectId(), column.statusId());
+            String[] ranks = LexoRank.spread(ids.size());
+            List<Object[]> args = new ArrayList<>(REBALANCE_BATCH);
+            for (int i = 0; i < ids.size(); i++) {
+                args.add(new Object[]{ranks[i], ids.get(i)});
+                if (args.size() == REBALANCE_BATCH) {
+                    jdbc.batchUpdate("UPDATE tasks SET board_rank = ? WHERE id = ?", args);
+                    args.clear();
+                }
+            }
+            if (!args.isEmpty()) jdbc.batchUpdate("UPDATE tasks SET board_rank = ? WHERE id = ?", args);
+            counters.touch("tasks");
+            return ids.size();
+        });
+        log.info("Rebalanced {} task ranks in {}", n, column);
+        return n == null ? 0 : n;
+    }
+
+    private static ResponseStatusException staleBoard() {
+        return new ResponseStatusException(HttpStatus.CONFLICT, "Board order changed, please refresh");
+    }
+
+    private record Column(Long projectId, Long statusId) {}
+}
@@ -4,34 +4,75 @@ import com.taskfoo.taskfoo_backend.model.*;
 import com.taskfoo.taskfoo_backend.repository.AuditEventRepository;
 import com.taskfoo.taskfoo_backend.repository.TaskRepository;
 import com.taskfoo.taskfoo_backend.support.RequestContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.OffsetDateTime;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import static com.taskfoo.taskfoo_backend.model.AuditEvent.AuditAction;
 
 @Service
 public class TaskService {
 
+    private static final Set<String> STATUS_FIELD = Set.of(TaskChangeDetector.STATUS_ID);
+    private static final Set<String> MOVE_FIELDS = Set.of(TaskChangeDetector.STATUS_ID, TaskChangeDetector.BOARD_RANK);
+
+    private final EntityManager em;
     private final TaskRepository taskRepository;
     private final AuditEventRepository auditRepository;
-    private final SimpMessagingTemplate broker;
-
-    public TaskService(TaskRepository taskRepository,
+    private final TaskEventPublisher events;
+    private final TaskChangeDetector changeDetector;
+    private final TaskMergeResolver mergeResolver;
+    private final TaskRankService rankService;
+    private final DashboardService dashboard;
+    private final DueReminderService reminders;
+    private final TaskDependencyService dependencies;
+
+    /** false -> eski load + saveAndFlush yolu (karşılaştırmalı yük testi için) */
+    private final boolean statusFastPath;
+    private final Timer fastStatusTimer;
+    private final Timer loadedStatusTimer;
+
+    public TaskService(EntityManager em,
+                       TaskRepository taskRepository,
                        AuditEventRepository auditRepository,
-                       SimpMessagingTemplate broker) {
+                       TaskEventPublisher events,
+                       TaskChangeDetector changeDetector,
+                       TaskMergeResolver mergeResolver,
+                       TaskRankService rankService,
+                       DashboardService dashboard,
+                       DueReminderService reminders,
+                       TaskDependencyService dependencies,
+                       MeterRegistry meters,
+                       @Value("${app.tasks.status-fast-path:true}") boolean statusFastPath) {
+        this.em = em;
         this.taskRepository = taskRepository;
         this.auditRepository = auditRepository;
-        this.broker = broker;
+        this.events = events;
+        this.changeDetector = changeDetector;
+        this.mergeResolver = mergeResolver;
+        this.rankService = rankService;
+        this.dashboard = dashboard;
+        this.reminders = reminders;
+        this.dependencies = dependencies;
+        this.statusFastPath = statusFastPath;
+        this.fastStatusTimer = Timer.builder("tasks.status.change").tag("path", "fast").register(meters);
+        this.loadedStatusTimer = Timer.builder("tasks.status.change").tag("path", "loaded").register(meters);
     }
 
     /* ---------------- Queries ---------------- */
@@ -44,6 +85,11 @@ public class TaskService {
         return taskRepository.findAll();
     }
 
+    /** Multi-get: ilişkileriyle tek sorgu; bulunmayan id'ler atlanır */
+    public List<Task> getTasksByIds(Collection<Long> ids) {
+        return taskRepository.findByIdIn(ids);
+    }
+
     public Task getTaskById(Long id) {
         return taskRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found"));
@@ -54,39 +100,100 @@ public class TaskService {
     /** CREATE */
     @Transactional
     public Task createTask(Task task) {
+        if (task.getBoardRank() == null && task.getStatus() != null) {
+            task.setBoardRank(rankService.rankAtEnd(extractProjectId(task), task.getStatus().getId()));
+        }
         Task saved = taskRepository.save(task);
 
         // Audit
-        writeAudit(saved.getId(), AuditAction.CREATE,
+        writeAudit(saved.getId(), saved.getVersion(), AuditAction.CREATE,
                 List.of(new AuditEvent.ChangedField("statusId", null, saved.getStatus() != null ? saved.getStatus().getId() : null)),
                 Map.of());
 
         // WS
         publish("TASK_CREATED", saved, extractProjectId(saved));
+        dashboard.onChange(null, DashboardService.TaskFacts.of(saved));
+        reminders.onTaskChanged(saved);
+        if (saved.getStatus() != null) {
+            // kolon sonuna art arda eklemeler de anahtarı uzatır
+            rankService.afterMove(extractProjectId(saved), saved.getStatus().getId(), saved.getBoardRank());
+        }
         return saved;
     }
 
-    /** Genel amaçlı update (PUT) */
+    /**
+     * PUT: client'ın base version'ı eskiyse, aradaki değişiklikler {@code fields} ile
+     * çakışmadığı sürece güncelleme mevcut version üzerine uygulanır (aksi halde 409).
+     */
+    @Transactional
+    public Task save(Task task, Integer baseVersion, Collection<String> fields) {
+        mergeResolver.requireMergeable(task.getId(), baseVersion, task.getVersion(), fields);
+        return save(task);
+    }
+
+    /** Genel amaçlı update */
     @Transactional
     public Task save(Task task) {
-        Task before = taskRepository.findById(task.getId())
-                .orElseThrow(() -> new EntityNotFoundException("Task not found"));
+        // Diff flush'tan önce: eski değerler persistence context'in loaded state'inde
+        TaskChangeDetector.TaskChanges changes = changeDetector.detect(task);
+        if (changes == null) {
+            return saveDetached(task);
+        }
 
         Task saved = taskRepository.saveAndFlush(task);
+        if (changes.isEmpty()) {
+            return saved; // no-op
+        }
+
+        Map<String, Object> metadata = changes.has(TaskChangeDetector.EPIC_ID)
+                ? withFlowState(changes.metadata(), saved)
+                : changes.metadata();
+        writeAudit(saved.getId(), saved.getVersion(), AuditAction.UPDATE, changes.fields(), metadata);
+
+        publish("TASK_UPDATED",
+                new TaskUpdatedPayload(saved.getId(), changes.fields(), nowIso(), saved),
+                extractProjectId(saved));
+
+        // Dashboard: eski hal diff'ten; epic (proje) değiştiyse delta bilinmez -> yeniden say
+        DashboardService.TaskFacts after = DashboardService.TaskFacts.of(saved);
+        DashboardService.TaskFacts before = after.before(changes);
+        if (before != null) dashboard.onChange(before, after);
+        else {
+            dashboard.markAllDirty();
+            dependencies.invalidateAll(); // proje değişmiş olabilir
+        }
+        reminders.onTaskChanged(saved);
+        return saved;
+    }
 
-        // Basit diff örneği (istersen genişlet)
+    /** Detached entity (persistence context dışında): eski yol, sadece status/epic diff'i */
+    private Task saveDetached(Task task) {
+        Task before = taskRepository.findById(task.getId())
+                .orElseThrow(() -> new EntityNotFoundException("Task not found"));
         Long beforeStatus = before.getStatus() != null ? before.getStatus().getId() : null;
+        Long beforeEpic = before.getEpic() != null ? before.getEpic().getId() : null;
+
+        Task saved = taskRepository.saveAndFlush(task);
         Long afterStatus  = saved.getStatus()  != null ? saved.getStatus().getId()  : null;
+        Long afterEpic = saved.getEpic() != null ? saved.getEpic().getId() : null;
 
+        List<AuditEvent.ChangedField> fields = new ArrayList<>(2);
         if (!Objects.equals(beforeStatus, afterStatus)) {
-            writeAudit(saved.getId(), AuditAction.UPDATE,
-                    List.of(new AuditEvent.ChangedField("statusId", beforeStatus, afterStatus)),
-                    Map.of());
-        } else {
-            writeAudit(saved.getId(), AuditAction.UPDATE, null, Map.of());
+            fields.add(new AuditEvent.ChangedField(TaskChangeDetector.STATUS_ID, beforeStatus, afterStatus));
         }
+        Map<String, Object> metadata = Map.of();
+        if (!Objects.equals(beforeEpic, afterEpic)) {
+            fields.add(new AuditEvent.ChangedField(TaskChangeDetector.EPIC_ID, beforeEpic, afterEpic));
+            metadata = withFlowState(metadata, saved);
+        }
+        List<AuditEvent.ChangedField> changed = fields.isEmpty() ? null : fields;
+        writeAudit(saved.getId(), saved.getVersion(), AuditAction.UPDATE, changed, metadata);
 
-        publish("TASK_UPDATED", saved, extractProjectId(saved));
+        publish("TASK_UPDATED",
+                new TaskUpdatedPayload(saved.getId(), changed, nowIso(), saved),
+                extractProjectId(saved));
+        dashboard.markAllDirty(); // eski hal tam bilinmiyor
+        reminders.onTaskChanged(saved);
         return saved;
     }
 
@@ -94,26 +201,78 @@ public class TaskService {
     @Transactional
     public void deleteTask(Long id) {
         Task existingTask = getTaskById(id);
+        DashboardService.TaskFacts facts = DashboardService.TaskFacts.of(existingTask);
 
-        writeAudit(existingTask.getId(), AuditAction.DELETE, null, Map.of(
-                "fromStatusId", existingTask.getStatus() != null ? existingTask.getStatus().getId() : null
-        ));
+        // epicId: silinen task'ın flow/burndown serisindeki yeri (task satırı artık yok)
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("fromStatusId", existingTask.getStatus() != null ? existingTask.getStatus().getId() : null);
+        metadata.put("epicId", existingTask.getEpic() != null ? existingTask.getEpic().getId() : null);
+        writeAudit(existingTask.getId(), existingTask.getVersion(), AuditAction.DELETE, null, metadata);
 
         taskRepository.delete(existingTask);
 
         publish("TASK_DELETED", new TaskDeletedPayload(existingTask.getId(), nowIso()), extractProjectId(existingTask));
+        dashboard.onChange(facts, null);
+        reminders.onTasksRemoved(List.of(existingTask.getId()));
+        dependencies.invalidate(extractProjectId(existingTask)); // kenarlar FK ile silindi
     }
 
     /** STATUS CHANGE (drag&drop) */
     @Transactional
     public Task changeStatus(Long taskId, Long statusId, Integer version) {
+        return statusFastPath
+                ? fastStatusTimer.record(() -> changeStatusConditional(taskId, statusId, version))
+                : loadedStatusTimer.record(() -> changeStatusLoaded(taskId, statusId, version));
+    }
+
+    /** Fast path: tek UPDATE ... WHERE version = ? RETURNING; 0 satırda sebep ayrıca bulunur */
+    private Task changeStatusConditional(Long taskId, Long statusId, Integer version) {
+        List<TaskRepository.StatusMoveRow> rows = taskRepository.moveStatusIfVersion(taskId, statusId, version);
+
+        if (rows.isEmpty()) {
+            // cold path: yok mu, version mı tutmadı, yoksa zaten o status'ta mı?
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
+            Integer current = task.getVersion();
+            mergeResolver.requireMergeable(taskId, version, current, STATUS_FIELD);
+
+            Long currentStatusId = task.getStatus() != null ? task.getStatus().getId() : null;
+            if (Objects.equals(currentStatusId, statusId)) {
+                return task; // no-op
+            }
+            // status araya girmemiş: mevcut version üzerinden tekrar dene
+            em.detach(task); // UPDATE sonrası reload bayat instance'ı dönmesin
+            rows = taskRepository.moveStatusIfVersion(taskId, statusId, current);
+            if (rows.isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Task was updated by another user");
+            }
+        }
+
+        TaskRepository.StatusMoveRow row = rows.get(0);
+        Long fromStatusId = row.getFromStatusId();
+        Long toStatusId   = row.getToStatusId();
+        Task saved = reload(row.getId());
+
+        // Audit (MOVE + field diff)
+        writeAudit(saved.getId(), saved.getVersion(), AuditAction.MOVE,
+                List.of(new AuditEvent.ChangedField("statusId", fromStatusId, toStatusId)),
+                moveMetadata(fromStatusId, toStatusId, saved));
+
+        publish("TASK_STATUS_CHANGED",
+                new TaskStatusChangedPayload(saved.getId(), fromStatusId, toStatusId, nowIso(), saved),
+                row.getProjectId());
+        onStatusChanged(saved, fromStatusId, toStatusId);
+
+        return saved;
+    }
+
+    /** Önceki yol: load + Java'da version kontrolü + saveAndFlush */
+    private Task changeStatusLoaded(Long taskId, Long statusId, Integer version) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
 
-        // Optimistic locking
-        if (!Objects.equals(task.getVersion(), version)) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Task was updated by another user");
-        }
+        // Optimistic locking (status araya girmediyse merge)
+        mergeResolver.requireMergeable(taskId, version, task.getVersion(), STATUS_FIELD);
 
         Long fromStatusId = task.getStatus() != null ? task.getStatus().getId() : null;
         Long toStatusId   = statusId;
@@ -130,9 +289,9 @@ public class TaskService {
         Task saved = taskRepository.saveAndFlush(task);
 
         // Audit (MOVE + field diff)
-        writeAudit(saved.getId(), AuditAction.MOVE,
+        writeAudit(saved.getId(), saved.getVersion(), AuditAction.MOVE,
                 List.of(new AuditEvent.ChangedField("statusId", fromStatusId, toStatusId)),
-                Map.of("fromStatusId", fromStatusId, "toStatusId", toStatusId));
+                moveMetadata(fromStatusId, toStatusId, saved));
 
         // WS: standart payload
         TaskStatusChangedPayload payload = new TaskStatusChangedPayload(
@@ -143,11 +302,50 @@ public class TaskService {
                 saved // snapshot
         );
         publish("TASK_STATUS_CHANGED", payload, extractProjectId(saved));
+        onStatusChanged(saved, fromStatusId, toStatusId);
 
         return saved;
     }
 
-    // TaskService.java
+    /** BOARD MOVE: status + kolon içi sıra, tek satırlık koşullu UPDATE */
+    @Transactional
+    public Task moveTask(Long taskId, Long statusId, Long prevId, Long nextId, Integer version) {
+        String rank = rankService.rankBetween(taskId, statusId, prevId, nextId);
+        List<TaskRepository.RankMoveRow> rows = taskRepository.moveIfVersion(taskId, statusId, rank, version);
+
+        if (rows.isEmpty()) {
+            // yok mu, yoksa version mı tutmadı? status/sıra araya girmediyse mevcut version ile tekrar dene
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
+            em.detach(task);
+            mergeResolver.requireMergeable(taskId, version, task.getVersion(), MOVE_FIELDS);
+            rows = taskRepository.moveIfVersion(taskId, statusId, rank, task.getVersion());
+            if (rows.isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Task was updated by another user");
+            }
+        }
+
+        TaskRepository.RankMoveRow row = rows.get(0);
+        Long fromStatusId = row.getFromStatusId();
+        Long toStatusId   = row.getToStatusId();
+        Task saved = reload(row.getId());
+
+        List<AuditEvent.ChangedField> changed = new ArrayList<>(2);
+        if (!Objects.equals(fromStatusId, toStatusId)) {
+            changed.add(new AuditEvent.ChangedField(TaskChangeDetector.STATUS_ID, fromStatusId, toStatusId));
+        }
+        changed.add(new AuditEvent.ChangedField(TaskChangeDetector.BOARD_RANK, row.getFromRank(), row.getBoardRank()));
+        writeAudit(saved.getId(), saved.getVersion(), AuditAction.MOVE, changed, moveMetadata(fromStatusId, toStatusId, saved));
+
+        publish("TASK_STATUS_CHANGED",
+                new TaskStatusChangedPayload(saved.getId(), fromStatusId, toStatusId, nowIso(), saved),
+                row.getProjectId());
+        onStatusChanged(saved, fromStatusId, toStatusId);
+
+        rankService.afterMove(row.getProjectId(), toStatusId, row.getBoardRank());
+        return saved;
+    }
+
 
     @Transactional
     public Task replaceAssignees(Task task, List<User> users, Integer version /*ignored*/) {
@@ -157,12 +355,19 @@ public class TaskService {
                 .orElseThrow(() -> new EntityNotFoundException("Task not found"));
 
         managed.setAssignedUsers(users);
+        TaskChangeDetector.TaskChanges changes = changeDetector.detect(managed);
 
         Task saved = taskRepository.saveAndFlush(managed);
+        if (!changes.isEmpty()) {
+            DashboardService.TaskFacts after = DashboardService.TaskFacts.of(saved);
+            dashboard.onChange(after.before(changes), after);
+        }
 
-        // Audit – kaç kişi atandı bilgisi kalsın
-        writeAudit(saved.getId(), AuditEvent.AuditAction.ASSIGN, null,
-                Map.of("assigneeCount", users != null ? users.size() : 0));
+        // Audit – kaç kişi atandı + eklenen/çıkarılan id'ler
+        Map<String, Object> metadata = new HashMap<>(changes.metadata());
+        metadata.put("assigneeCount", users != null ? users.size() : 0);
+        writeAudit(saved.getId(), saved.getVersion(), AuditEvent.AuditAction.ASSIGN,
+                changes.fields(), metadata);
 
         // WS – board/gantt güncelle
         publish("TASK_ASSIGNEES_UPDATED",
@@ -177,27 +382,49 @@ public class TaskService {
         Task t = taskRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found: " + id));
 
-        LocalDate beforeStart = t.getStartDate();
-        LocalDate beforeDue   = t.getDueDate();
-
         t.setStartDate(startDate);
         t.setDueDate(dueDate);
+        TaskChangeDetector.TaskChanges changes = changeDetector.detect(t);
 
         Task saved = taskRepository.saveAndFlush(t);
+        if (changes.isEmpty()) {
+            return saved; // no-op
+        }
 
-        writeAudit(saved.getId(), AuditAction.UPDATE,
-                List.of(
-                        new AuditEvent.ChangedField("startDate", beforeStart, startDate),
-                        new AuditEvent.ChangedField("dueDate",   beforeDue,   dueDate)
-                ),
-                Map.of());
+        writeAudit(saved.getId(), saved.getVersion(), AuditAction.UPDATE, changes.fields(), Map.of());
 
         publish("TASK_DATES_UPDATED", new TaskDatesUpdatedPayload(saved.getId(), nowIso(), saved), extractProjectId(saved));
+        DashboardService.TaskFacts after = DashboardService.TaskFacts.of(saved);
+        dashboard.onChange(after.before(changes), after);
+        reminders.onTaskChanged(saved);
+        dependencies.onDatesChanged(saved); // aşağı akış kayarsa tek TASKS_SHIFTED
         return saved;
     }
 
     /* ---------------- Internals ---------------- */
+
+    /**
+     * Status'suz task da taşınabilir: Map.of null kabul etmez. epicId: flow serisi taşımayı o anki
+     * epic'e yazar (task sonradan başka epic'e geçse de).
+     */
+    private static Map<String, Object> moveMetadata(Long fromStatusId, Long toStatusId, Task saved) {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("fromStatusId", fromStatusId);
+        metadata.put("toStatusId", toStatusId);
+        metadata.put("epicId", saved.getEpic() != null ? saved.getEpic().getId() : null);
+        return metadata;
+    }
+
+    /** Epic değişimi: flow serisi task'ı güncel status'üyle eski epic'ten yenisine taşır */
+    private static Map<String, Object> withFlowState(Map<String, Object> metadata, Task saved) {
+        Map<String, Object> out = new HashMap<>(metadata);
+        out.put("statusId", saved.getStatus() != null ? saved.getStatus().getId() : null);
+        out.put("epicId", saved.getEpic() != null ? saved.getEpic().getId() : null);
+        return out;
+    }
+
     private void writeAudit(Long taskId,
+                            Integer entityVersion,
                             AuditAction action,
                             List<AuditEvent.ChangedField> changed,
                             Map<String, Object> metadata) {
@@ -206,6 +433,7 @@ public class TaskService {
         AuditEvent ev = AuditEvent.builder()
                 .entityType("TASK")
                 .entityId(taskId)
+                .entityVersion(entityVersion)
                 .action(action)
                 .changedFields(changed)
                 .metadata(metadata == null || metadata.isEmpty() ? null : metadata)
@@ -220,29 +448,29 @@ public class TaskService {
         auditRepository.save(ev);
     }
 
-    /** Task -> Project id (epic üzerinden) */
+    /**
+     * Koşullu UPDATE sonrası response/WS snapshot'ı: status/priority/epic/assignee'ler tek sorguda
+     * (TASK_STATUS_CHANGED snapshot'ı load yolundakiyle aynı kalsın).
+     */
+    private Task reload(Long taskId) {
+        return taskRepository.findByIdIn(List.of(taskId)).stream().findFirst()
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Task not found"));
+    }
+
+    /** Dashboard sayaçları (status dışındaki alanlar aynı kaldı) ve due reminder'ları */
+    private void onStatusChanged(Task saved, Long fromStatusId, Long toStatusId) {
+        if (Objects.equals(fromStatusId, toStatusId)) return;
+        DashboardService.TaskFacts after = DashboardService.TaskFacts.of(saved);
+        dashboard.onChange(after.withStatus(fromStatusId), after);
+        reminders.onTaskChanged(saved); // done'a geçti -> iptal, geri açıldı -> yeniden kur
+    }
+
     private static Long extractProjectId(Task t) {
-        if (t == null) return null;
-        try {
-            if (t.getEpic() != null && t.getEpic().getProject() != null) {
-                return t.getEpic().getProject().getId();
-            }
-        } catch (Exception ignored) {}
-        return null;
+        return TaskEventPublisher.projectIdOf(t);
     }
 
-    /** Aynı anda global ve proje-bazlı topic'lere yayınla */
     private void publish(String type, Object payload, Long projectId) {
-        TaskEvent evt = new TaskEvent(type, payload);
-        // Global kanallar (tüm board/gantt dinleyicileri alır)
-        broker.convertAndSend("/topic/tasks", evt);
-        broker.convertAndSend("/topic/gantt", evt);
-
-        // Proje bazlı kanallar
-        if (projectId != null) {
-            broker.convertAndSend("/topic/board." + projectId, evt);
-            broker.convertAndSend("/topic/gantt." + projectId, evt);
-        }
+        events.publish(type, payload, projectId);
     }
 
     private static String nowIso() {
@@ -259,6 +487,14 @@ public class TaskService {
             Object snapshot
     ) {}
 
+    /** Delta event: sadece değişen alanlar (field/oldValue/newValue) + snapshot */
+    public record TaskUpdatedPayload(
+            Long taskId,
+            List<AuditEvent.ChangedField> changes,
+            String at,
+            Object snapshot
+    ) {}
+
     public record TaskAssigneesUpdatedPayload(
             Long taskId,
             String at,
@@ -6,6 +6,8 @@ import com.taskfoo.taskfoo_backend.mapper.UserMapper;
 import com.taskfoo.taskfoo_backend.model.Role;
 import com.taskfoo.taskfoo_backend.model.User;
 import com.taskfoo.taskfoo_backend.repository.UserRepository;
+import com.taskfoo.taskfoo_backend.security.PrincipalCache;
+import com.taskfoo.taskfoo_backend.security.TokenRevocationRegistry;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,7 +16,19 @@ import java.util.Set;
 @Service
 public class UserService {
     private final UserRepository userRepository;
-    public UserService(UserRepository userRepository) { this.userRepository = userRepository; }
+    private final PrincipalCache principalCache;
+    private final TokenRevocationRegistry revocations;
+    private final RefreshTokenService refreshTokens;
+
+    public UserService(UserRepository userRepository,
+                       PrincipalCache principalCache,
+                       TokenRevocationRegistry revocations,
+                       RefreshTokenService refreshTokens) {
+        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.revocations = revocations;
+        this.refreshTokens = refreshTokens;
+    }
 
     public List<UserBriefDto> getAllUsers() {
         return UserMapper.toBriefList(userRepository.findAll());
@@ -22,11 +36,15 @@ public class UserService {
 
     public UserBriefDto createUser(User user) {
         User saved = userRepository.save(user);
+        revocations.userChanged(saved.getId(), saved.getTokenVersion());
         return UserMapper.toBrief(saved);
     }
 
     public void deleteUser(Long id) {
         userRepository.deleteById(id);
+        principalCache.invalidateUser(id);
+        revocations.userRemoved(id);
+        refreshTokens.revokeAllForUser(id);
     }
 
 
@@ -34,7 +52,10 @@ public class UserService {
         User u = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
         u.setRoles(roles); // JPA ElementCollection 'user_roles' tablosunu update eder
+        u.setTokenVersion(u.getTokenVersion() + 1); // eski rolleri taşıyan token'lar geçersiz
         User saved = userRepository.save(u);
+        principalCache.invalidateUser(userId);
+        revocations.userChanged(userId, saved.getTokenVersion());
         return UserMapper.toBrief(saved);
     }
 }
\ No newline at end of file
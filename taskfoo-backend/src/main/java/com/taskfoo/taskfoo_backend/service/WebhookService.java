@@ -0,0 +1,87 @@
+// src/main/java/com/taskfoo/taskfoo_backend/service/WebhookService.java
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.dto.request.webhook.CreateWebhookRequest;
+import com.taskfoo.taskfoo_backend.dto.response.webhook.WebhookDto;
+import com.taskfoo.taskfoo_backend.model.WebhookEndpoint;
+import com.taskfoo.taskfoo_backend.repository.OutboxEventRepository;
+import com.taskfoo.taskfoo_backend.repository.WebhookEndpointRepository;
+import com.taskfoo.taskfoo_backend.support.WebhookTargetPolicy;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.net.URI;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/** Webhook kayıtları; yeni endpoint kayıt anından sonraki event'leri alır (geçmiş replay edilmez) */
+@Service
+public class WebhookService {
+
+    private final WebhookEndpointRepository endpoints;
+    private final OutboxEventRepository outbox;
+    private final WebhookTargetPolicy targets;
+
+    public WebhookService(WebhookEndpointRepository endpoints, OutboxEventRepository outbox, WebhookTargetPolicy targets) {
+        this.endpoints = endpoints;
+        this.outbox = outbox;
+        this.targets = targets;
+    }
+
+    public List<WebhookDto> getAll() {
+        return endpoints.findAll().stream().map(WebhookService::toDto).toList();
+    }
+
+    @Transactional
+    public WebhookDto create(CreateWebhookRequest req) {
+        URI uri;
+        try {
+            uri = URI.create(req.url().trim());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid webhook url");
+        }
+        try {
+            targets.check(uri);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        WebhookEndpoint w = new WebhookEndpoint();
+        w.setUrl(uri.toString());
+        w.setSecret(req.secret() == null || req.secret().isBlank() ? null : req.secret());
+        List<String> types = req.eventTypes() == null ? List.of()
+                : req.eventTypes().stream().map(String::trim).filter(t -> !t.isEmpty()).distinct().toList();
+        w.setEventTypes(types.isEmpty() ? null : String.join(",", types));
+        w.setProjectId(req.projectId());
+        w.setLastTxid(outbox.findHorizon());
+        w.setLastEventId(Long.MAX_VALUE);
+        w.setNextAttemptAt(OffsetDateTime.now());
+        return toDto(endpoints.save(w));
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        if (!endpoints.existsById(id)) throw new EntityNotFoundException("Webhook not found: " + id);
+        endpoints.deleteById(id);
+    }
+
+    private static WebhookDto toDto(WebhookEndpoint w) {
+        return new WebhookDto(
+                w.getId(),
+                w.getUrl(),
+                w.getSecret() != null,
+                w.getEventTypes() == null ? List.of() : Arrays.asList(w.getEventTypes().split(",")),
+                w.getProjectId(),
+                w.isActive(),
+                w.getFailures(),
+                w.getLastError(),
+                w.getNextAttemptAt(),
+                w.getLastDeliveredAt(),
+                w.getCreatedAt()
+        );
+    }
+}
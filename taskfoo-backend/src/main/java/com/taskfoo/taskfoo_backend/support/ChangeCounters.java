@@ -0,0 +1,99 @@
+// src/main/java/com/taskfoo/taskfoo_backend/support/ChangeCounters.java
+package com.taskfoo.taskfoo_backend.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tablo başına bellek içi değişiklik sayacı (conditional GET validator'ları için).
+ * Hibernate'in hazırladığı her INSERT/UPDATE/DELETE (native dahil) StatementInspector olarak
+ * görülür; yazılan tablolar transaction bitince (commit ya da rollback) artırılır. Önce sayaç
+ * okunup sonra veri okunduğu sürece eski veri yeni ETag ile cache'lenmez.
+ * Hibernate dışı yazmalar (JdbcTemplate) {@link #touch} çağırır. Sayaçlar tek instance'a özeldir;
+ * ETag'deki epoch restart sonrası eski ETag'lerin eşleşmesini önler.
+ */
+@Component
+public class ChangeCounters implements StatementInspector {
+
+    private static final Pattern WRITE_TARGET = Pattern.compile(
+            "\\b(?:insert\\s+into|update|delete\\s+from)\\s+\"?(?:\\w+\\.)?\"?(\\w+)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Set<String> NOT_TABLES = Set.of("set", "of", "nowait");
+    private static final Object TX_KEY = new Object();
+
+    /* Read endpoint'lerinin bağlı olduğu tablolar (response'a gömülü isimler dahil) */
+    public static final String[] TASKS = {"tasks", "task_user", "tasks_archive", "statuses", "priorities", "epics", "users"};
+    public static final String[] PROJECTS = {"projects"};
+    public static final String[] EPICS = {"epics", "projects"};
+    public static final String[] STATUSES = {"statuses"};
+    public static final String[] PRIORITIES = {"priorities"};
+    public static final String[] USERS = {"users", "user_roles"};
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ConcurrentHashMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    /** Strong ETag: verilen tabloların sayaçlarından (tırnaklı) */
+    public String etag(String... tables) {
+        StringBuilder sb = new StringBuilder("\"").append(epoch);
+        for (String t : tables) sb.append('.').append(version(t));
+        return sb.append('"').toString();
+    }
+
+    public long version(String table) {
+        AtomicLong c = counters.get(table);
+        return c == null ? 0 : c.get();
+    }
+
+    /** Transaction varsa bitince, yoksa hemen artırır */
+    public void touch(String table) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(table);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(TX_KEY);
+        if (pending == null) {
+            Set<String> tables = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(TX_KEY, tables);
+            TransactionHooks.afterCompletion(() -> {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TX_KEY);
+                tables.forEach(this::bump);
+            });
+            pending = tables;
+        }
+        pending.add(table);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (isRead(sql)) return sql;
+        Matcher m = WRITE_TARGET.matcher(sql);
+        while (m.find()) {
+            String table = m.group(1).toLowerCase(Locale.ROOT);
+            if (!NOT_TABLES.contains(table)) touch(table);
+        }
+        return sql;
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    private void bump(String table) {
+        counters.computeIfAbsent(table, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    /** SELECT (FOR UPDATE dahil) hızlı yol; WITH ... INSERT gibi CTE'ler taranır */
+    private static boolean isRead(String sql) {
+        int i = 0;
+        while (i < sql.length() && (Character.isWhitespace(sql.charAt(i)) || sql.charAt(i) == '(')) i++;
+        return sql.regionMatches(true, i, "select", 0, 6);
+    }
+}
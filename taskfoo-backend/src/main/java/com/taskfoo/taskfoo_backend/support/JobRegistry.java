@@ -0,0 +1,138 @@
+// src/main/java/com/taskfoo/taskfoo_backend/support/JobRegistry.java
+package com.taskfoo.taskfoo_backend.support;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Uzun süren arka plan işleri (cascade delete, import ...): sınırlı executor + in-memory durum.
+ * İlerleme /api/jobs/{id} üzerinden okunur; biten job'lar retention süresi sonra temizlenir.
+ */
+@Component
+public class JobRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(JobRegistry.class);
+
+    public enum State { QUEUED, RUNNING, SUCCEEDED, FAILED }
+
+    private final ThreadPoolExecutor executor;
+    private final long retentionMillis;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public JobRegistry(@Value("${app.jobs.threads:2}") int threads,
+                       @Value("${app.jobs.queue-capacity:100}") int queueCapacity,
+                       @Value("${app.jobs.retention-minutes:60}") long retentionMinutes) {
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "job-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retentionMillis = TimeUnit.MINUTES.toMillis(retentionMinutes);
+    }
+
+    /** İşi kuyruğa alır; kuyruk doluysa 503 + Retry-After */
+    public Job submit(String type, Consumer<Job> work) {
+        purgeFinished();
+        Job job = new Job(UUID.randomUUID().toString(), type);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job, work));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw new RetryAfterException(HttpStatus.SERVICE_UNAVAILABLE, "Too many background jobs", 5);
+        }
+        return job;
+    }
+
+    public Job get(String id) {
+        return jobs.get(id);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    private static void run(Job job, Consumer<Job> work) {
+        job.state = State.RUNNING;
+        job.startedAt = OffsetDateTime.now();
+        try {
+            work.accept(job);
+            job.state = State.SUCCEEDED;
+        } catch (Exception e) {
+            log.warn("Job {} ({}) failed", job.id, job.type, e);
+            job.message = e.getMessage();
+            job.state = State.FAILED;
+        } finally {
+            job.finishedAt = OffsetDateTime.now();
+            job.finishedAtMillis = System.currentTimeMillis();
+        }
+    }
+
+    private void purgeFinished() {
+        long cutoff = System.currentTimeMillis() - retentionMillis;
+        jobs.values().removeIf(j -> j.finishedAtMillis != 0 && j.finishedAtMillis < cutoff);
+    }
+
+    /** Job handle: iş kodu ilerlemeyi buradan raporlar */
+    public static final class Job {
+        private final String id;
+        private final String type;
+        private final OffsetDateTime createdAt = OffsetDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private volatile State state = State.QUEUED;
+        private volatile long total = -1;
+        private volatile String message;
+        private volatile Object result;
+        private volatile OffsetDateTime startedAt;
+        private volatile OffsetDateTime finishedAt;
+        private volatile long finishedAtMillis;
+
+        private Job(String id, String type) {
+            this.id = id;
+            this.type = type;
+        }
+
+        public String id() { return id; }
+        public void total(long total) { this.total = total; }
+        public void progress(long delta) { processed.addAndGet(delta); }
+        public void message(String message) { this.message = message; }
+        public void result(Object result) { this.result = result; }
+
+        public JobStatus status() {
+            return new JobStatus(id, type, state, total, processed.get(), message, result,
+                    createdAt, startedAt, finishedAt);
+        }
+    }
+
+    public record JobStatus(
+            String id,
+            String type,
+            State state,
+            long total,           // -1: bilinmiyor
+            long processed,
+            String message,
+            Object result,
+            OffsetDateTime createdAt,
+            OffsetDateTime startedAt,
+            OffsetDateTime finishedAt
+    ) {}
+}
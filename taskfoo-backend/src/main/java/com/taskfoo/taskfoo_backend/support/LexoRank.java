@@ -0,0 +1,130 @@
+// src/main/java/com/taskfoo/taskfoo_backend/support/LexoRank.java
+package com.taskfoo.taskfoo_backend.support;
+
+/**
+ * Sıralama anahtarları (LexoRank/fractional index): base-36 rakamlardan oluşan, (0,1) aralığında
+ * bir kesrin basamakları gibi okunan string'ler. İki anahtarın arasına her zaman yeni bir anahtar
+ * üretilebilir; bir task'ı taşımak sadece o satırın rank'ını değiştirir.
+ * Anahtarlar '0' ile bitmez, böylece byte-wise (COLLATE "C") string sırası = sayısal sıra.
+ */
+public final class LexoRank {
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private LexoRank() {}
+
+    /** a < sonuç < b; a null -> baş, b null -> son */
+    public static String between(String a, String b) {
+        String lo = a == null ? "" : a;
+        if (b != null && lo.compareTo(b) >= 0) {
+            throw new IllegalArgumentException("Rank order violated: " + a + " >= " + b);
+        }
+        validate(lo);
+        if (b == null) return increment(lo);
+        validate(b);
+        return midpoint(lo, b);
+    }
+
+    public static String after(String a) {
+        return between(a, null);
+    }
+
+    public static String before(String b) {
+        return between(null, b);
+    }
+
+    /** Rebalance: n adet eşit aralıklı, kısa anahtar (artan sırada) */
+    public static String[] spread(int n) {
+        int width = 2;
+        long space = (long) BASE * BASE;
+        while (space < 16L * (n + 1)) {
+            width++;
+            space *= BASE;
+        }
+        String[] out = new String[n];
+        for (int i = 0; i < n; i++) {
+            long v = (i + 1) * space / (n + 1);
+            out[i] = stripTrailingZeros(format(v, width));
+        }
+        return out;
+    }
+
+    /**
+     * Toplu ekleme: a'dan sonra n adet artan anahtar. after() zinciri her adımda uzardı;
+     * bunun yerine after(a) prefix'i altına spread(n) konur (hepsi after(a)'dan büyük, kısa).
+     */
+    public static String[] spreadAfter(String a, int n) {
+        String prefix = after(a);
+        String[] out = spread(n);
+        for (int i = 0; i < n; i++) out[i] = prefix + out[i];
+        return out;
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    /**
+     * a'dan büyük en kısa komşu: ilk 'z' olmayan rakam bir artırılır, gerisi atılır.
+     * Aralığın ortasını almak her ~5 eklemede bir karakter uzatırdı; böylece kolon sonuna
+     * art arda eklemede bir karakter ~35 eklemeye yeter.
+     */
+    private static String increment(String a) {
+        if (a.isEmpty()) return String.valueOf(DIGITS.charAt(BASE / 2)); // boş kolon: iki yanda yer kalsın
+        for (int i = 0; i < a.length(); i++) {
+            int d = DIGITS.indexOf(a.charAt(i));
+            if (d < BASE - 1) return a.substring(0, i) + DIGITS.charAt(d + 1);
+        }
+        return a + DIGITS.charAt(1);
+    }
+
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            // ortak prefix (a kısa ise '0' ile doldurulmuş gibi)
+            int n = 0;
+            while (n < b.length() && charAt(a, n) == b.charAt(n)) n++;
+            if (n > 0) {
+                return b.substring(0, n) + midpoint(a.length() > n ? a.substring(n) : "", b.substring(n));
+            }
+        }
+        int da = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int db = b == null ? BASE : DIGITS.indexOf(b.charAt(0));
+        if (db - da > 1) {
+            return String.valueOf(DIGITS.charAt((da + db) / 2));
+        }
+        // ardışık rakamlar: b'nin ilk rakamı tek başına yeterliyse onu al, değilse a'yı uzat
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(da) + midpoint(a.length() > 1 ? a.substring(1) : "", null);
+    }
+
+    private static char charAt(String s, int i) {
+        return i < s.length() ? s.charAt(i) : '0';
+    }
+
+    private static void validate(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Invalid rank: " + key);
+            }
+        }
+        if (!key.isEmpty() && key.charAt(key.length() - 1) == '0') {
+            throw new IllegalArgumentException("Invalid rank (trailing zero): " + key);
+        }
+    }
+
+    private static String format(long v, int width) {
+        char[] buf = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            buf[i] = DIGITS.charAt((int) (v % BASE));
+            v /= BASE;
+        }
+        return new String(buf);
+    }
+
+    private static String stripTrailingZeros(String s) {
+        int end = s.length();
+        while (end > 1 && s.charAt(end - 1) == '0') end--;
+        return s.substring(0, end);
+    }
+}
@@ -0,0 +1,72 @@
+// src/main/java/com/taskfoo/taskfoo_backend/support/QuantileSketch.java
+package com.taskfoo.taskfoo_backend.support;
+
+/**
+ * Sabit bellekli, birleştirilebilir quantile sketch (DDSketch benzeri log-bucket histogram).
+ * Pozitif değerler gamma^(i-1) < v <= gamma^i bucket'ına düşer; quantile tahmini %1 göreli hata
+ * içindedir. 1024 bucket ~25 yıla kadar saniye değerlerini kapsar (üstü son bucket'a kırpılır).
+ */
+public final class QuantileSketch {
+
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final int BUCKETS = 1024;
+
+    private final long[] counts = new long[BUCKETS];
+    /** <= 1 değerler (ör. aynı saniyede tamamlanan) */
+    private long zeroCount;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public synchronized void add(double value) {
+        if (value <= 1) {
+            zeroCount++;
+        } else {
+            counts[Math.min(BUCKETS - 1, (int) Math.ceil(Math.log(value) / LOG_GAMMA))]++;
+        }
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public synchronized void merge(QuantileSketch other) {
+        QuantileSketch o = other.copy();
+        for (int i = 0; i < BUCKETS; i++) counts[i] += o.counts[i];
+        zeroCount += o.zeroCount;
+        count += o.count;
+        min = Math.min(min, o.min);
+        max = Math.max(max, o.max);
+    }
+
+    public synchronized long count() {
+        return count;
+    }
+
+    /** q in [0,1]; boşsa NaN */
+    public synchronized double quantile(double q) {
+        if (count == 0) return Double.NaN;
+        long rank = (long) Math.floor(q * (count - 1));
+        if (rank < zeroCount) return Math.max(min, 0);
+        long seen = zeroCount;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen > rank) {
+                double estimate = 2 * Math.pow(GAMMA, i) / (GAMMA + 1); // bucket'ın göreli orta noktası
+                return Math.max(min, Math.min(max, estimate));
+            }
+        }
+        return max;
+    }
+
+    private synchronized QuantileSketch copy() {
+        QuantileSketch c = new QuantileSketch();
+        System.arraycopy(counts, 0, c.counts, 0, BUCKETS);
+        c.zeroCount = zeroCount;
+        c.count = count;
+        c.min = min;
+        c.max = max;
+        return c;
+    }
+}
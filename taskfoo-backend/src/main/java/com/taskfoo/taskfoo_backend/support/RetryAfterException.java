@@ -0,0 +1,22 @@
+// src/main/java/com/taskfoo/taskfoo_backend/support/RetryAfterException.java
+package com.taskfoo.taskfoo_backend.support;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/** 429/503 gibi geçici reddetmeler: Retry-After header'ı ile birlikte döner */
+public class RetryAfterException extends ResponseStatusException {
+
+    private final HttpHeaders headers = new HttpHeaders();
+
+    public RetryAfterException(HttpStatus status, String reason, long retryAfterSeconds) {
+        super(status, reason);
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+}
@@ -0,0 +1,234 @@
+// src/main/java/com/taskfoo/taskfoo_backend/support/SingleFlightFilter.java
+package com.taskfoo.taskfoo_backend.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Aynı anda gelen özdeş GET'leri tek hesaplamada birleştirir (single-flight). Anahtar: path +
+ * sıralı query parametreleri + yetki kapsamı (rol seti). İlk istek (leader) zinciri koşar ve
+ * response'u byte olarak yakalar; bekleyenler aynı byte'ları yazar. Leader'ın conditional
+ * header'ları gizlenir (her zaman tam 200 + ETag üretir), her bekleyen kendi If-None-Match'ine
+ * göre 304 ya da gövde alır. Sadece {@code app.coalesce.paths}'teki (tam eşleşme) endpoint'ler;
+ * 200 dışı sonuçlar paylaşılmaz. {@code micro-cache-ms} > 0 ise biten sonuç o kadar süre daha
+ * yeniden kullanılır (bayatlık penceresi; varsayılan kapalı).
+ * Security zincirinden sonra çalışır: her istek kendi yetki kontrolünden geçer.
+ */
+@Component
+public class SingleFlightFilter extends OncePerRequestFilter {
+
+    private static final Set<String> CONDITIONAL_HEADERS = Set.of(
+            HttpHeaders.IF_NONE_MATCH.toLowerCase(Locale.ROOT),
+            HttpHeaders.IF_MODIFIED_SINCE.toLowerCase(Locale.ROOT));
+
+    private final Set<String> paths;
+    private final long microCacheMs;
+    private final long waitMs;
+    private final int maxBodyBytes;
+
+    private final ConcurrentHashMap<String, Flight> flights = new ConcurrentHashMap<>();
+
+    private final Counter leaders;
+    private final Counter shared;
+    private final Counter cached;
+    private final Counter fallbacks;
+
+    public SingleFlightFilter(@Value("${app.coalesce.paths:}") List<String> paths,
+                              @Value("${app.coalesce.micro-cache-ms:0}") long microCacheMs,
+                              @Value("${app.coalesce.wait-ms:5000}") long waitMs,
+                              @Value("${app.coalesce.max-body-bytes:16777216}") int maxBodyBytes,
+                              MeterRegistry meters) {
+        this.paths = new HashSet<>(paths);
+        this.microCacheMs = microCacheMs;
+        this.waitMs = waitMs;
+        this.maxBodyBytes = maxBodyBytes;
+        // coalescing oranı = (shared + cached) / (leader + shared + cached + fallback)
+        this.leaders = Counter.builder("http.coalesce.requests").tag("result", "leader").register(meters);
+        this.shared = Counter.builder("http.coalesce.requests").tag("result", "shared").register(meters);
+        this.cached = Counter.builder("http.coalesce.requests").tag("result", "cached").register(meters);
+        this.fallbacks = Counter.builder("http.coalesce.requests").tag("result", "fallback").register(meters);
+        Gauge.builder("http.coalesce.inflight", flights, Map::size).register(meters);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest req) {
+        return !"GET".equals(req.getMethod()) || !paths.contains(req.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        String key = keyOf(req);
+        long now = System.currentTimeMillis();
+
+        Flight mine = new Flight();
+        Flight flight = flights.compute(key, (k, f) -> f == null || f.expired(now) ? mine : f);
+
+        if (flight != mine) {
+            boolean fromCache = flight.done;
+            Captured c = await(flight);
+            if (c != null) {
+                (fromCache ? cached : shared).increment();
+                write(c, req, res);
+                return;
+            }
+            fallbacks.increment(); // leader başarısız / zaman aşımı: kendin çalıştır
+            chain.doFilter(req, res);
+            return;
+        }
+
+        leaders.increment();
+        Captured result = null;
+        try {
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(res);
+            chain.doFilter(new UnconditionalRequest(req), wrapper);
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK && wrapper.getContentSize() <= maxBodyBytes) {
+                result = new Captured(wrapper.getContentType(),
+                        wrapper.getHeader(HttpHeaders.ETAG),
+                        wrapper.getHeader(HttpHeaders.CACHE_CONTROL),
+                        wrapper.getContentAsByteArray());
+            }
+            // leader'ın kendi If-None-Match'i (gizlenmişti)
+            if (result != null && result.matches(req.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+                wrapper.resetBuffer();
+                wrapper.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            }
+            wrapper.copyBodyToResponse();
+        } finally {
+            boolean keep = result != null && microCacheMs > 0;
+            if (keep) mine.expiresAt = System.currentTimeMillis() + microCacheMs;
+            mine.complete(result);
+            if (!keep) flights.remove(key, mine);
+            // micro-cache: süresi dolan girdiler birikmesin (aynı anahtar zaten üzerine yazılır)
+            if (microCacheMs > 0 && flights.size() > 1024) {
+                long t = System.currentTimeMillis();
+                flights.entrySet().removeIf(e -> e.getValue().expired(t));
+            }
+        }
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    private Captured await(Flight flight) {
+        try {
+            return flight.result.get(waitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    private static void write(Captured c, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        if (c.etag() != null) res.setHeader(HttpHeaders.ETAG, c.etag());
+        if (c.cacheControl() != null) res.setHeader(HttpHeaders.CACHE_CONTROL, c.cacheControl());
+        if (c.matches(req.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            res.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        res.setStatus(HttpServletResponse.SC_OK);
+        if (c.contentType() != null) res.setContentType(c.contentType());
+        res.setContentLength(c.body().length);
+        res.getOutputStream().write(c.body());
+    }
+
+    /** path + sıralı parametreler + rol seti (response'lar kullanıcıya değil yetkiye bağlı) */
+    private static String keyOf(HttpServletRequest req) {
+        StringBuilder sb = new StringBuilder(req.getRequestURI()).append('?');
+        new TreeMap<>(req.getParameterMap()).forEach((name, values) -> {
+            String[] sorted = values.clone();
+            Arrays.sort(sorted);
+            for (String v : sorted) sb.append(name).append('=').append(v).append('&');
+        });
+        sb.append('|');
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated()) {
+            sb.append("anonymous");
+        } else {
+            auth.getAuthorities().stream().map(GrantedAuthority::getAuthority).sorted()
+                    .forEach(a -> sb.append(a).append(','));
+        }
+        return sb.toString();
+    }
+
+    private static final class Flight {
+        final CompletableFuture<Captured> result = new CompletableFuture<>();
+        volatile boolean done;
+        /** micro-cache bitişi; 0 -> hâlâ uçuşta */
+        volatile long expiresAt;
+
+        void complete(Captured c) {
+            done = true;
+            result.complete(c);
+        }
+
+        boolean expired(long now) {
+            return done && now >= expiresAt;
+        }
+    }
+
+    private record Captured(String contentType, String etag, String cacheControl, byte[] body) {
+        boolean matches(String ifNoneMatch) {
+            if (etag == null || ifNoneMatch == null) return false;
+            for (String tag : ifNoneMatch.split(",")) {
+                String t = tag.trim();
+                if (t.startsWith("W/")) t = t.substring(2);
+                if (t.equals("*") || t.equals(etag)) return true;
+            }
+            return false;
+        }
+    }
+
+    /** Leader her zaman tam response üretsin diye conditional header'ları gizler */
+    private static final class UnconditionalRequest extends HttpServletRequestWrapper {
+
+        UnconditionalRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return hidden(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return hidden(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public long getDateHeader(String name) {
+            return hidden(name) ? -1 : super.getDateHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            List<String> names = Collections.list(super.getHeaderNames());
+            names.removeIf(SingleFlightFilter::hidden);
+            return Collections.enumeration(names);
+        }
+    }
+
+    private static boolean hidden(String header) {
+        return header != null && CONDITIONAL_HEADERS.contains(header.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,143 @@
+// src/main/java/com/taskfoo/taskfoo_backend/support/TimingWheel.java
+package com.taskfoo.taskfoo_backend.support;
+
+import java.util.*;
+
+/**
+ * Hiyerarşik timing wheel: her seviye {@code size} slot'tur ve bir slot'u bir alt seviyenin tüm
+ * turu kadardır (tick, tick*size, tick*size^2 ...). Ekleme/iptal O(1); bir tick ilerlemek sadece
+ * o an dolan slot'lara dokunur, üst seviye slot'ları zamanı gelince alt seviyelere dağıtılır.
+ * Bellek O(bekleyen kayıt). Anahtar başına tek kayıt (aynı anahtarla ekleme eskisini değiştirir).
+ * Kayıtlar deadline'dan asla önce değil, en fazla bir tick sonra döner.
+ * Thread-safe değil; çağıran senkronize eder.
+ */
+public final class TimingWheel<K, V> {
+
+    private final long tickMs;
+    private final int size;
+    private final List<Level> levels;
+    private final Map<K, Entry<K, V>> index = new HashMap<>();
+
+    /** @param startMs wheel'in başlangıç zamanı (genelde now) */
+    public TimingWheel(long tickMs, int size, int levelCount, long startMs) {
+        if (tickMs <= 0 || size < 2 || levelCount < 1) throw new IllegalArgumentException("Invalid wheel shape");
+        this.tickMs = tickMs;
+        this.size = size;
+        this.levels = new ArrayList<>(levelCount);
+        long t = tickMs;
+        for (int i = 0; i < levelCount; i++) {
+            levels.add(new Level(t, startMs - startMs % t));
+            t *= size;
+        }
+    }
+
+    /** Zamanı geçmişse eklenmez ve false döner (çağıran hemen işleyebilir) */
+    public boolean schedule(K key, long deadlineMs, V value) {
+        cancel(key);
+        // bir tick kaydır: slot'lar tick başında boşaltılır, kayıt erken dönmesin
+        Entry<K, V> e = new Entry<>(key, deadlineMs + tickMs, value);
+        if (!place(e)) return false;
+        index.put(key, e);
+        return true;
+    }
+
+    public V cancel(K key) {
+        Entry<K, V> e = index.remove(key);
+        if (e == null) return null;
+        e.slot.remove(key);
+        return e.value;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /** nowMs'e kadar ilerler; süresi dolan kayıtları deadline sırasıyla döner */
+    public List<V> advance(long nowMs) {
+        List<Entry<K, V>> fired = new ArrayList<>();
+        Level base = levels.get(0);
+        while (base.currentTime + tickMs <= nowMs) {
+            long next = base.currentTime + tickMs;
+            // önce tüm seviyelerin saati ilerler (yeniden yerleşim güncel saate göre olsun),
+            // sonra üstten alta: zamanı gelen üst slot'lar alt seviyelere dağılır
+            List<Map<K, Entry<K, V>>> due = new ArrayList<>();
+            for (int i = levels.size() - 1; i >= 0; i--) {
+                Level l = levels.get(i);
+                if (next >= l.currentTime + l.tickMs) {
+                    l.currentTime = next - next % l.tickMs;
+                    Map<K, Entry<K, V>> slot = l.slots[l.slotOf(l.currentTime)];
+                    if (slot != null && !slot.isEmpty()) due.add(slot);
+                }
+            }
+            for (Map<K, Entry<K, V>> slot : due) {
+                List<Entry<K, V>> entries = new ArrayList<>(slot.values());
+                slot.clear();
+                for (Entry<K, V> e : entries) {
+                    if (!place(e)) {
+                        index.remove(e.key);
+                        fired.add(e);
+                    }
+                }
+            }
+        }
+        fired.sort(Comparator.comparingLong(e -> e.deadlineMs));
+        return fired.stream().map(e -> e.value).toList();
+    }
+
+    /* ---------------- Internals ---------------- */
+
+    /** false -> süresi dolmuş (mevcut tick içinde) */
+    private boolean place(Entry<K, V> e) {
+        if (e.deadlineMs < levels.get(0).currentTime + tickMs) return false;
+        for (Level l : levels) {
+            if (e.deadlineMs < l.currentTime + l.interval()) {
+                l.put(e, e.deadlineMs);
+                return true;
+            }
+        }
+        // en üst seviyenin menzili dışında: en uzak slot'a koy, zamanı gelince tekrar yerleşir
+        Level top = levels.get(levels.size() - 1);
+        top.put(e, top.currentTime + top.interval() - top.tickMs);
+        return true;
+    }
+
+    private final class Level {
+        final long tickMs;
+        long currentTime;
+        @SuppressWarnings("unchecked")
+        final Map<K, Entry<K, V>>[] slots = new Map[size];
+
+        Level(long tickMs, long currentTime) {
+            this.tickMs = tickMs;
+            this.currentTime = currentTime;
+        }
+
+        long interval() {
+            return tickMs * size;
+        }
+
+        int slotOf(long timeMs) {
+            return (int) ((timeMs / tickMs) % size);
+        }
+
+        void put(Entry<K, V> e, long atMs) {
+            int i = slotOf(atMs);
+            if (slots[i] == null) slots[i] = new HashMap<>();
+            slots[i].put(e.key, e);
+            e.slot = slots[i];
+        }
+    }
+
+    private static final class Entry<K, V> {
+        final K key;
+        final long deadlineMs;
+        final V value;
+        Map<K, Entry<K, V>> slot;
+
+        Entry(K key, long deadlineMs, V value) {
+            this.key = key;
+            this.deadlineMs = deadlineMs;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+// src/main/java/com/taskfoo/taskfoo_backend/support/TransactionHooks.java
+package com.taskfoo.taskfoo_backend.support;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bellekteki yan etkileri (cache, sayaç, scheduler) transaction sonucuna bağlar.
+ * Aktif transaction yoksa iş hemen çalışır.
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {}
+
+    /** Sadece commit olursa (rollback'te yazılmamış veri yayılmasın) */
+    public static void afterCommit(Runnable r) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            r.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() { r.run(); }
+        });
+    }
+
+    /** Commit ya da rollback: invalidation gibi her iki durumda da gereken işler */
+    public static void afterCompletion(Runnable r) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            r.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) { r.run(); }
+        });
+    }
+}
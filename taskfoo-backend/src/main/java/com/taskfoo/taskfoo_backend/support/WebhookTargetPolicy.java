@@ -0,0 +1,64 @@
+// src/main/java/com/taskfoo/taskfoo_backend/support/WebhookTargetPolicy.java
+package com.taskfoo.taskfoo_backend.support;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Webhook hedefi kontrolü (SSRF): loopback / private / link-local adreslere çözülen host'lar sadece
+ * {@code app.webhooks.allowed-private-hosts} listesindeyse kabul edilir. Kayıtta ve her teslimde
+ * (DNS sonradan değişebilir) çağrılır.
+ */
+@Component
+public class WebhookTargetPolicy {
+
+    private final Set<String> allowedPrivateHosts;
+
+    public WebhookTargetPolicy(@Value("${app.webhooks.allowed-private-hosts:}") List<String> allowedPrivateHosts) {
+        this.allowedPrivateHosts = allowedPrivateHosts.stream()
+                .map(h -> h.trim().toLowerCase(Locale.ROOT))
+                .filter(h -> !h.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /** @throws IllegalArgumentException http(s) değilse ya da izinsiz iç adrese çözülüyorsa */
+    public void check(URI uri) {
+        String scheme = uri.getScheme();
+        if ((!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) || uri.getHost() == null) {
+            throw new IllegalArgumentException("Webhook url must be http(s)");
+        }
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        if (allowedPrivateHosts.contains(host)) return;
+
+        InetAddress[] addresses;
+        try {
+            addresses = InetAddress.getAllByName(host);
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("Webhook host cannot be resolved: " + host);
+        }
+        for (InetAddress a : addresses) {
+            if (isInternal(a)) {
+                throw new IllegalArgumentException("Webhook host resolves to a private address: " + host);
+            }
+        }
+    }
+
+    private static boolean isInternal(InetAddress a) {
+        if (a.isLoopbackAddress() || a.isAnyLocalAddress() || a.isLinkLocalAddress()
+                || a.isSiteLocalAddress() || a.isMulticastAddress()) {
+            return true;
+        }
+        byte[] b = a.getAddress();
+        if (a instanceof Inet6Address) return (b[0] & 0xfe) == 0xfc;          // fc00::/7 (ULA)
+        return (b[0] & 0xff) == 100 && (b[1] & 0xc0) == 64;                   // 100.64.0.0/10 (CGNAT)
+    }
+}
@@ -0,0 +1,8 @@
+-- Hibernate (ddl-auto=update) sonrasi calisir; JPA annotation'lari ile ifade edilemeyen index'ler.
+-- Tum ifadeler idempotent olmali (her acilista calisir).
+
+-- Gantt pencere sorgusu: [start_date, due_date] araligi ile pencerenin kesisimi (&&).
+-- Tek tarihli task tek gunluk aralik; iki tarihi de olmayanlar index'te yok.
+CREATE INDEX IF NOT EXISTS idx_tasks_date_range ON tasks USING gist (
+    daterange(LEAST(start_date, due_date), GREATEST(start_date, due_date), '[]')
+) WHERE start_date IS NOT NULL OR due_date IS NOT NULL;
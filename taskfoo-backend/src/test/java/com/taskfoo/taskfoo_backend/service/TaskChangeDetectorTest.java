@@ -0,0 +1,170 @@
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.model.*;
+import com.taskfoo.taskfoo_backend.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/** Loaded state Hibernate'in verdiği dizi gibi taklit edilir; diff mantığı DB'siz doğrulanır */
+class TaskChangeDetectorTest {
+
+    private static final String[] PROPERTIES = {
+            "assignedUsers", "boardRank", "createdAt", "description", "dueDate", "epic",
+            "priority", "startDate", "status", "title", "updatedAt", "version"
+    };
+
+    private PersistenceContext persistenceContext;
+    private EntityPersister persister;
+    private TaskChangeDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        EntityManager em = mock(EntityManager.class);
+        SessionImplementor session = mock(SessionImplementor.class);
+        persistenceContext = mock(PersistenceContext.class);
+        persister = mock(EntityPersister.class);
+        when(em.unwrap(SessionImplementor.class)).thenReturn(session);
+        when(session.getPersistenceContextInternal()).thenReturn(persistenceContext);
+        when(persister.getPropertyNames()).thenReturn(PROPERTIES);
+        detector = new TaskChangeDetector(em, mock(TaskRepository.class));
+    }
+
+    @Test
+    void detachedTaskHasNoDiff() {
+        assertNull(detector.detect(task("Title", status(1L), null, List.of())));
+    }
+
+    @Test
+    void reportsOnlyChangedScalarsAndReferenceIds() {
+        Task task = task("New title", status(2L), priority(5L), List.of());
+        task.setDueDate(LocalDate.of(2025, 3, 1));
+        Object[] loaded = loadedState(task);
+        loaded[index("title")] = "Old title";
+        loaded[index("status")] = status(1L);
+        loaded[index("dueDate")] = LocalDate.of(2025, 2, 1);
+        managed(task, loaded);
+
+        TaskChangeDetector.TaskChanges changes = detector.detect(task);
+
+        assertEquals(List.of("title", "dueDate", "statusId"), fieldNames(changes));
+        assertEquals("Old title", changes.oldValue(TaskChangeDetector.TITLE));
+        assertEquals(1L, changes.oldValue(TaskChangeDetector.STATUS_ID));
+        assertEquals(2L, newValue(changes, TaskChangeDetector.STATUS_ID));
+        assertFalse(changes.has(TaskChangeDetector.PRIORITY_ID));
+        assertTrue(changes.metadata().isEmpty());
+    }
+
+    @Test
+    void unchangedTaskIsEmpty() {
+        Task task = task("Title", status(1L), priority(3L), new ArrayList<>(List.of(user(1L))));
+        managed(task, loadedState(task));
+
+        TaskChangeDetector.TaskChanges changes = detector.detect(task);
+
+        assertTrue(changes.isEmpty());
+        assertTrue(changes.metadata().isEmpty());
+    }
+
+    @Test
+    void replacedAssigneeListYieldsSetDifference() {
+        Task task = task("Title", status(1L), null, List.of(user(3L), user(2L)));
+        Object[] loaded = loadedState(task);
+        loaded[index("assignedUsers")] = List.of(user(1L), user(2L));
+        managed(task, loaded);
+
+        TaskChangeDetector.TaskChanges changes = detector.detect(task);
+
+        assertEquals(List.of(TaskChangeDetector.ASSIGNEE_IDS), fieldNames(changes));
+        assertEquals(List.of(1L, 2L), changes.oldValue(TaskChangeDetector.ASSIGNEE_IDS));
+        assertEquals(List.of(2L, 3L), newValue(changes, TaskChangeDetector.ASSIGNEE_IDS));
+        assertEquals(Map.of("assigneesAdded", List.of(3L), "assigneesRemoved", List.of(1L)), changes.metadata());
+    }
+
+    @Test
+    void sameAssigneeOrderChangeIsNotAChange() {
+        Task task = task("Title", null, null, List.of(user(2L), user(1L)));
+        Object[] loaded = loadedState(task);
+        loaded[index("assignedUsers")] = List.of(user(1L), user(2L));
+        managed(task, loaded);
+
+        assertTrue(detector.detect(task).isEmpty());
+    }
+
+    /* ---------------- Helpers ---------------- */
+
+    private void managed(Task task, Object[] loaded) {
+        EntityEntry entry = mock(EntityEntry.class);
+        when(entry.getLoadedState()).thenReturn(loaded);
+        when(entry.getPersister()).thenReturn(persister);
+        when(persistenceContext.getEntry(task)).thenReturn(entry);
+    }
+
+    /** Task'ın şu anki hali (aynı koleksiyon instance'ı dahil) */
+    private static Object[] loadedState(Task t) {
+        Object[] s = new Object[PROPERTIES.length];
+        s[index("assignedUsers")] = t.getAssignedUsers();
+        s[index("description")] = t.getDescription();
+        s[index("dueDate")] = t.getDueDate();
+        s[index("epic")] = t.getEpic();
+        s[index("priority")] = t.getPriority();
+        s[index("startDate")] = t.getStartDate();
+        s[index("status")] = t.getStatus();
+        s[index("title")] = t.getTitle();
+        return s;
+    }
+
+    private static int index(String property) {
+        return Arrays.asList(PROPERTIES).indexOf(property);
+    }
+
+    private static List<String> fieldNames(TaskChangeDetector.TaskChanges changes) {
+        return changes.fields().stream().map(AuditEvent.ChangedField::getField).toList();
+    }
+
+    private static Object newValue(TaskChangeDetector.TaskChanges changes, String field) {
+        return changes.fields().stream().filter(f -> f.getField().equals(field))
+                .findFirst().orElseThrow().getNewValue();
+    }
+
+    private static Task task(String title, Status status, Priority priority, List<User> assignees) {
+        Task t = new Task();
+        t.setId(10L);
+        t.setTitle(title);
+        t.setStatus(status);
+        t.setPriority(priority);
+        t.setAssignedUsers(assignees);
+        return t;
+    }
+
+    private static Status status(Long id) {
+        Status s = new Status();
+        s.setId(id);
+        return s;
+    }
+
+    private static Priority priority(Long id) {
+        Priority p = new Priority();
+        p.setId(id);
+        return p;
+    }
+
+    private static User user(Long id) {
+        User u = new User();
+        u.setId(id);
+        return u;
+    }
+}
@@ -0,0 +1,100 @@
+package com.taskfoo.taskfoo_backend.service;
+
+import com.taskfoo.taskfoo_backend.model.AuditEvent;
+import com.taskfoo.taskfoo_backend.repository.AuditEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TaskMergeResolverTest {
+
+    private static final Long TASK_ID = 7L;
+
+    private AuditEventRepository auditRepository;
+    private TaskMergeResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        auditRepository = mock(AuditEventRepository.class);
+        resolver = new TaskMergeResolver(auditRepository, new SimpleMeterRegistry(), 50);
+    }
+
+    @Test
+    void sameVersionSkipsChangeLog() {
+        resolver.requireMergeable(TASK_ID, 3, 3, Set.of("title"));
+        verifyNoInteractions(auditRepository);
+    }
+
+    @Test
+    void disjointConcurrentChangesMerge() {
+        changeLog(event(4, "title"), event(5, "dueDate", "startDate"));
+        assertDoesNotThrow(() -> resolver.requireMergeable(TASK_ID, 3, 5, Set.of("statusId", "description")));
+    }
+
+    @Test
+    void overlappingFieldIsConflict() {
+        changeLog(event(4, "title"), event(5, "statusId"));
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> resolver.requireMergeable(TASK_ID, 3, 5, Set.of("statusId")));
+        assertEquals(409, e.getStatusCode().value());
+        assertTrue(e.getReason().contains("statusId"));
+    }
+
+    @Test
+    void missingVersionInChangeLogIsConflict() {
+        changeLog(event(5, "title"));
+        assertConflict(3, 5, Set.of("statusId"));
+    }
+
+    @Test
+    void rowWithoutFieldDiffIsConflict() {
+        changeLog(event(4, "title"), event(5));
+        assertConflict(3, 5, Set.of("statusId"));
+    }
+
+    @Test
+    void rowsCommittedAfterCurrentVersionAreIgnored() {
+        changeLog(event(4, "title"), event(5, "statusId"));
+        assertDoesNotThrow(() -> resolver.requireMergeable(TASK_ID, 3, 4, Set.of("statusId")));
+    }
+
+    @Test
+    void staleOrUnknownBaseIsConflictWithoutReadingLog() {
+        assertConflict(null, 5, Set.of("title"));
+        assertConflict(6, 5, Set.of("title"));
+        assertConflict(1, 52, Set.of("title"));
+        verifyNoInteractions(auditRepository);
+    }
+
+    /* ---------------- Helpers ---------------- */
+
+    private void assertConflict(Integer base, Integer current, Set<String> fields) {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> resolver.requireMergeable(TASK_ID, base, current, fields));
+        assertEquals(409, e.getStatusCode().value());
+    }
+
+    private void changeLog(AuditEvent... events) {
+        when(auditRepository.findChangesSince(eq("TASK"), eq(TASK_ID), anyInt())).thenReturn(List.of(events));
+    }
+
+    /** fields boş -> changed_fields'sız (set-based) satır */
+    private static AuditEvent event(int version, String... fields) {
+        return AuditEvent.builder()
+                .entityType("TASK")
+                .entityId(TASK_ID)
+                .entityVersion(version)
+                .changedFields(fields.length == 0 ? null : Arrays.stream(fields)
+                        .map(f -> new AuditEvent.ChangedField(f, "old", "new"))
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.taskfoo.taskfoo_backend.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LexoRankTest {
+
+    @Test
+    void betweenOpenEndsAndNeighbours() {
+        String first = LexoRank.between(null, null);
+        assertValid(first);
+        assertOrdered(null, LexoRank.before(first), first);
+        assertOrdered(first, LexoRank.after(first), null);
+        assertOrdered("a", LexoRank.between("a", "b"), "b");
+        assertOrdered("a", LexoRank.between("a", "a1"), "a1");
+        assertOrdered("az", LexoRank.between("az", "b"), "b");
+        assertOrdered(null, LexoRank.before("1"), "1");
+        assertOrdered("zzz", LexoRank.after("zzz"), null);
+    }
+
+    @Test
+    void rejectsOutOfOrderAndMalformedKeys() {
+        assertThrows(IllegalArgumentException.class, () -> LexoRank.between("b", "a"));
+        assertThrows(IllegalArgumentException.class, () -> LexoRank.between("a", "a"));
+        assertThrows(IllegalArgumentException.class, () -> LexoRank.between("A", null));
+        assertThrows(IllegalArgumentException.class, () -> LexoRank.between("a0", null));
+    }
+
+    /** Rastgele konumlara ekleme: her anahtar komşularının arasında, liste her an sıralı */
+    @Test
+    void randomInsertsKeepStrictOrder() {
+        Random random = new Random(42);
+        List<String> column = new ArrayList<>();
+        for (int op = 0; op < 20_000; op++) {
+            int i = random.nextInt(column.size() + 1);
+            String prev = i > 0 ? column.get(i - 1) : null;
+            String next = i < column.size() ? column.get(i) : null;
+            String key = LexoRank.between(prev, next);
+            assertOrdered(prev, key, next);
+            column.add(i, key);
+        }
+        for (int i = 1; i < column.size(); i++) {
+            assertTrue(column.get(i - 1).compareTo(column.get(i)) < 0, "order broken at " + i);
+        }
+    }
+
+    /** Kolon sonuna art arda ekleme (yeni task'lar): varsayılan max-length'e ~500 eklemede ulaşılır */
+    @Test
+    void appendsGrowSlowly() {
+        String last = null;
+        for (int i = 0; i < 500; i++) {
+            String next = LexoRank.after(last);
+            assertOrdered(last, next, null);
+            last = next;
+        }
+        assertTrue(last.length() <= 16, "after() chain too long: " + last.length());
+    }
+
+    @Test
+    void prependsStayOrdered() {
+        String first = null;
+        for (int i = 0; i < 500; i++) {
+            String prev = LexoRank.before(first);
+            assertOrdered(null, prev, first);
+            first = prev;
+        }
+    }
+
+    @Test
+    void spreadIsStrictlyIncreasingAndShort() {
+        for (int n : new int[]{0, 1, 2, 35, 36, 1_000, 100_000}) {
+            String[] keys = LexoRank.spread(n);
+            assertEquals(n, keys.length);
+            for (int i = 0; i < n; i++) {
+                assertValid(keys[i]);
+                if (i > 0) assertTrue(keys[i - 1].compareTo(keys[i]) < 0, "spread(" + n + ") order at " + i);
+            }
+            if (n > 0) assertTrue(keys[n - 1].length() <= 5, "spread(" + n + ") keys too long");
+        }
+    }
+
+    @Test
+    void spreadAfterStartsAfterTheCurrentMaximum() {
+        String max = LexoRank.after("y");
+        String[] keys = LexoRank.spreadAfter(max, 500);
+        assertOrdered(max, keys[0], keys[1]);
+        for (int i = 1; i < keys.length; i++) assertTrue(keys[i - 1].compareTo(keys[i]) < 0);
+
+        String[] fromEmpty = LexoRank.spreadAfter(null, 3);
+        assertOrdered(null, fromEmpty[0], fromEmpty[1]);
+        // yeni anahtarların arasına da normal move yapılabilir
+        assertOrdered(keys[0], LexoRank.between(keys[0], keys[1]), keys[1]);
+    }
+
+    /* ---------------- Helpers ---------------- */
+
+    private static void assertOrdered(String lo, String key, String hi) {
+        assertValid(key);
+        if (lo != null) assertTrue(lo.compareTo(key) < 0, lo + " !< " + key);
+        if (hi != null) assertTrue(key.compareTo(hi) < 0, key + " !< " + hi);
+    }
+
+    private static void assertValid(String key) {
+        assertFalse(key.isEmpty(), "empty key");
+        assertTrue(key.chars().allMatch(c -> c >= '0' && c <= '9' || c >= 'a' && c <= 'z'), "invalid key " + key);
+        assertNotEquals('0', key.charAt(key.length() - 1));
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskfoo.taskfoo_backend.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuantileSketchTest {
+
+    private static final double[] QUANTILES = {0, 0.1, 0.5, 0.75, 0.9, 0.95, 0.99, 1};
+
+    @Test
+    void emptySketchHasNoQuantiles() {
+        QuantileSketch sketch = new QuantileSketch();
+        assertEquals(0, sketch.count());
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+    }
+
+    @Test
+    void singleValueIsReturnedExactly() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.add(1234.5);
+        for (double q : QUANTILES) assertEquals(1234.5, sketch.quantile(q), 0);
+    }
+
+    /** Cycle time'a benzer geniş dağılım (saniyeler..yıllar, sketch menzili içinde): her quantile %1 göreli hata içinde */
+    @Test
+    void quantilesStayWithinRelativeAccuracy() {
+        Random random = new Random(7);
+        double[] values = new double[100_000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian() * 2 + 11);
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        assertEquals(values.length, sketch.count());
+        for (double q : QUANTILES) {
+            double exact = values[(int) Math.floor(q * (values.length - 1))];
+            double estimate = sketch.quantile(q);
+            assertTrue(Math.abs(estimate - exact) <= exact * 0.01 + 1e-9,
+                    "q=" + q + " exact=" + exact + " estimate=" + estimate);
+        }
+    }
+
+    @Test
+    void valuesUpToOneSecondShareTheZeroBucket() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < 90; i++) sketch.add(i % 2 == 0 ? 0 : 1);
+        for (int i = 0; i < 10; i++) sketch.add(3_600);
+
+        assertEquals(0, sketch.quantile(0.5), 0);
+        assertEquals(0, sketch.quantile(0.89), 0);
+        assertEquals(3_600, sketch.quantile(0.95), 3_600 * 0.01);
+    }
+
+    @Test
+    void mergeEqualsSketchOfTheUnion() {
+        Random random = new Random(11);
+        QuantileSketch all = new QuantileSketch();
+        QuantileSketch left = new QuantileSketch();
+        QuantileSketch right = new QuantileSketch();
+        for (int i = 0; i < 20_000; i++) {
+            double v = 1 + random.nextDouble() * 1_000_000;
+            all.add(v);
+            (i % 3 == 0 ? left : right).add(v);
+        }
+
+        left.merge(right);
+
+        assertEquals(all.count(), left.count());
+        for (double q : QUANTILES) assertEquals(all.quantile(q), left.quantile(q), 0);
+        assertEquals(13_333, right.count(), "merge must not modify its argument");
+    }
+}
@@ -0,0 +1,105 @@
+package com.taskfoo.taskfoo_backend.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long TICK = 1_000;
+
+    @Test
+    void firesAfterDeadlineWithinOneTick() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(TICK, 8, 3, 0);
+        assertTrue(wheel.schedule("a", 5_500, "a"));
+
+        assertEquals(List.of(), wheel.advance(5_000));
+        assertEquals(List.of(), wheel.advance(5_999));
+        assertEquals(List.of("a"), wheel.advance(6_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void pastDeadlineIsNotScheduled() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(TICK, 8, 3, 10_000);
+        assertFalse(wheel.schedule("late", 9_999, "late"));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void rescheduleReplacesAndCancelRemoves() {
+        TimingWheel<String, String> wheel = new TimingWheel<>(TICK, 8, 3, 0);
+        wheel.schedule("a", 2_000, "first");
+        wheel.schedule("a", 4_000, "second");
+        wheel.schedule("b", 3_000, "b");
+        assertEquals(2, wheel.size());
+
+        assertEquals("b", wheel.cancel("b"));
+        assertNull(wheel.cancel("b"));
+        assertEquals(List.of(), wheel.advance(3_000));
+        assertEquals(List.of("second"), wheel.advance(5_000));
+    }
+
+    /** Üst seviyenin menzilinden (8^3 tick) uzak kayıtlar da zamanında ve deadline sırasıyla döner */
+    @Test
+    void farDeadlinesCascadeDownInOrder() {
+        TimingWheel<Integer, Long> wheel = new TimingWheel<>(TICK, 8, 3, 0);
+        long[] deadlines = {2_000_500, 700_000, 511_999, 512_000, 64_001, 9_000};
+        for (int i = 0; i < deadlines.length; i++) wheel.schedule(i, deadlines[i], deadlines[i]);
+
+        List<Long> fired = wheel.advance(3_000_000);
+
+        long[] sorted = deadlines.clone();
+        Arrays.sort(sorted);
+        assertEquals(Arrays.stream(sorted).boxed().toList(), fired);
+    }
+
+    /**
+     * Brute-force referansa karşı rastgele schedule / cancel / advance: her advance'te dönen küme
+     * tam olarak hizalanmış saatten önce deadline'ı olan bekleyen kayıtlardır (erken değil, en fazla
+     * bir tick geç) ve deadline sırasıyla gelir.
+     */
+    @Test
+    void matchesBruteForceReference() {
+        Random random = new Random(2024);
+        long now = 123_456;
+        TimingWheel<Integer, Long> wheel = new TimingWheel<>(TICK, 8, 3, now);
+        Map<Integer, Long> pending = new HashMap<>();
+
+        for (int op = 0; op < 200_000; op++) {
+            int kind = random.nextInt(10);
+            int key = random.nextInt(2_000);
+            if (kind < 6) {
+                long deadline = now - 5 * TICK + (long) (random.nextDouble() * 2_000 * TICK);
+                boolean scheduled = wheel.schedule(key, deadline, deadline);
+                pending.remove(key);
+                assertEquals(deadline >= aligned(now), scheduled, "schedule(" + deadline + ") at " + now);
+                if (scheduled) pending.put(key, deadline);
+            } else if (kind < 8) {
+                Long expected = pending.remove(key);
+                assertEquals(expected, wheel.cancel(key));
+            } else {
+                now += random.nextInt(10) == 0 ? random.nextInt(1_000) * TICK : random.nextInt(3 * (int) TICK);
+                List<Long> fired = wheel.advance(now);
+
+                List<Long> expected = new ArrayList<>();
+                for (Iterator<Long> it = pending.values().iterator(); it.hasNext(); ) {
+                    long d = it.next();
+                    if (d < aligned(now)) {
+                        expected.add(d);
+                        it.remove();
+                    }
+                }
+                Collections.sort(expected);
+                assertEquals(expected, fired, "advance(" + now + ")");
+            }
+            assertEquals(pending.size(), wheel.size());
+        }
+    }
+
+    private static long aligned(long timeMs) {
+        return timeMs - timeMs % TICK;
+    }
+}
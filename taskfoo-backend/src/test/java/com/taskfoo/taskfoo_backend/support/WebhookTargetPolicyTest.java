@@ -0,0 +1,46 @@
+package com.taskfoo.taskfoo_backend.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookTargetPolicyTest {
+
+    private final WebhookTargetPolicy policy = new WebhookTargetPolicy(List.of(" localhost "));
+
+    @Test
+    void allowListedLoopbackHostIsAccepted() {
+        assertDoesNotThrow(() -> policy.check(URI.create("http://localhost:8089/hook")));
+        assertDoesNotThrow(() -> policy.check(URI.create("https://LOCALHOST/hook")));
+    }
+
+    @Test
+    void publicAddressIsAccepted() {
+        assertDoesNotThrow(() -> policy.check(URI.create("https://8.8.8.8/hook")));
+    }
+
+    /** IP literal'ler: DNS'e gitmeden çözülür */
+    @Test
+    void internalAddressesAreRejected() {
+        for (String url : List.of("http://127.0.0.1/", "http://[::1]/", "http://0.0.0.0/", "http://10.1.2.3/",
+                "http://172.16.0.1/", "http://192.168.1.1/", "http://169.254.169.254/latest/meta-data",
+                "http://100.64.0.1/", "http://[fd12::1]/", "http://[fe80::1]/")) {
+            assertThrows(IllegalArgumentException.class, () -> policy.check(URI.create(url)), url);
+        }
+    }
+
+    @Test
+    void nonHttpSchemesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> policy.check(URI.create("ftp://example.com/")));
+        assertThrows(IllegalArgumentException.class, () -> policy.check(URI.create("file:///etc/passwd")));
+    }
+
+    @Test
+    void emptyAllowListRejectsLocalhost() {
+        WebhookTargetPolicy strict = new WebhookTargetPolicy(List.of());
+        assertThrows(IllegalArgumentException.class, () -> strict.check(URI.create("http://localhost/hook")));
+    }
+}
@@ -0,0 +1,36 @@
+import api from "./client";
+
+export type FlowScope = { projectId?: number; epicId?: number; from?: string; to?: string };
+
+/** statusId -> o günün sonundaki task sayısı */
+export type FlowDay = { day: string; byStatus: Record<string, number> };
+export type BurndownPoint = { day: string; total: number; done: number; remaining: number };
+
+export async function getCumulativeFlow(scope: FlowScope = {}): Promise<FlowDay[]> {
+  const res = await api.get<FlowDay[]>("/api/analytics/cfd", { params: scope });
+  return res.data;
+}
+
+export async function getBurndown(scope: FlowScope = {}): Promise<BurndownPoint[]> {
+  const res = await api.get<BurndownPoint[]>("/api/analytics/burndown", { params: scope });
+  return res.data;
+}
+
+export type Percentiles = { count: number; p50: number | null; p85: number | null; p95: number | null };
+export type CycleTime = {
+  dimension: "all" | "project" | "epic" | "priority" | "assignee";
+  id: number | null;
+  cycleTime: Percentiles; // saat
+  leadTime: Percentiles;
+};
+
+export async function getCycleTime(params: {
+  groupBy?: CycleTime["dimension"];
+  projectId?: number;
+  epicId?: number;
+  priorityId?: number;
+  assigneeId?: number;
+} = {}): Promise<CycleTime[]> {
+  const res = await api.get<CycleTime[]>("/api/analytics/cycle-time", { params });
+  return res.data;
+}
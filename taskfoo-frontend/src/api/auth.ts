@@ -4,6 +4,7 @@ import api from "./client";
 type AuthResponse = {
   token?: string;          // backend token alanı "token" ise
   accessToken?: string;    // yok "accessToken" ise
+  refreshToken?: string;
   expiresAt?: string | number;
 };
 
@@ -14,6 +15,7 @@ export async function login(email: string, password: string) {
   const token = res.data.token ?? res.data.accessToken;
   if (!token) throw new Error("Login response içinde token yok.");
   localStorage.setItem("token", token);
+  if (res.data.refreshToken) localStorage.setItem("refreshToken", res.data.refreshToken);
   return res.data;
 }
 
@@ -30,6 +32,10 @@ export async function me() {
 }
 
 export function logout() {
+  // sunucu tarafında access token + refresh zinciri iptal edilir (best-effort)
+  const t = localStorage.getItem("token");
+  if (t) api.post("/auth/logout", null, { headers: { Authorization: `Bearer ${t}` } }).catch(() => {});
   localStorage.removeItem("token");
+  localStorage.removeItem("refreshToken");
   window.location.href = "/login";
 }
\ No newline at end of file
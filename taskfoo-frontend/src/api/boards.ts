@@ -0,0 +1,49 @@
+import api from "./client";
+import type { IdName, PriorityBrief, UserBrief, TaskListItemResponse } from "./tasks";
+import type { Project, Epic } from "../types";
+
+export type BoardBootstrap = {
+  projectId: number;
+  statuses: IdName[];
+  priorities: PriorityBrief[];
+  users: UserBrief[];
+  projects: Project[];
+  epics: Epic[];
+  tasks: TaskListItemResponse[];
+};
+
+/**
+ * Board için tek istek. Yanıt ETag + no-cache taşır: tarayıcı If-None-Match ile tekrar doğrular,
+ * board değişmediyse 304 gelir ve önbellekteki gövde kullanılır.
+ */
+export async function getBoardBootstrap(projectId: number): Promise<BoardBootstrap> {
+  const res = await api.get<BoardBootstrap>(`/api/boards/${projectId}/bootstrap`);
+  return res.data;
+}
+
+export type BoardTaskState = {
+  id: number;
+  title: string;
+  statusId: number | null;
+  priorityId: number | null;
+  epicId: number | null;
+  startDate: string | null;
+  dueDate: string | null;
+  boardRank: string | null;
+  assigneeIds: number[];
+};
+
+export type BoardAsOf = {
+  projectId: number;
+  asOf: string;
+  snapshotAt: string;
+  eventsReplayed: number;
+  tasks: BoardTaskState[]; // statusId + boardRank sırasıyla
+};
+
+/** Board'un geçmişteki hali; isimler için bootstrap'taki status/priority/user listeleri */
+export async function getBoardAsOf(projectId: number, asOf: Date | string): Promise<BoardAsOf> {
+  const at = typeof asOf === "string" ? asOf : asOf.toISOString();
+  const res = await api.get<BoardAsOf>(`/api/boards/${projectId}`, { params: { asOf: at } });
+  return res.data;
+}
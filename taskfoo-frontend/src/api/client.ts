@@ -13,4 +13,36 @@ api.interceptors.request.use((config) => {
   return config;
 });
 
+// Access token süresi dolunca /auth/login yerine /auth/refresh (BCrypt yok).
+// Aynı anda düşen 401'ler tek refresh isteğini paylaşır.
+let refreshing: Promise<string | null> | null = null;
+
+async function refreshAccessToken(): Promise<string | null> {
+  const rt = localStorage.getItem("refreshToken");
+  if (!rt) return null;
+  try {
+    const res = await axios.post(`${baseURL ?? ""}/auth/refresh`, { refreshToken: rt });
+    localStorage.setItem("token", res.data.accessToken);
+    localStorage.setItem("refreshToken", res.data.refreshToken);
+    return res.data.accessToken as string;
+  } catch {
+    localStorage.removeItem("token");
+    localStorage.removeItem("refreshToken");
+    return null;
+  }
+}
+
+api.interceptors.response.use(undefined, async (error) => {
+  const original = error.config;
+  if (error.response?.status !== 401 || !original || original._retried || original.url?.startsWith("/auth/")) {
+    return Promise.reject(error);
+  }
+  original._retried = true;
+  refreshing ??= refreshAccessToken().finally(() => { refreshing = null; });
+  const token = await refreshing;
+  if (!token) return Promise.reject(error);
+  original.headers.Authorization = `Bearer ${token}`;
+  return api(original);
+});
+
 export default api;
\ No newline at end of file
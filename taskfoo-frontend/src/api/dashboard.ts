@@ -0,0 +1,26 @@
+import api from "./client";
+
+export type CountItem = { id: number | null; name: string; count: number };
+export type MatrixCell = { priorityId: number | null; statusId: number | null; count: number };
+export type RecentTask = { id: number; title: string; statusId: number | null; priorityId: number | null };
+
+export type DashboardSummary = {
+  projectId: number | null;
+  total: number;
+  overdue: number;
+  byStatus: CountItem[];
+  byPriority: CountItem[];
+  byAssignee: CountItem[];
+  priorityStatus: MatrixCell[];
+  byProject: CountItem[];
+  recent: RecentTask[];
+  computedAt: string;
+};
+
+/** Sunucuda tutulan sayaçlardan tek küçük özet (task listesi indirilmez) */
+export async function getDashboardSummary(projectId?: number): Promise<DashboardSummary> {
+  const res = await api.get<DashboardSummary>("/api/dashboard/summary", {
+    params: projectId != null ? { projectId } : undefined,
+  });
+  return res.data;
+}
@@ -14,4 +14,11 @@ export const listEpics = async () => (await api.get("/api/epics")).data;
 export async function createEpic(body: CreateEpicBody) {
   const res = await api.post("/api/epics", body);
   return res.data;
-}
\ No newline at end of file
+}
+export type ShiftResult = { days: number; tasksShifted: number };
+
+/** Epic + task'larının tarihlerini N gün kaydırır (negatif -> geri) */
+export async function shiftEpic(id: number, days: number): Promise<ShiftResult> {
+  const res = await api.post<ShiftResult>(`/api/epics/${id}/shift`, { days });
+  return res.data;
+}
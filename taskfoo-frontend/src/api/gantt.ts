@@ -0,0 +1,61 @@
+import api from "./client";
+import type { TaskListItemResponse } from "./tasks";
+
+export type GanttEpicGroup = {
+  id: number | null;
+  name: string | null;
+  startDate: string | null; // epic özet çubuğu
+  dueDate: string | null;
+  taskCount: number;
+  doneCount: number;
+  tasks: TaskListItemResponse[];
+};
+
+export type GanttWindow = { from: string; to: string; epics: GanttEpicGroup[] };
+
+/** Sadece [from, to] (YYYY-MM-DD) penceresiyle kesişen task'lar, epic bazında */
+export async function getGanttWindow(params: { projectId?: number; from: string; to: string }): Promise<GanttWindow> {
+  const res = await api.get<GanttWindow>("/api/gantt", { params });
+  return res.data;
+}
+
+/* ---------------- Bağımlılıklar (finish-to-start) ---------------- */
+
+export type Dependency = { predecessorId: number; successorId: number };
+
+export type ScheduleItem = {
+  taskId: number;
+  earliestStart: string;
+  earliestFinish: string;
+  latestStart: string;
+  latestFinish: string;
+  slackDays: number;
+  critical: boolean;
+};
+
+export type Schedule = {
+  projectId: number | null;
+  projectFinish: string | null;
+  tasks: ScheduleItem[];
+  criticalPath: number[];
+};
+
+export async function getDependencies(projectId?: number): Promise<Dependency[]> {
+  const res = await api.get<Dependency[]>("/api/gantt/dependencies", { params: { projectId } });
+  return res.data;
+}
+
+export async function getSchedule(projectId?: number): Promise<Schedule> {
+  const res = await api.get<Schedule>("/api/gantt/schedule", { params: { projectId } });
+  return res.data;
+}
+
+/** Döngü oluşturursa 409 */
+export async function addDependency(taskId: number, predecessorId: number): Promise<Dependency> {
+  const res = await api.post<Dependency>(`/api/tasks/${taskId}/dependencies`, { predecessorId });
+  return res.data;
+}
+
+export async function removeDependency(taskId: number, predecessorId: number): Promise<void> {
+  await api.delete(`/api/tasks/${taskId}/dependencies/${predecessorId}`);
+}
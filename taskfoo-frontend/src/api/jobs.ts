@@ -0,0 +1,24 @@
+import api from "./client";
+
+export type JobStatus = {
+  id: string;
+  type: string;
+  state: "QUEUED" | "RUNNING" | "SUCCEEDED" | "FAILED";
+  total: number;
+  processed: number;
+  message?: string | null;
+  result?: unknown;
+};
+
+export const getJob = async (id: string): Promise<JobStatus> =>
+  (await api.get(`/api/jobs/${id}`)).data;
+
+/** Arka plan job'u bitene kadar bekler (cascade delete vb.) */
+export async function waitForJob(id: string, intervalMs = 1000): Promise<JobStatus> {
+  for (;;) {
+    const job = await getJob(id);
+    if (job.state === "SUCCEEDED") return job;
+    if (job.state === "FAILED") throw new Error(job.message || "Job failed");
+    await new Promise((r) => setTimeout(r, intervalMs));
+  }
+}
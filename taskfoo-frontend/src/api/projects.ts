@@ -3,3 +3,5 @@ export const listProjects = async () => (await api.get("/api/projects")).data;
 export const createProject = async (b:{name:string;description?:string;startDate?:string;dueDate?:string}) =>
   (await api.post("/api/projects", b)).data;
 
+export const shiftProject = async (id: number, days: number): Promise<{ days: number; tasksShifted: number }> =>
+  (await api.post(`/api/projects/${id}/shift`, { days })).data;
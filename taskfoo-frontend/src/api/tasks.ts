@@ -1,4 +1,5 @@
 import api from "./client";
+import type { JobStatus } from "./jobs";
 
 /** ---------------- DTO TYPES (Backend sözleşmesi) ---------------- */
 export type IdName = { id: number; name: string };
@@ -26,6 +27,7 @@ export type TaskListItemResponse = {
   epic: IdName | null;
   assignees: UserBrief[];
   version: number;
+  boardRank?: string | null;
 };
 
 /** POST /api/tasks body DTO */
@@ -46,6 +48,54 @@ export async function listTasks(): Promise<TaskListItemResponse[]> {
   return res.data;
 }
 
+export type TaskField = keyof TaskListItemResponse | "assigneeIds";
+
+/**
+ * Multi-get (tek sorgu), ör. WS delta'sındaki id'ler. fields verilirse sadece o alanlar okunur/döner
+ * (id her zaman gelir).
+ */
+export async function getTasksByIds(
+  ids: number[],
+  fields?: TaskField[]
+): Promise<Array<Partial<TaskListItemResponse> & { id: number; assigneeIds?: number[] }>> {
+  if (ids.length === 0) return [];
+  const params: Record<string, string> = { ids: ids.join(",") };
+  if (fields?.length) params.fields = fields.join(",");
+  const res = await api.get("/api/tasks", { params });
+  return res.data;
+}
+
+export type TaskExportFormat = "ndjson" | "csv";
+
+/** Sunucu akış halinde yazar; büyük export'lar için istek zaman aşımı kapalı */
+export async function exportTasks(format: TaskExportFormat, projectId?: number): Promise<Blob> {
+  const params: Record<string, string | number> = { format };
+  if (projectId != null) params.projectId = projectId;
+  const res = await api.get<Blob>("/api/tasks/export", { params, responseType: "blob", timeout: 0 });
+  return res.data;
+}
+
+export type TaskImportReport = {
+  rowsRead: number;
+  imported: number;
+  failed: number;
+  chunks: Array<{ chunk: number; firstLine: number; lastLine: number; imported: number; failed: number; invalid: number; error?: string | null }>;
+  errors: Array<{ line: number; message: string }>;
+  errorsTruncated: boolean;
+};
+
+/** 202 + job; ilerleme/hatalar waitForJob/getJob ile (result: TaskImportReport) */
+export async function importTasks(file: Blob, format: TaskExportFormat, projectId?: number): Promise<JobStatus> {
+  const params: Record<string, string | number> = { format };
+  if (projectId != null) params.projectId = projectId;
+  const res = await api.post<JobStatus>("/api/tasks/import", file, {
+    params,
+    headers: { "Content-Type": format === "csv" ? "text/csv" : "application/x-ndjson" },
+    timeout: 0,
+  });
+  return res.data;
+}
+
 export type UpdateTaskDatesRequest = {
   startDate: string; // "YYYY-MM-DD"
   dueDate: string;   // "YYYY-MM-DD"
@@ -68,6 +118,15 @@ export async function updateTaskStatus(
   return res.data;
 }
 
+/** Board drag&drop: status + kolon içi sıra (prevId/nextId hedef kolondaki komşular) */
+export async function moveTask(
+  id: number,
+  body: { statusId: number; prevId?: number | null; nextId?: number | null; version: number }
+): Promise<TaskListItemResponse> {
+  const res = await api.patch<TaskListItemResponse>(`/api/tasks/${id}/move`, body);
+  return res.data;
+}
+
 export async function createTask(body: CreateTaskRequest): Promise<TaskListItemResponse> {
   const res = await api.post<TaskListItemResponse>("/api/tasks", body);
   return res.data;
@@ -0,0 +1,36 @@
+import api from "./client";
+
+export type Webhook = {
+  id: number;
+  url: string;
+  signed: boolean;
+  eventTypes: string[];
+  projectId?: number | null;
+  active: boolean;
+  failures: number;
+  lastError?: string | null;
+  nextAttemptAt: string;
+  lastDeliveredAt?: string | null;
+  createdAt: string;
+};
+
+export type CreateWebhookRequest = {
+  url: string;
+  secret?: string;        // X-Taskfoo-Signature: sha256=<hmac hex>
+  eventTypes?: string[];  // boş -> hepsi
+  projectId?: number;
+};
+
+export async function listWebhooks(): Promise<Webhook[]> {
+  const res = await api.get<Webhook[]>("/api/webhooks");
+  return res.data;
+}
+
+export async function createWebhook(body: CreateWebhookRequest): Promise<Webhook> {
+  const res = await api.post<Webhook>("/api/webhooks", body);
+  return res.data;
+}
+
+export async function deleteWebhook(id: number): Promise<void> {
+  await api.delete(`/api/webhooks/${id}`);
+}
@@ -59,7 +59,7 @@ import {
 import { listStatuses } from "../api/statuses";
 import {
   listTasks,
-  updateTaskStatus,
+  moveTask,
   assignUsers,
   type TaskListItemResponse,
   type UserBrief,
@@ -80,6 +80,14 @@ const { Search } = Input;
 const { Option } = Select;
 
 /** --- Types --- */
+/** Kolon sırası: rank'a göre (byte-wise), rank'sızlar sonda */
+const byBoardRank = (a: { boardRank?: string | null; id: number }, b: { boardRank?: string | null; id: number }) => {
+  if (a.boardRank && b.boardRank) return a.boardRank < b.boardRank ? -1 : a.boardRank > b.boardRank ? 1 : 0;
+  if (a.boardRank) return -1;
+  if (b.boardRank) return 1;
+  return a.id - b.id;
+};
+
 interface TaskWithMetadata extends Omit<TaskListItemResponse, 'priority' | 'assignees'> {
   // Priority from backend { id, name, color } + UI level
   priority: Priority & { level?: number };
@@ -1065,7 +1073,9 @@ const { data: rawTasks = [], isLoading: tkLoading, error: taskError } = useQuery
   const tasksByStatus = useMemo(() => {
     const grouped: Record<number, TaskWithMetadata[]> = {};
     statuses.forEach(status => {
-      grouped[status.id] = filteredTasks.filter(task => task.status?.id === status.id);
+      grouped[status.id] = filteredTasks
+        .filter(task => task.status?.id === status.id)
+        .sort(byBoardRank);
     });
     return grouped;
   }, [filteredTasks, statuses]);
@@ -1092,8 +1102,8 @@ const { data: rawTasks = [], isLoading: tkLoading, error: taskError } = useQuery
 
   // Mutation for updating task status
   const updateStatusMutation = useMutation({
-    mutationFn: ({ taskId, statusId, version }: { taskId: number; statusId: number; version: number }) =>
-      updateTaskStatus(taskId, statusId, version),
+    mutationFn: ({ taskId, statusId, prevId, version }: { taskId: number; statusId: number; prevId?: number | null; version: number }) =>
+      moveTask(taskId, { statusId, prevId, version }),
     onSuccess: () => {
       qc.invalidateQueries({ queryKey: ["tasks"] });
       msg.success("Task status updated successfully" , 0.7);
@@ -1302,9 +1312,14 @@ const handleDeleteConfirm = () => {
                 }, 1100);
               }
 
+              // Kolonun sonuna bırak (sıra backend'de rank olarak saklanır)
+              const targetColumn = tasksByStatus[newStatusId] || [];
+              const prevId = targetColumn.length ? targetColumn[targetColumn.length - 1].id : null;
+
               updateStatusMutation.mutate({ 
   taskId, 
   statusId: newStatusId, 
+  prevId,
   version: task.version 
 });
             }}
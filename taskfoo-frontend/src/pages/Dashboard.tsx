@@ -25,8 +25,7 @@ import {
   TeamOutlined,
   ProjectOutlined,
 } from "@ant-design/icons";
-import api from "../api/client";
-import type { Task } from "../types";
+import { getDashboardSummary, type RecentTask } from "../api/dashboard";
 import PageHeaderJust from "../components/PageHeaderJust";
 
 const { Text } = Typography;
@@ -34,10 +33,10 @@ const { Text } = Typography;
 // ---- helpers ----
 
 export default function Dashboard() {
-  // Tasks
-  const { data: tasks = [], isLoading, isError, error } = useQuery<Task[]>({
-    queryKey: ["tasks"],
-    queryFn: async () => (await api.get<Task[]>("/api/tasks")).data,
+  // Sunucu tarafı özet (sayaçlar)
+  const { data: summary, isLoading, isError, error } = useQuery({
+    queryKey: ["dashboard-summary"],
+    queryFn: () => getDashboardSummary(),
   });
 
 
@@ -56,52 +55,37 @@ export default function Dashboard() {
   }
 
   // ---- derived metrics ----
-  const total = tasks.length;
-  const byStatus = (name: string) => tasks.filter(t => t.status?.name === name).length;
-  const byPriority = (name: string) => tasks.filter(t => t.priority?.name === name).length;
+  const total = summary?.total ?? 0;
+  const countOf = (items: { name: string; count: number }[] | undefined, name: string) =>
+    items?.find(i => i.name === name)?.count ?? 0;
+  const byStatus = (name: string) => countOf(summary?.byStatus, name);
+  const byPriority = (name: string) => countOf(summary?.byPriority, name);
   const doneCount = byStatus("Done");
   const completionRate = total > 0 ? Math.round((doneCount / total) * 100) : 0;
 
-  const toDoTasks = tasks.filter(t => t.status?.name === "To Do");
-  const inProgressTasks = tasks.filter(t => t.status?.name === "In Progress");
+  const statusName = new Map<number, string>();
+  summary?.byStatus.forEach(s => s.id != null && statusName.set(s.id, s.name));
+  const priorityName = new Map<number, string>();
+  summary?.byPriority.forEach(p => p.id != null && priorityName.set(p.id, p.name));
+  const statusIdOf = (name: string) => summary?.byStatus.find(s => s.name === name)?.id ?? null;
+  const priorityIdOf = (name: string) => summary?.byPriority.find(p => p.name === name)?.id ?? null;
 
-  // Workload by assignee (top 6)
-  type Workload = { key: string; userId?: number; name: string; count: number };
-  const workloadTop: Workload[] = useMemo(() => {
-    const counter = new Map<string, Workload>();
-    tasks.forEach(t => {
-      const assignees: any[] = (t as any).assignees || (t as any).assignedUsers || [];
-      if (!Array.isArray(assignees) || assignees.length === 0) {
-        const key = "__unassigned";
-        const cur = counter.get(key) || { key, name: "Unassigned", count: 0 };
-        cur.count += 1;
-        counter.set(key, cur);
-      } else {
-        assignees.forEach((u: any) => {
-          const key = String(u.id ?? u.email ?? u.name ?? Math.random());
-          const full = [u.name, u.surname].filter(Boolean).join(" ") || u.email || "(user)";
-          const cur = counter.get(key) || { key, userId: u.id, name: full, count: 0 };
-          cur.count += 1;
-          counter.set(key, cur);
-        });
-      }
-    });
-    return Array.from(counter.values()).sort((a, b) => b.count - a.count).slice(0, 6);
-  }, [tasks]);
+  const recent = summary?.recent ?? [];
+  const recentIn = (name: string) => recent.filter(t => t.statusId === statusIdOf(name)).slice(0, 5);
+  const toDoTasks = recentIn("To Do");
+  const inProgressTasks = recentIn("In Progress");
+
+  // Workload by assignee (top 6, sunucuda sıralı)
+  const workloadTop = useMemo(
+    () => (summary?.byAssignee ?? []).map(a => ({ key: String(a.id ?? "__unassigned"), ...a })),
+    [summary]
+  );
 
   // Tasks by project (top 8)
-  const tasksByProject = useMemo(() => {
-    const m = new Map<string, number>();
-    tasks.forEach(t => {
-      const anyT = t as any;
-      const p = anyT.project?.name || anyT.projectName || anyT.projectId || "No Project";
-      m.set(p, (m.get(p) || 0) + 1);
-    });
-    return Array.from(m.entries())
-      .map(([name, count]) => ({ key: name, name, count }))
-      .sort((a, b) => b.count - a.count)
-      .slice(0, 8);
-  }, [tasks]);
+  const tasksByProject = useMemo(
+    () => (summary?.byProject ?? []).slice(0, 8).map(p => ({ key: String(p.id ?? p.name), ...p })),
+    [summary]
+  );
 
   // Priority × Status matrix
   const STATUSES = ["To Do", "In Progress", "Done"] as const;
@@ -109,7 +93,7 @@ export default function Dashboard() {
   const matrixData = PRIORITIES.map(p => {
     const row: any = { key: p, priority: p };
     STATUSES.forEach(s => {
-      row[s] = tasks.filter(t => t.priority?.name === p && t.status?.name === s).length;
+      row[s] = summary?.priorityStatus.find(c => c.priorityId === priorityIdOf(p) && c.statusId === statusIdOf(s))?.count ?? 0;
     });
     row.total = STATUSES.reduce((acc, s) => acc + row[s], 0);
     return row;
@@ -157,7 +141,7 @@ export default function Dashboard() {
   };
 
   // “Latest 5” – ID’ye göre proxyladık (date olmadığı için)
-  const latest = [...tasks].sort((a, b) => (b.id ?? 0) - (a.id ?? 0)).slice(0, 5);
+  const latest = [...recent].sort((a, b) => b.id - a.id).slice(0, 5);
 
   return (
     <div style={{ minHeight: "100vh", background: "#f8f9fa", padding: 0 }}>
@@ -248,7 +232,7 @@ export default function Dashboard() {
                       description={
                         <Progress
                           percent={
-                            tasks.length
+                            total
                               ? Math.round(
                                   (it.count / Math.max(...workloadTop.map(w => w.count))) * 100
                                 )
@@ -323,7 +307,7 @@ export default function Dashboard() {
                     key: "todo",
                     label: "To Do",
                     children: (
-                      <Table<Task>
+                      <Table<RecentTask>
                         loading={isLoading}
                         rowKey="id"
                         dataSource={toDoTasks.slice(0, 5)}
@@ -340,7 +324,7 @@ export default function Dashboard() {
                     key: "inprogress",
                     label: "In Progress",
                     children: (
-                      <Table<Task>
+                      <Table<RecentTask>
                         loading={isLoading}
                         rowKey="id"
                         dataSource={inProgressTasks.slice(0, 5)}
@@ -357,10 +341,10 @@ export default function Dashboard() {
                     key: "done",
                     label: "Done",
                     children: (
-                      <Table<Task>
+                      <Table<RecentTask>
                         loading={isLoading}
                         rowKey="id"
-                        dataSource={tasks.filter(t => t.status?.name === "Done").slice(0, 5)}
+                        dataSource={recentIn("Done")}
                         pagination={false}
                         size="small"
                         columns={[
@@ -387,7 +371,7 @@ export default function Dashboard() {
               style={{ borderRadius: 8, border: "1px solid #e5e7eb", boxShadow: "0 1px 3px rgba(0,0,0,0.1)" }}
               headStyle={{ background: "#f8f9fa", borderBottom: "1px solid #e5e7eb" }}
             >
-              <Table<Task>
+              <Table<RecentTask>
                 loading={isLoading}
                 rowKey="id"
                 dataSource={latest}
@@ -409,12 +393,12 @@ export default function Dashboard() {
                   },
                   {
                     title: <Text strong style={{ color: "#374151" }}>Status</Text>,
-                    render: (_, r) => r.status?.name ? getStatusTag(r.status.name) : <Text style={{ color: "#9ca3af" }}>-</Text>,
+                    render: (_, r) => r.statusId != null && statusName.has(r.statusId) ? getStatusTag(statusName.get(r.statusId)!) : <Text style={{ color: "#9ca3af" }}>-</Text>,
                     width: 130,
                   },
                   {
                     title: <Text strong style={{ color: "#374151" }}>Priority</Text>,
-                    render: (_, r) => r.priority?.name ? getPriorityTag(r.priority.name) : <Text style={{ color: "#9ca3af" }}>-</Text>,
+                    render: (_, r) => r.priorityId != null && priorityName.has(r.priorityId) ? getPriorityTag(priorityName.get(r.priorityId)!) : <Text style={{ color: "#9ca3af" }}>-</Text>,
                     width: 120,
                   },
                 ]}
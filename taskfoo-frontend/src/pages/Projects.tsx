@@ -5,6 +5,7 @@ import { Table, Typography, Alert, Space, Button, Popconfirm, App, Tag, Progress
 import { DeleteOutlined, EyeOutlined, ProjectOutlined } from "@ant-design/icons";
 import { useNavigate } from "react-router-dom";
 import api from "../api/client";
+import { waitForJob } from "../api/jobs";
 import PageHeader from "../components/PageHeader";
 import { listEpics } from "../api/epics";
 import { listUsers } from "../api/users";
@@ -101,7 +102,8 @@ export default function Projects() {
   const del = useMutation({
     mutationFn: async (id: number) => {
       const res = await api.delete(`/api/projects/${id}`);
-      return res.data;
+      // 202: cascade delete arka planda çalışır
+      return res.data?.id ? waitForJob(res.data.id) : res.data;
     },
     onSuccess: () => {
       qc.invalidateQueries({ queryKey: ["projects"] });
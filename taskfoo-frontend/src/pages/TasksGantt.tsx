@@ -8,6 +8,7 @@ import type { Epic, Project, Status, Priority } from "../types";
 import { assignUsers } from "../api/tasks";
 import type { TaskListItemResponse, UserBrief } from "../api/tasks";
 import { listEpics } from "../api/epics";
+import { getGanttWindow } from "../api/gantt";
 import dayjs, { Dayjs } from "dayjs";
 import { SyncOutlined, MoreOutlined, EditOutlined, UserAddOutlined, DeleteOutlined } from "@ant-design/icons";
 
@@ -969,11 +970,6 @@ const groupedTasks = useMemo(() => {
 export default function TasksGantt() {
   const qc = useQueryClient();
 
-  const { data: tasks = [] } = useQuery<TaskListItemResponse[]>({
-    queryKey: ["tasks"],
-    queryFn: async () => (await api.get<TaskListItemResponse[]>("/api/tasks")).data,
-  });
-
   const { data: projects = [] } = useQuery<Project[]>({
     queryKey: ["projects"],
     queryFn: async () => (await api.get<Project[]>("/api/projects")).data,
@@ -987,6 +983,15 @@ export default function TasksGantt() {
   const [projectId, setProjectId] = useState<number | undefined>();
   const [epicId, setEpicId] = useState<number | undefined>();
   const [range, setRange] = useState<[Dayjs, Dayjs] | undefined>();
+
+  // Sunucudan sadece görünen pencere (seçili aralık, yoksa geçen aydan 2 ay sonrasına)
+  const windowFrom = (range?.[0] ?? dayjs().subtract(1, "month").startOf("month")).format("YYYY-MM-DD");
+  const windowTo = (range?.[1] ?? dayjs().add(2, "month").endOf("month")).format("YYYY-MM-DD");
+  const { data: tasks = [] } = useQuery<TaskListItemResponse[]>({
+    queryKey: ["tasks", "gantt", projectId ?? null, windowFrom, windowTo],
+    queryFn: async () =>
+      (await getGanttWindow({ projectId, from: windowFrom, to: windowTo })).epics.flatMap(g => g.tasks),
+  });
   // Additional filters
   const [statusIds, setStatusIds] = useState<number[]>([]);
   const [priorityNames, setPriorityNames] = useState<string[]>([]);